@@ -0,0 +1,185 @@
+package project;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import project.utils.parser.ASTNode;
+
+/**
+ * Lexes and parses many source files at once on a ForkJoinPool. Every file gets its own
+ * Lexer, SymbolTable and Parser; the parsers share the immutable GrammarTables, which
+ * are loaded once by whichever parser is created first. What the parser and symbol table
+ * print is kept in the file's Result rather than written to System.out, so files parsed
+ * at the same time do not mix their output or wait on each other to print it.
+ *
+ * To check every .up file under a directory:
+ *     java project.BatchParser [directory] [threads]
+ */
+public class BatchParser {
+
+    public static final String SOURCE_EXTENSION = ".up";
+
+    private final ForkJoinPool pool;
+    private Parser.TreeMode treeMode = Parser.TreeMode.AST;
+
+    /**
+     * @param pool The pool the files are lexed and parsed on
+     */
+    public BatchParser(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Chooses what the parsers build, the AST by default. In PARSE_TREE and ARENA mode
+     * the results still hold the AST, converted from the parse tree.
+     */
+    public void setTreeMode(Parser.TreeMode treeMode) {
+        this.treeMode = treeMode;
+    }
+
+    /**
+     * What parsing one file found.
+     */
+    public static final class Result {
+        private final Path file;
+        private final boolean accepted;
+        private final List<String> errors;
+        private final ASTNode ast;
+        private final String output;
+        private final Exception failure;
+
+        Result(Path file, boolean accepted, List<String> errors, ASTNode ast, String output, Exception failure) {
+            this.file = file;
+            this.accepted = accepted;
+            this.errors = errors;
+            this.ast = ast;
+            this.output = output;
+            this.failure = failure;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        /// True if the file parsed without syntax errors.
+        public boolean isValid() {
+            return accepted && errors.isEmpty() && failure == null;
+        }
+
+        /// True if the parser reached the end of the program, possibly after recovering from errors.
+        public boolean isAccepted() {
+            return accepted;
+        }
+
+        /// The syntax errors, as in Parser.getErrors().
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        /// The AST of a valid file, otherwise null.
+        public ASTNode getAST() {
+            return ast;
+        }
+
+        /// Everything the parser and the lexer's symbol table printed for the file.
+        public String getOutput() {
+            return output;
+        }
+
+        /// The exception that stopped the file from being read or parsed, or null.
+        public Exception getFailure() {
+            return failure;
+        }
+    }
+
+    /**
+     * Parses every .up file under a directory, including its subdirectories.
+     *
+     * @return The results, in the order of the files' paths
+     * @throws IOException If the directory cannot be listed
+     */
+    public List<Result> parseDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(path -> Files.isRegularFile(path) && path.toString().endsWith(SOURCE_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        return parseFiles(files);
+    }
+
+    /**
+     * Parses the given files in parallel and waits for all of them.
+     *
+     * @return The results, in the order of the files
+     */
+    public List<Result> parseFiles(List<Path> files) {
+        List<ForkJoinTask<Result>> tasks = new ArrayList<>(files.size());
+        for (Path file : files) {
+            tasks.add(pool.submit(() -> parseFile(file)));
+        }
+        List<Result> results = new ArrayList<>(files.size());
+        for (ForkJoinTask<Result> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    // Lexes and parses one file with a parser of its own
+    private Result parseFile(Path file) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        try {
+            SymbolTable symbolTable = new SymbolTable();
+            symbolTable.setOutput(out);
+            Lexer lexer = new Lexer(file.toString(), symbolTable);
+            lexer.setOutput(out);
+            Parser parser = new Parser(lexer);
+            parser.setOutput(out);
+            parser.setTreeMode(treeMode);
+            parser.parse();
+            List<String> errors = List.copyOf(parser.getErrors());
+            boolean valid = parser.isAccepted() && errors.isEmpty();
+            return new Result(file, parser.isAccepted(), errors, valid ? parser.getAST() : null,
+                    output.toString(StandardCharsets.UTF_8), null);
+        } catch (IOException | RuntimeException e) {
+            return new Result(file, false, List.of(), null, output.toString(StandardCharsets.UTF_8), e);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "TestFiles");
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Result> results = new BatchParser(pool).parseDirectory(directory);
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+            int valid = 0;
+            for (Result result : results) {
+                if (result.isValid()) {
+                    valid++;
+                } else if (result.getFailure() != null) {
+                    System.out.println(result.getFile() + ": " + result.getFailure());
+                } else {
+                    System.out.println(result.getFile() + ": " + result.getErrors().size() + " syntax error(s)");
+                }
+            }
+            System.out.println("Parsed " + results.size() + " files in " + elapsed + " ms on " + threads
+                    + " threads: " + valid + " valid, " + (results.size() - valid) + " with errors");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
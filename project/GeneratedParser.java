@@ -0,0 +1,9558 @@
+// Generated by project.RecursiveAscentGenerator from GrammarProgrammer/expanded.txt. Do not edit.
+package project;
+
+/**
+ * A recursive-ascent parser for GrammarProgrammer/expanded.txt, one method per LALR(1) state.
+ * Each method returns how many more states a reduction pops, or ACCEPTED or REJECTED.
+ * See RecursiveAscentGenerator.
+ */
+final class GeneratedParser {
+
+    // SHA-256 of the grammar text, and the terminal order, the code was generated for
+    static final String GRAMMAR_HASH = "0207fee79ab5b0b96bff2cca460a8b62b1a68c66db5073f7d2e68c2cd852cf0d";
+    static final String TERMINALS = "START END IF OTHERWISE FOR REPEAT UNTIL CONTINUE STOP METHOD OUTPUT GET SHOW CHOOSE_WHAT CONVERT_TO NUMBER_TYPE DECIMAL_TYPE TEXT_TYPE BINARY_TYPE LIST_TYPE PAIR_MAP_TYPE PICK TRUE FALSE NONE LEN SORT KEY VALUE TO_TEXT IDENTIFIER NUMBER DECIMAL TEXT ASSIGN PLUS MINUS MULT DIV EXPONENT MOD FLOOR_DIV PLUS_ASSIGN MINUS_ASSIGN MULT_ASSIGN AND OR NOT EQ NEQ LT GT LEQ GEQ BITWISE_AND BITWISE_OR BITWISE_XOR BITWISE_NOT LSHIFT RSHIFT S_NOT QUOTE LPAREN RPAREN LCURLY RCURLY LBRACKET RBRACKET COMMA SEMI COLON DOT MCOMMENT SCOMMENT EOF ERROR REMOVE ADD CONTAINS CLEAR KEYS VALUES";
+
+    static final int ACCEPTED = -1;
+    static final int REJECTED = -2;
+
+    /// What the parser does on each move; the rules and nonterminals are numbered as in the tables.
+    interface Actions {
+        /// Shifts the lookahead and returns the TokenType ordinal of the next token.
+        int shift();
+
+        void reduce(int rule);
+    }
+
+    private final Actions actions;
+    private int token; // TokenType ordinal of the lookahead
+    private int lhs; // nonterminal column of the last reduction
+
+    GeneratedParser(Actions actions, int token) {
+        this.actions = actions;
+        this.token = token;
+    }
+
+    /// Parses from the start state and returns ACCEPTED, or REJECTED at a syntax error.
+    int parse() {
+        return s0();
+    }
+
+    private int s0() {
+        int r;
+        switch (token) {
+            case 0: // START
+                token = actions.shift();
+                r = s2();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 1: // <PROGRAM>
+                    r = s1();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s1() {
+        switch (token) {
+            case 74: // EOF
+                return ACCEPTED;
+            default:
+                return REJECTED;
+        }
+    }
+
+    private int s2() {
+        int r;
+        switch (token) {
+            case 2: // IF
+                token = actions.shift();
+                r = s12();
+                break;
+            case 4: // FOR
+                token = actions.shift();
+                r = s19();
+                break;
+            case 5: // REPEAT
+                token = actions.shift();
+                r = s24();
+                break;
+            case 7: // CONTINUE
+                token = actions.shift();
+                r = s43();
+                break;
+            case 8: // STOP
+                token = actions.shift();
+                r = s18();
+                break;
+            case 9: // METHOD
+                token = actions.shift();
+                r = s22();
+                break;
+            case 10: // OUTPUT
+                token = actions.shift();
+                r = s17();
+                break;
+            case 11: // GET
+                token = actions.shift();
+                r = s21();
+                break;
+            case 12: // SHOW
+                token = actions.shift();
+                r = s32();
+                break;
+            case 13: // CHOOSE_WHAT
+                token = actions.shift();
+                r = s3();
+                break;
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 19: // LIST_TYPE
+                token = actions.shift();
+                r = s35();
+                break;
+            case 20: // PAIR_MAP_TYPE
+                token = actions.shift();
+                r = s39();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s31();
+                break;
+            default:
+                actions.reduce(3);
+                lhs = 2;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 2: // <PROGRAM_KLEENE>
+                    r = s45();
+                    break;
+                case 3: // <STMT>
+                    r = s14();
+                    break;
+                case 4: // <SIMPLE_STMT>
+                    r = s34();
+                    break;
+                case 5: // <COMPOUND_STMT>
+                    r = s29();
+                    break;
+                case 21: // <DECL_STMT>
+                    r = s46();
+                    break;
+                case 22: // <IO_STATEMENT>
+                    r = s42();
+                    break;
+                case 23: // <OUTPUT_STMT>
+                    r = s38();
+                    break;
+                case 24: // <INPUT_STMT>
+                    r = s16();
+                    break;
+                case 26: // <ASSIGNMENT_STMT>
+                    r = s49();
+                    break;
+                case 27: // <RETURN_STMT>
+                    r = s26();
+                    break;
+                case 28: // <CONTINUE_STMT>
+                    r = s13();
+                    break;
+                case 29: // <STOP_STMT>
+                    r = s9();
+                    break;
+                case 30: // <CONDITIONAL_STMT>
+                    r = s4();
+                    break;
+                case 34: // <LOOP_STMT>
+                    r = s11();
+                    break;
+                case 35: // <FOR_LOOP>
+                    r = s27();
+                    break;
+                case 36: // <REPEAT_LOOP>
+                    r = s50();
+                    break;
+                case 37: // <REPEAT_UNTIL>
+                    r = s37();
+                    break;
+                case 38: // <FUNC_DECL>
+                    r = s41();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s6();
+                    break;
+                case 46: // <CHOOSE_WHAT_STMT>
+                    r = s47();
+                    break;
+                case 49: // <COLLECTION_STMT>
+                    r = s8();
+                    break;
+                case 50: // <LIST_DECL>
+                    r = s33();
+                    break;
+                case 54: // <PAIR_MAP_DECL>
+                    r = s44();
+                    break;
+                case 58: // <COLLECTION_ASSIGN>
+                    r = s15();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s23();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s48();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s7();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s3() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s51();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s4() {
+        switch (token) {
+            default:
+                actions.reduce(15);
+                lhs = 5;
+                return 0;
+        }
+    }
+
+    private int s5() {
+        switch (token) {
+            default:
+                actions.reduce(129);
+                lhs = 64;
+                return 0;
+        }
+    }
+
+    private int s6() {
+        switch (token) {
+            default:
+                actions.reduce(13);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s7() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s52();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s8() {
+        switch (token) {
+            default:
+                actions.reduce(9);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s9() {
+        switch (token) {
+            default:
+                actions.reduce(11);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s10() {
+        switch (token) {
+            default:
+                actions.reduce(130);
+                lhs = 64;
+                return 0;
+        }
+    }
+
+    private int s11() {
+        switch (token) {
+            default:
+                actions.reduce(16);
+                lhs = 5;
+                return 0;
+        }
+    }
+
+    private int s12() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s53();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s13() {
+        switch (token) {
+            default:
+                actions.reduce(12);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s14() {
+        int r;
+        switch (token) {
+            case 2: // IF
+                token = actions.shift();
+                r = s12();
+                break;
+            case 4: // FOR
+                token = actions.shift();
+                r = s19();
+                break;
+            case 5: // REPEAT
+                token = actions.shift();
+                r = s24();
+                break;
+            case 7: // CONTINUE
+                token = actions.shift();
+                r = s43();
+                break;
+            case 8: // STOP
+                token = actions.shift();
+                r = s18();
+                break;
+            case 9: // METHOD
+                token = actions.shift();
+                r = s22();
+                break;
+            case 10: // OUTPUT
+                token = actions.shift();
+                r = s17();
+                break;
+            case 11: // GET
+                token = actions.shift();
+                r = s21();
+                break;
+            case 12: // SHOW
+                token = actions.shift();
+                r = s32();
+                break;
+            case 13: // CHOOSE_WHAT
+                token = actions.shift();
+                r = s3();
+                break;
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 19: // LIST_TYPE
+                token = actions.shift();
+                r = s35();
+                break;
+            case 20: // PAIR_MAP_TYPE
+                token = actions.shift();
+                r = s39();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s31();
+                break;
+            default:
+                actions.reduce(3);
+                lhs = 2;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 2: // <PROGRAM_KLEENE>
+                    r = s54();
+                    break;
+                case 3: // <STMT>
+                    r = s14();
+                    break;
+                case 4: // <SIMPLE_STMT>
+                    r = s34();
+                    break;
+                case 5: // <COMPOUND_STMT>
+                    r = s29();
+                    break;
+                case 21: // <DECL_STMT>
+                    r = s46();
+                    break;
+                case 22: // <IO_STATEMENT>
+                    r = s42();
+                    break;
+                case 23: // <OUTPUT_STMT>
+                    r = s38();
+                    break;
+                case 24: // <INPUT_STMT>
+                    r = s16();
+                    break;
+                case 26: // <ASSIGNMENT_STMT>
+                    r = s49();
+                    break;
+                case 27: // <RETURN_STMT>
+                    r = s26();
+                    break;
+                case 28: // <CONTINUE_STMT>
+                    r = s13();
+                    break;
+                case 29: // <STOP_STMT>
+                    r = s9();
+                    break;
+                case 30: // <CONDITIONAL_STMT>
+                    r = s4();
+                    break;
+                case 34: // <LOOP_STMT>
+                    r = s11();
+                    break;
+                case 35: // <FOR_LOOP>
+                    r = s27();
+                    break;
+                case 36: // <REPEAT_LOOP>
+                    r = s50();
+                    break;
+                case 37: // <REPEAT_UNTIL>
+                    r = s37();
+                    break;
+                case 38: // <FUNC_DECL>
+                    r = s41();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s6();
+                    break;
+                case 46: // <CHOOSE_WHAT_STMT>
+                    r = s47();
+                    break;
+                case 49: // <COLLECTION_STMT>
+                    r = s8();
+                    break;
+                case 50: // <LIST_DECL>
+                    r = s33();
+                    break;
+                case 54: // <PAIR_MAP_DECL>
+                    r = s44();
+                    break;
+                case 58: // <COLLECTION_ASSIGN>
+                    r = s15();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s23();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s48();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s7();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s15() {
+        switch (token) {
+            default:
+                actions.reduce(98);
+                lhs = 49;
+                return 0;
+        }
+    }
+
+    private int s16() {
+        switch (token) {
+            default:
+                actions.reduce(59);
+                lhs = 22;
+                return 0;
+        }
+    }
+
+    private int s17() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s57();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s18() {
+        switch (token) {
+            default:
+                actions.reduce(67);
+                lhs = 29;
+                return 0;
+        }
+    }
+
+    private int s19() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s86();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s20() {
+        switch (token) {
+            default:
+                actions.reduce(113);
+                lhs = 59;
+                return 0;
+        }
+    }
+
+    private int s21() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 64: // <DATA_TYPE>
+                    r = s87();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s22() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s88();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s23() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s91();
+                break;
+            case 42: // PLUS_ASSIGN
+                token = actions.shift();
+                r = s89();
+                break;
+            case 43: // MINUS_ASSIGN
+                token = actions.shift();
+                r = s90();
+                break;
+            case 44: // MULT_ASSIGN
+                token = actions.shift();
+                r = s92();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 69: // <ASSIGN_OP>
+                    r = s93();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s24() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s95();
+                break;
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s94();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s25() {
+        switch (token) {
+            default:
+                actions.reduce(112);
+                lhs = 59;
+                return 0;
+        }
+    }
+
+    private int s26() {
+        switch (token) {
+            default:
+                actions.reduce(7);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s27() {
+        switch (token) {
+            default:
+                actions.reduce(74);
+                lhs = 34;
+                return 0;
+        }
+    }
+
+    private int s28() {
+        switch (token) {
+            default:
+                actions.reduce(126);
+                lhs = 64;
+                return 0;
+        }
+    }
+
+    private int s29() {
+        switch (token) {
+            default:
+                actions.reduce(5);
+                lhs = 3;
+                return 0;
+        }
+    }
+
+    private int s30() {
+        switch (token) {
+            default:
+                actions.reduce(128);
+                lhs = 64;
+                return 0;
+        }
+    }
+
+    private int s31() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s91();
+                break;
+            case 42: // PLUS_ASSIGN
+                token = actions.shift();
+                r = s89();
+                break;
+            case 43: // MINUS_ASSIGN
+                token = actions.shift();
+                r = s90();
+                break;
+            case 44: // MULT_ASSIGN
+                token = actions.shift();
+                r = s92();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s98();
+                break;
+            case 66: // LBRACKET
+                token = actions.shift();
+                r = s99();
+                break;
+            case 71: // DOT
+                token = actions.shift();
+                r = s97();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 69: // <ASSIGN_OP>
+                    r = s100();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s32() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s101();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s33() {
+        switch (token) {
+            default:
+                actions.reduce(96);
+                lhs = 49;
+                return 0;
+        }
+    }
+
+    private int s34() {
+        int r;
+        switch (token) {
+            case 69: // SEMI
+                token = actions.shift();
+                r = s102();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s35() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 64: // <DATA_TYPE>
+                    r = s103();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s36() {
+        switch (token) {
+            default:
+                actions.reduce(127);
+                lhs = 64;
+                return 0;
+        }
+    }
+
+    private int s37() {
+        switch (token) {
+            default:
+                actions.reduce(76);
+                lhs = 34;
+                return 0;
+        }
+    }
+
+    private int s38() {
+        switch (token) {
+            default:
+                actions.reduce(58);
+                lhs = 22;
+                return 0;
+        }
+    }
+
+    private int s39() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s104();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s40() {
+        switch (token) {
+            default:
+                actions.reduce(111);
+                lhs = 59;
+                return 0;
+        }
+    }
+
+    private int s41() {
+        switch (token) {
+            default:
+                actions.reduce(17);
+                lhs = 5;
+                return 0;
+        }
+    }
+
+    private int s42() {
+        switch (token) {
+            default:
+                actions.reduce(8);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s43() {
+        switch (token) {
+            default:
+                actions.reduce(66);
+                lhs = 28;
+                return 0;
+        }
+    }
+
+    private int s44() {
+        switch (token) {
+            default:
+                actions.reduce(97);
+                lhs = 49;
+                return 0;
+        }
+    }
+
+    private int s45() {
+        int r;
+        switch (token) {
+            case 1: // END
+                token = actions.shift();
+                r = s105();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s46() {
+        switch (token) {
+            default:
+                actions.reduce(10);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s47() {
+        switch (token) {
+            default:
+                actions.reduce(18);
+                lhs = 5;
+                return 0;
+        }
+    }
+
+    private int s48() {
+        switch (token) {
+            default:
+                actions.reduce(14);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s49() {
+        switch (token) {
+            default:
+                actions.reduce(6);
+                lhs = 4;
+                return 0;
+        }
+    }
+
+    private int s50() {
+        switch (token) {
+            default:
+                actions.reduce(75);
+                lhs = 34;
+                return 0;
+        }
+    }
+
+    private int s51() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s106();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s52() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s91();
+                break;
+            case 42: // PLUS_ASSIGN
+                token = actions.shift();
+                r = s89();
+                break;
+            case 43: // MINUS_ASSIGN
+                token = actions.shift();
+                r = s90();
+                break;
+            case 44: // MULT_ASSIGN
+                token = actions.shift();
+                r = s92();
+                break;
+            default:
+                actions.reduce(57);
+                lhs = 21;
+                return 1;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 69: // <ASSIGN_OP>
+                    r = s107();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s53() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s108();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s54() {
+        switch (token) {
+            default:
+                actions.reduce(2);
+                lhs = 2;
+                return 1;
+        }
+    }
+
+    private int s55() {
+        int r;
+        switch (token) {
+            case 45: // AND
+                token = actions.shift();
+                r = s109();
+                break;
+            default:
+                actions.reduce(25);
+                lhs = 8;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s56() {
+        int r;
+        switch (token) {
+            case 35: // PLUS
+                token = actions.shift();
+                r = s111();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s112();
+                break;
+            default:
+                actions.reduce(42);
+                lhs = 16;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 66: // <ADD_OP>
+                    r = s110();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s57() {
+        switch (token) {
+            default:
+                actions.reduce(65);
+                lhs = 27;
+                return 1;
+        }
+    }
+
+    private int s58() {
+        int r;
+        switch (token) {
+            case 46: // OR
+                token = actions.shift();
+                r = s113();
+                break;
+            default:
+                actions.reduce(24);
+                lhs = 7;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s59() {
+        switch (token) {
+            default:
+                actions.reduce(27);
+                lhs = 9;
+                return 0;
+        }
+    }
+
+    private int s60() {
+        switch (token) {
+            default:
+                actions.reduce(20);
+                lhs = 6;
+                return 0;
+        }
+    }
+
+    private int s61() {
+        switch (token) {
+            default:
+                actions.reduce(21);
+                lhs = 6;
+                return 0;
+        }
+    }
+
+    private int s62() {
+        switch (token) {
+            default:
+                actions.reduce(39);
+                lhs = 15;
+                return 0;
+        }
+    }
+
+    private int s63() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 19: // <FACTOR>
+                    r = s114();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s64() {
+        switch (token) {
+            default:
+                actions.reduce(56);
+                lhs = 20;
+                return 0;
+        }
+    }
+
+    private int s65() {
+        int r;
+        switch (token) {
+            case 54: // BITWISE_AND
+                token = actions.shift();
+                r = s115();
+                break;
+            default:
+                actions.reduce(35);
+                lhs = 13;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s66() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s98();
+                break;
+            case 66: // LBRACKET
+                token = actions.shift();
+                r = s99();
+                break;
+            case 71: // DOT
+                token = actions.shift();
+                r = s116();
+                break;
+            default:
+                actions.reduce(50);
+                lhs = 20;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s67() {
+        switch (token) {
+            default:
+                actions.reduce(23);
+                lhs = 6;
+                return 0;
+        }
+    }
+
+    private int s68() {
+        switch (token) {
+            default:
+                actions.reduce(52);
+                lhs = 20;
+                return 0;
+        }
+    }
+
+    private int s69() {
+        switch (token) {
+            default:
+                actions.reduce(19);
+                lhs = 6;
+                return 0;
+        }
+    }
+
+    private int s70() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s117();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s71() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s118();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s72() {
+        switch (token) {
+            default:
+                actions.reduce(149);
+                lhs = 71;
+                return 0;
+        }
+    }
+
+    private int s73() {
+        int r;
+        switch (token) {
+            case 48: // EQ
+                token = actions.shift();
+                r = s123();
+                break;
+            case 49: // NEQ
+                token = actions.shift();
+                r = s122();
+                break;
+            case 50: // LT
+                token = actions.shift();
+                r = s120();
+                break;
+            case 51: // GT
+                token = actions.shift();
+                r = s124();
+                break;
+            case 52: // LEQ
+                token = actions.shift();
+                r = s121();
+                break;
+            case 53: // GEQ
+                token = actions.shift();
+                r = s119();
+                break;
+            default:
+                actions.reduce(29);
+                lhs = 10;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 65: // <RELATIONAL_OP>
+                    r = s125();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s74() {
+        switch (token) {
+            default:
+                actions.reduce(53);
+                lhs = 20;
+                return 0;
+        }
+    }
+
+    private int s75() {
+        switch (token) {
+            default:
+                actions.reduce(45);
+                lhs = 18;
+                return 0;
+        }
+    }
+
+    private int s76() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s126();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s77() {
+        int r;
+        switch (token) {
+            case 55: // BITWISE_OR
+                token = actions.shift();
+                r = s127();
+                break;
+            default:
+                actions.reduce(32);
+                lhs = 11;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s78() {
+        int r;
+        switch (token) {
+            case 56: // BITWISE_XOR
+                token = actions.shift();
+                r = s128();
+                break;
+            default:
+                actions.reduce(33);
+                lhs = 12;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s79() {
+        int r;
+        switch (token) {
+            case 39: // EXPONENT
+                token = actions.shift();
+                r = s129();
+                break;
+            default:
+                actions.reduce(47);
+                lhs = 19;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 68: // <EXP_OP>
+                    r = s130();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s80() {
+        int r;
+        switch (token) {
+            case 37: // MULT
+                token = actions.shift();
+                r = s133();
+                break;
+            case 38: // DIV
+                token = actions.shift();
+                r = s131();
+                break;
+            case 40: // MOD
+                token = actions.shift();
+                r = s132();
+                break;
+            default:
+                actions.reduce(43);
+                lhs = 17;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 67: // <MULTI_OP>
+                    r = s134();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s81() {
+        switch (token) {
+            default:
+                actions.reduce(55);
+                lhs = 20;
+                return 0;
+        }
+    }
+
+    private int s82() {
+        int r;
+        switch (token) {
+            case 58: // LSHIFT
+                token = actions.shift();
+                r = s137();
+                break;
+            case 59: // RSHIFT
+                token = actions.shift();
+                r = s135();
+                break;
+            default:
+                actions.reduce(37);
+                lhs = 14;
+                return 0;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 70: // <SHIFT_OP>
+                    r = s136();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s83() {
+        switch (token) {
+            default:
+                actions.reduce(54);
+                lhs = 20;
+                return 0;
+        }
+    }
+
+    private int s84() {
+        switch (token) {
+            default:
+                actions.reduce(150);
+                lhs = 71;
+                return 0;
+        }
+    }
+
+    private int s85() {
+        switch (token) {
+            default:
+                actions.reduce(22);
+                lhs = 6;
+                return 0;
+        }
+    }
+
+    private int s86() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s140();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 26: // <ASSIGNMENT_STMT>
+                    r = s139();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s138();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s87() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s141();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s88() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s142();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s89() {
+        switch (token) {
+            default:
+                actions.reduce(144);
+                lhs = 69;
+                return 0;
+        }
+    }
+
+    private int s90() {
+        switch (token) {
+            default:
+                actions.reduce(145);
+                lhs = 69;
+                return 0;
+        }
+    }
+
+    private int s91() {
+        switch (token) {
+            default:
+                actions.reduce(143);
+                lhs = 69;
+                return 0;
+        }
+    }
+
+    private int s92() {
+        switch (token) {
+            default:
+                actions.reduce(146);
+                lhs = 69;
+                return 0;
+        }
+    }
+
+    private int s93() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s143();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s94() {
+        int r;
+        switch (token) {
+            case 6: // UNTIL
+                token = actions.shift();
+                r = s144();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s95() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s145();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s96() {
+        int r;
+        switch (token) {
+            case 2: // IF
+                token = actions.shift();
+                r = s12();
+                break;
+            case 4: // FOR
+                token = actions.shift();
+                r = s19();
+                break;
+            case 5: // REPEAT
+                token = actions.shift();
+                r = s24();
+                break;
+            case 7: // CONTINUE
+                token = actions.shift();
+                r = s43();
+                break;
+            case 8: // STOP
+                token = actions.shift();
+                r = s18();
+                break;
+            case 9: // METHOD
+                token = actions.shift();
+                r = s22();
+                break;
+            case 10: // OUTPUT
+                token = actions.shift();
+                r = s17();
+                break;
+            case 11: // GET
+                token = actions.shift();
+                r = s21();
+                break;
+            case 12: // SHOW
+                token = actions.shift();
+                r = s32();
+                break;
+            case 13: // CHOOSE_WHAT
+                token = actions.shift();
+                r = s3();
+                break;
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 19: // LIST_TYPE
+                token = actions.shift();
+                r = s35();
+                break;
+            case 20: // PAIR_MAP_TYPE
+                token = actions.shift();
+                r = s39();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s31();
+                break;
+            default:
+                actions.reduce(73);
+                lhs = 33;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 3: // <STMT>
+                    r = s147();
+                    break;
+                case 4: // <SIMPLE_STMT>
+                    r = s34();
+                    break;
+                case 5: // <COMPOUND_STMT>
+                    r = s29();
+                    break;
+                case 21: // <DECL_STMT>
+                    r = s46();
+                    break;
+                case 22: // <IO_STATEMENT>
+                    r = s42();
+                    break;
+                case 23: // <OUTPUT_STMT>
+                    r = s38();
+                    break;
+                case 24: // <INPUT_STMT>
+                    r = s16();
+                    break;
+                case 26: // <ASSIGNMENT_STMT>
+                    r = s49();
+                    break;
+                case 27: // <RETURN_STMT>
+                    r = s26();
+                    break;
+                case 28: // <CONTINUE_STMT>
+                    r = s13();
+                    break;
+                case 29: // <STOP_STMT>
+                    r = s9();
+                    break;
+                case 30: // <CONDITIONAL_STMT>
+                    r = s4();
+                    break;
+                case 33: // <BLOCK_STMT_KLEENE>
+                    r = s146();
+                    break;
+                case 34: // <LOOP_STMT>
+                    r = s11();
+                    break;
+                case 35: // <FOR_LOOP>
+                    r = s27();
+                    break;
+                case 36: // <REPEAT_LOOP>
+                    r = s50();
+                    break;
+                case 37: // <REPEAT_UNTIL>
+                    r = s37();
+                    break;
+                case 38: // <FUNC_DECL>
+                    r = s41();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s6();
+                    break;
+                case 46: // <CHOOSE_WHAT_STMT>
+                    r = s47();
+                    break;
+                case 49: // <COLLECTION_STMT>
+                    r = s8();
+                    break;
+                case 50: // <LIST_DECL>
+                    r = s33();
+                    break;
+                case 54: // <PAIR_MAP_DECL>
+                    r = s44();
+                    break;
+                case 58: // <COLLECTION_ASSIGN>
+                    r = s15();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s23();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s48();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s7();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s97() {
+        int r;
+        switch (token) {
+            case 25: // LEN
+                token = actions.shift();
+                r = s149();
+                break;
+            case 26: // SORT
+                token = actions.shift();
+                r = s151();
+                break;
+            case 27: // KEY
+                token = actions.shift();
+                r = s158();
+                break;
+            case 28: // VALUE
+                token = actions.shift();
+                r = s154();
+                break;
+            case 29: // TO_TEXT
+                token = actions.shift();
+                r = s156();
+                break;
+            case 76: // REMOVE
+                token = actions.shift();
+                r = s152();
+                break;
+            case 77: // ADD
+                token = actions.shift();
+                r = s148();
+                break;
+            case 78: // CONTAINS
+                token = actions.shift();
+                r = s155();
+                break;
+            case 79: // CLEAR
+                token = actions.shift();
+                r = s157();
+                break;
+            case 80: // KEYS
+                token = actions.shift();
+                r = s150();
+                break;
+            case 81: // VALUES
+                token = actions.shift();
+                r = s153();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s98() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                actions.reduce(88);
+                lhs = 43;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s160();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 43: // <FUNC_CALL_OPT>
+                    r = s159();
+                    break;
+                case 44: // <ARG_LIST>
+                    r = s161();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s99() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s162();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s100() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s163();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s101() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s164();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s102() {
+        switch (token) {
+            default:
+                actions.reduce(4);
+                lhs = 3;
+                return 1;
+        }
+    }
+
+    private int s103() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s165();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s104() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 64: // <DATA_TYPE>
+                    r = s166();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s105() {
+        switch (token) {
+            default:
+                actions.reduce(1);
+                lhs = 1;
+                return 2;
+        }
+    }
+
+    private int s106() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s167();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s107() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s168();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s108() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s169();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s109() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s170();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s110() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 18: // <TERM>
+                    r = s171();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s111() {
+        switch (token) {
+            default:
+                actions.reduce(137);
+                lhs = 66;
+                return 0;
+        }
+    }
+
+    private int s112() {
+        switch (token) {
+            default:
+                actions.reduce(138);
+                lhs = 66;
+                return 0;
+        }
+    }
+
+    private int s113() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s172();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s114() {
+        switch (token) {
+            default:
+                actions.reduce(49);
+                lhs = 19;
+                return 1;
+        }
+    }
+
+    private int s115() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s173();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s116() {
+        int r;
+        switch (token) {
+            case 14: // CONVERT_TO
+                token = actions.shift();
+                r = s174();
+                break;
+            case 25: // LEN
+                token = actions.shift();
+                r = s149();
+                break;
+            case 26: // SORT
+                token = actions.shift();
+                r = s151();
+                break;
+            case 27: // KEY
+                token = actions.shift();
+                r = s158();
+                break;
+            case 28: // VALUE
+                token = actions.shift();
+                r = s154();
+                break;
+            case 29: // TO_TEXT
+                token = actions.shift();
+                r = s156();
+                break;
+            case 76: // REMOVE
+                token = actions.shift();
+                r = s152();
+                break;
+            case 77: // ADD
+                token = actions.shift();
+                r = s148();
+                break;
+            case 78: // CONTAINS
+                token = actions.shift();
+                r = s155();
+                break;
+            case 79: // CLEAR
+                token = actions.shift();
+                r = s157();
+                break;
+            case 80: // KEYS
+                token = actions.shift();
+                r = s150();
+                break;
+            case 81: // VALUES
+                token = actions.shift();
+                r = s153();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s117() {
+        switch (token) {
+            default:
+                actions.reduce(41);
+                lhs = 16;
+                return 1;
+        }
+    }
+
+    private int s118() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s175();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s119() {
+        switch (token) {
+            default:
+                actions.reduce(136);
+                lhs = 65;
+                return 0;
+        }
+    }
+
+    private int s120() {
+        switch (token) {
+            default:
+                actions.reduce(133);
+                lhs = 65;
+                return 0;
+        }
+    }
+
+    private int s121() {
+        switch (token) {
+            default:
+                actions.reduce(135);
+                lhs = 65;
+                return 0;
+        }
+    }
+
+    private int s122() {
+        switch (token) {
+            default:
+                actions.reduce(132);
+                lhs = 65;
+                return 0;
+        }
+    }
+
+    private int s123() {
+        switch (token) {
+            default:
+                actions.reduce(131);
+                lhs = 65;
+                return 0;
+        }
+    }
+
+    private int s124() {
+        switch (token) {
+            default:
+                actions.reduce(134);
+                lhs = 65;
+                return 0;
+        }
+    }
+
+    private int s125() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s176();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s126() {
+        switch (token) {
+            default:
+                actions.reduce(30);
+                lhs = 10;
+                return 1;
+        }
+    }
+
+    private int s127() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s177();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s128() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s178();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s129() {
+        switch (token) {
+            default:
+                actions.reduce(142);
+                lhs = 68;
+                return 0;
+        }
+    }
+
+    private int s130() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 19: // <FACTOR>
+                    r = s179();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s131() {
+        switch (token) {
+            default:
+                actions.reduce(140);
+                lhs = 67;
+                return 0;
+        }
+    }
+
+    private int s132() {
+        switch (token) {
+            default:
+                actions.reduce(141);
+                lhs = 67;
+                return 0;
+        }
+    }
+
+    private int s133() {
+        switch (token) {
+            default:
+                actions.reduce(139);
+                lhs = 67;
+                return 0;
+        }
+    }
+
+    private int s134() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 19: // <FACTOR>
+                    r = s180();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s135() {
+        switch (token) {
+            default:
+                actions.reduce(148);
+                lhs = 70;
+                return 0;
+        }
+    }
+
+    private int s136() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s181();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s137() {
+        switch (token) {
+            default:
+                actions.reduce(147);
+                lhs = 70;
+                return 0;
+        }
+    }
+
+    private int s138() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s182();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s139() {
+        int r;
+        switch (token) {
+            case 69: // SEMI
+                token = actions.shift();
+                r = s183();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s140() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s91();
+                break;
+            case 42: // PLUS_ASSIGN
+                token = actions.shift();
+                r = s89();
+                break;
+            case 43: // MINUS_ASSIGN
+                token = actions.shift();
+                r = s90();
+                break;
+            case 44: // MULT_ASSIGN
+                token = actions.shift();
+                r = s92();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 69: // <ASSIGN_OP>
+                    r = s100();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s141() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s184();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s142() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                actions.reduce(82);
+                lhs = 39;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 39: // <FUNC_DECL_OPT>
+                    r = s187();
+                    break;
+                case 40: // <PARAM_LIST>
+                    r = s186();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s185();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s143() {
+        switch (token) {
+            default:
+                actions.reduce(110);
+                lhs = 58;
+                return 2;
+        }
+    }
+
+    private int s144() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s188();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s145() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s189();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s146() {
+        int r;
+        switch (token) {
+            case 65: // RCURLY
+                token = actions.shift();
+                r = s190();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s147() {
+        int r;
+        switch (token) {
+            case 2: // IF
+                token = actions.shift();
+                r = s12();
+                break;
+            case 4: // FOR
+                token = actions.shift();
+                r = s19();
+                break;
+            case 5: // REPEAT
+                token = actions.shift();
+                r = s24();
+                break;
+            case 7: // CONTINUE
+                token = actions.shift();
+                r = s43();
+                break;
+            case 8: // STOP
+                token = actions.shift();
+                r = s18();
+                break;
+            case 9: // METHOD
+                token = actions.shift();
+                r = s22();
+                break;
+            case 10: // OUTPUT
+                token = actions.shift();
+                r = s17();
+                break;
+            case 11: // GET
+                token = actions.shift();
+                r = s21();
+                break;
+            case 12: // SHOW
+                token = actions.shift();
+                r = s32();
+                break;
+            case 13: // CHOOSE_WHAT
+                token = actions.shift();
+                r = s3();
+                break;
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 19: // LIST_TYPE
+                token = actions.shift();
+                r = s35();
+                break;
+            case 20: // PAIR_MAP_TYPE
+                token = actions.shift();
+                r = s39();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s31();
+                break;
+            default:
+                actions.reduce(73);
+                lhs = 33;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 3: // <STMT>
+                    r = s147();
+                    break;
+                case 4: // <SIMPLE_STMT>
+                    r = s34();
+                    break;
+                case 5: // <COMPOUND_STMT>
+                    r = s29();
+                    break;
+                case 21: // <DECL_STMT>
+                    r = s46();
+                    break;
+                case 22: // <IO_STATEMENT>
+                    r = s42();
+                    break;
+                case 23: // <OUTPUT_STMT>
+                    r = s38();
+                    break;
+                case 24: // <INPUT_STMT>
+                    r = s16();
+                    break;
+                case 26: // <ASSIGNMENT_STMT>
+                    r = s49();
+                    break;
+                case 27: // <RETURN_STMT>
+                    r = s26();
+                    break;
+                case 28: // <CONTINUE_STMT>
+                    r = s13();
+                    break;
+                case 29: // <STOP_STMT>
+                    r = s9();
+                    break;
+                case 30: // <CONDITIONAL_STMT>
+                    r = s4();
+                    break;
+                case 33: // <BLOCK_STMT_KLEENE>
+                    r = s191();
+                    break;
+                case 34: // <LOOP_STMT>
+                    r = s11();
+                    break;
+                case 35: // <FOR_LOOP>
+                    r = s27();
+                    break;
+                case 36: // <REPEAT_LOOP>
+                    r = s50();
+                    break;
+                case 37: // <REPEAT_UNTIL>
+                    r = s37();
+                    break;
+                case 38: // <FUNC_DECL>
+                    r = s41();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s6();
+                    break;
+                case 46: // <CHOOSE_WHAT_STMT>
+                    r = s47();
+                    break;
+                case 49: // <COLLECTION_STMT>
+                    r = s8();
+                    break;
+                case 50: // <LIST_DECL>
+                    r = s33();
+                    break;
+                case 54: // <PAIR_MAP_DECL>
+                    r = s44();
+                    break;
+                case 58: // <COLLECTION_ASSIGN>
+                    r = s15();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s23();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s48();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s7();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s148() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s192();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s149() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s193();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s150() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s194();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s151() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s195();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s152() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s196();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s153() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s197();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s154() {
+        int r;
+        switch (token) {
+            case 66: // LBRACKET
+                token = actions.shift();
+                r = s198();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s155() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s199();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s156() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s200();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s157() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s201();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s158() {
+        int r;
+        switch (token) {
+            case 66: // LBRACKET
+                token = actions.shift();
+                r = s202();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s159() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s203();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s160() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s204();
+                break;
+            default:
+                actions.reduce(91);
+                lhs = 45;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 45: // <ARG_LIST_GROUP>
+                    r = s205();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s161() {
+        switch (token) {
+            default:
+                actions.reduce(87);
+                lhs = 43;
+                return 0;
+        }
+    }
+
+    private int s162() {
+        int r;
+        switch (token) {
+            case 67: // RBRACKET
+                token = actions.shift();
+                r = s206();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s163() {
+        switch (token) {
+            default:
+                actions.reduce(64);
+                lhs = 26;
+                return 2;
+        }
+    }
+
+    private int s164() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s207();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s165() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s208();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s166() {
+        int r;
+        switch (token) {
+            case 70: // COLON
+                token = actions.shift();
+                r = s209();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s167() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s210();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s168() {
+        switch (token) {
+            default:
+                actions.reduce(63);
+                lhs = 26;
+                return 3;
+        }
+    }
+
+    private int s169() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s211();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s170() {
+        switch (token) {
+            default:
+                actions.reduce(28);
+                lhs = 9;
+                return 2;
+        }
+    }
+
+    private int s171() {
+        int r;
+        switch (token) {
+            case 37: // MULT
+                token = actions.shift();
+                r = s133();
+                break;
+            case 38: // DIV
+                token = actions.shift();
+                r = s131();
+                break;
+            case 40: // MOD
+                token = actions.shift();
+                r = s132();
+                break;
+            default:
+                actions.reduce(44);
+                lhs = 17;
+                return 2;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 67: // <MULTI_OP>
+                    r = s134();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s172() {
+        int r;
+        switch (token) {
+            case 45: // AND
+                token = actions.shift();
+                r = s109();
+                break;
+            default:
+                actions.reduce(26);
+                lhs = 8;
+                return 2;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s173() {
+        int r;
+        switch (token) {
+            case 58: // LSHIFT
+                token = actions.shift();
+                r = s137();
+                break;
+            case 59: // RSHIFT
+                token = actions.shift();
+                r = s135();
+                break;
+            default:
+                actions.reduce(38);
+                lhs = 14;
+                return 2;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 70: // <SHIFT_OP>
+                    r = s136();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s174() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s212();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s175() {
+        switch (token) {
+            default:
+                actions.reduce(51);
+                lhs = 20;
+                return 2;
+        }
+    }
+
+    private int s176() {
+        int r;
+        switch (token) {
+            case 55: // BITWISE_OR
+                token = actions.shift();
+                r = s127();
+                break;
+            default:
+                actions.reduce(31);
+                lhs = 11;
+                return 2;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s177() {
+        int r;
+        switch (token) {
+            case 56: // BITWISE_XOR
+                token = actions.shift();
+                r = s128();
+                break;
+            default:
+                actions.reduce(34);
+                lhs = 12;
+                return 2;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s178() {
+        int r;
+        switch (token) {
+            case 54: // BITWISE_AND
+                token = actions.shift();
+                r = s115();
+                break;
+            default:
+                actions.reduce(36);
+                lhs = 13;
+                return 2;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s179() {
+        switch (token) {
+            default:
+                actions.reduce(48);
+                lhs = 19;
+                return 2;
+        }
+    }
+
+    private int s180() {
+        switch (token) {
+            default:
+                actions.reduce(46);
+                lhs = 18;
+                return 2;
+        }
+    }
+
+    private int s181() {
+        switch (token) {
+            default:
+                actions.reduce(40);
+                lhs = 15;
+                return 2;
+        }
+    }
+
+    private int s182() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s91();
+                break;
+            case 42: // PLUS_ASSIGN
+                token = actions.shift();
+                r = s89();
+                break;
+            case 43: // MINUS_ASSIGN
+                token = actions.shift();
+                r = s90();
+                break;
+            case 44: // MULT_ASSIGN
+                token = actions.shift();
+                r = s92();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 69: // <ASSIGN_OP>
+                    r = s107();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s183() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s213();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s184() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s214();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s185() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s215();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s186() {
+        switch (token) {
+            default:
+                actions.reduce(81);
+                lhs = 39;
+                return 0;
+        }
+    }
+
+    private int s187() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s216();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s188() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s217();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s189() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s218();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s190() {
+        switch (token) {
+            default:
+                actions.reduce(71);
+                lhs = 32;
+                return 2;
+        }
+    }
+
+    private int s191() {
+        switch (token) {
+            default:
+                actions.reduce(72);
+                lhs = 33;
+                return 1;
+        }
+    }
+
+    private int s192() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s219();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s193() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s220();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s194() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s221();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s195() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s222();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s196() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s223();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s197() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s224();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s198() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s225();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s199() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s226();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s200() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s227();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s201() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s228();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s202() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s229();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s203() {
+        switch (token) {
+            default:
+                actions.reduce(86);
+                lhs = 42;
+                return 3;
+        }
+    }
+
+    private int s204() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s230();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s205() {
+        switch (token) {
+            default:
+                actions.reduce(89);
+                lhs = 44;
+                return 1;
+        }
+    }
+
+    private int s206() {
+        switch (token) {
+            default:
+                actions.reduce(114);
+                lhs = 60;
+                return 3;
+        }
+    }
+
+    private int s207() {
+        switch (token) {
+            default:
+                actions.reduce(60);
+                lhs = 23;
+                return 3;
+        }
+    }
+
+    private int s208() {
+        int r;
+        switch (token) {
+            case 66: // LBRACKET
+                token = actions.shift();
+                r = s231();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s209() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 64: // <DATA_TYPE>
+                    r = s232();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s210() {
+        int r;
+        switch (token) {
+            case 21: // PICK
+                token = actions.shift();
+                r = s234();
+                break;
+            default:
+                actions.reduce(94);
+                lhs = 47;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 47: // <CHOOSE_WHAT_STMT_KLEENE>
+                    r = s235();
+                    break;
+                case 48: // <PICK_CASE>
+                    r = s233();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s211() {
+        int r;
+        switch (token) {
+            case 3: // OTHERWISE
+                token = actions.shift();
+                r = s237();
+                break;
+            default:
+                actions.reduce(70);
+                lhs = 31;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 31: // <CONDITIONAL_STMT_GROUP>
+                    r = s236();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s212() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 64: // <DATA_TYPE>
+                    r = s238();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s213() {
+        int r;
+        switch (token) {
+            case 69: // SEMI
+                token = actions.shift();
+                r = s239();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s214() {
+        switch (token) {
+            default:
+                actions.reduce(61);
+                lhs = 24;
+                return 4;
+        }
+    }
+
+    private int s215() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s240();
+                break;
+            default:
+                actions.reduce(85);
+                lhs = 41;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 41: // <PARAM_LIST_GROUP>
+                    r = s241();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s216() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s242();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s217() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s243();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s218() {
+        switch (token) {
+            default:
+                actions.reduce(78);
+                lhs = 36;
+                return 4;
+        }
+    }
+
+    private int s219() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s244();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s220() {
+        switch (token) {
+            default:
+                actions.reduce(118);
+                lhs = 63;
+                return 4;
+        }
+    }
+
+    private int s221() {
+        switch (token) {
+            default:
+                actions.reduce(124);
+                lhs = 63;
+                return 4;
+        }
+    }
+
+    private int s222() {
+        switch (token) {
+            default:
+                actions.reduce(119);
+                lhs = 63;
+                return 4;
+        }
+    }
+
+    private int s223() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s245();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s224() {
+        switch (token) {
+            default:
+                actions.reduce(125);
+                lhs = 63;
+                return 4;
+        }
+    }
+
+    private int s225() {
+        int r;
+        switch (token) {
+            case 67: // RBRACKET
+                token = actions.shift();
+                r = s246();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s226() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s247();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s227() {
+        switch (token) {
+            default:
+                actions.reduce(117);
+                lhs = 63;
+                return 4;
+        }
+    }
+
+    private int s228() {
+        switch (token) {
+            default:
+                actions.reduce(123);
+                lhs = 63;
+                return 4;
+        }
+    }
+
+    private int s229() {
+        int r;
+        switch (token) {
+            case 67: // RBRACKET
+                token = actions.shift();
+                r = s248();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s230() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s204();
+                break;
+            default:
+                actions.reduce(91);
+                lhs = 45;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 45: // <ARG_LIST_GROUP>
+                    r = s249();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s231() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                actions.reduce(101);
+                lhs = 51;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s251();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 51: // <LIST_ELEMENTS_OPT>
+                    r = s250();
+                    break;
+                case 52: // <LIST_ELEMENTS>
+                    r = s252();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s232() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s253();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s233() {
+        int r;
+        switch (token) {
+            case 21: // PICK
+                token = actions.shift();
+                r = s234();
+                break;
+            default:
+                actions.reduce(94);
+                lhs = 47;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 47: // <CHOOSE_WHAT_STMT_KLEENE>
+                    r = s254();
+                    break;
+                case 48: // <PICK_CASE>
+                    r = s233();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s234() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s255();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s235() {
+        int r;
+        switch (token) {
+            case 65: // RCURLY
+                token = actions.shift();
+                r = s256();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s236() {
+        switch (token) {
+            default:
+                actions.reduce(68);
+                lhs = 30;
+                return 5;
+        }
+    }
+
+    private int s237() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s257();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s238() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s258();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s239() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s140();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 26: // <ASSIGNMENT_STMT>
+                    r = s259();
+                    break;
+                case 64: // <DATA_TYPE>
+                    r = s138();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s240() {
+        int r;
+        switch (token) {
+            case 15: // NUMBER_TYPE
+                token = actions.shift();
+                r = s36();
+                break;
+            case 16: // DECIMAL_TYPE
+                token = actions.shift();
+                r = s30();
+                break;
+            case 17: // TEXT_TYPE
+                token = actions.shift();
+                r = s5();
+                break;
+            case 18: // BINARY_TYPE
+                token = actions.shift();
+                r = s28();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s10();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 64: // <DATA_TYPE>
+                    r = s260();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s241() {
+        switch (token) {
+            default:
+                actions.reduce(83);
+                lhs = 40;
+                return 2;
+        }
+    }
+
+    private int s242() {
+        switch (token) {
+            default:
+                actions.reduce(80);
+                lhs = 38;
+                return 5;
+        }
+    }
+
+    private int s243() {
+        switch (token) {
+            default:
+                actions.reduce(79);
+                lhs = 37;
+                return 5;
+        }
+    }
+
+    private int s244() {
+        switch (token) {
+            default:
+                actions.reduce(121);
+                lhs = 63;
+                return 5;
+        }
+    }
+
+    private int s245() {
+        switch (token) {
+            default:
+                actions.reduce(120);
+                lhs = 63;
+                return 5;
+        }
+    }
+
+    private int s246() {
+        switch (token) {
+            default:
+                actions.reduce(115);
+                lhs = 61;
+                return 5;
+        }
+    }
+
+    private int s247() {
+        switch (token) {
+            default:
+                actions.reduce(122);
+                lhs = 63;
+                return 5;
+        }
+    }
+
+    private int s248() {
+        switch (token) {
+            default:
+                actions.reduce(116);
+                lhs = 62;
+                return 5;
+        }
+    }
+
+    private int s249() {
+        switch (token) {
+            default:
+                actions.reduce(90);
+                lhs = 45;
+                return 2;
+        }
+    }
+
+    private int s250() {
+        int r;
+        switch (token) {
+            case 67: // RBRACKET
+                token = actions.shift();
+                r = s261();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s251() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s262();
+                break;
+            default:
+                actions.reduce(104);
+                lhs = 53;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 53: // <LIST_DECL_GROUP>
+                    r = s263();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s252() {
+        switch (token) {
+            default:
+                actions.reduce(100);
+                lhs = 51;
+                return 0;
+        }
+    }
+
+    private int s253() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s264();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s254() {
+        switch (token) {
+            default:
+                actions.reduce(93);
+                lhs = 47;
+                return 1;
+        }
+    }
+
+    private int s255() {
+        int r;
+        switch (token) {
+            case 70: // COLON
+                token = actions.shift();
+                r = s265();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s256() {
+        switch (token) {
+            default:
+                actions.reduce(92);
+                lhs = 46;
+                return 6;
+        }
+    }
+
+    private int s257() {
+        int r;
+        switch (token) {
+            case 3: // OTHERWISE
+                token = actions.shift();
+                r = s237();
+                break;
+            default:
+                actions.reduce(70);
+                lhs = 31;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 31: // <CONDITIONAL_STMT_GROUP>
+                    r = s266();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s258() {
+        switch (token) {
+            default:
+                actions.reduce(62);
+                lhs = 25;
+                return 5;
+        }
+    }
+
+    private int s259() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s267();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s260() {
+        int r;
+        switch (token) {
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s268();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s261() {
+        switch (token) {
+            default:
+                actions.reduce(99);
+                lhs = 50;
+                return 6;
+        }
+    }
+
+    private int s262() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s269();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s263() {
+        switch (token) {
+            default:
+                actions.reduce(102);
+                lhs = 52;
+                return 1;
+        }
+    }
+
+    private int s264() {
+        int r;
+        switch (token) {
+            case 34: // ASSIGN
+                token = actions.shift();
+                r = s270();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s265() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s271();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s266() {
+        switch (token) {
+            default:
+                actions.reduce(69);
+                lhs = 31;
+                return 2;
+        }
+    }
+
+    private int s267() {
+        int r;
+        switch (token) {
+            case 64: // LCURLY
+                token = actions.shift();
+                r = s96();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 32: // <BLOCK_STMT>
+                    r = s272();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s268() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s240();
+                break;
+            default:
+                actions.reduce(85);
+                lhs = 41;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 41: // <PARAM_LIST_GROUP>
+                    r = s273();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s269() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s262();
+                break;
+            default:
+                actions.reduce(104);
+                lhs = 53;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 53: // <LIST_DECL_GROUP>
+                    r = s274();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s270() {
+        int r;
+        switch (token) {
+            case 66: // LBRACKET
+                token = actions.shift();
+                r = s275();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s271() {
+        switch (token) {
+            default:
+                actions.reduce(95);
+                lhs = 48;
+                return 3;
+        }
+    }
+
+    private int s272() {
+        switch (token) {
+            default:
+                actions.reduce(77);
+                lhs = 35;
+                return 8;
+        }
+    }
+
+    private int s273() {
+        switch (token) {
+            default:
+                actions.reduce(84);
+                lhs = 41;
+                return 3;
+        }
+    }
+
+    private int s274() {
+        switch (token) {
+            default:
+                actions.reduce(103);
+                lhs = 53;
+                return 2;
+        }
+    }
+
+    private int s275() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s277();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 55: // <PAIR_MAP_VAL>
+                    r = s278();
+                    break;
+                case 57: // <PAIR>
+                    r = s276();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s276() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s279();
+                break;
+            default:
+                actions.reduce(108);
+                lhs = 56;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 56: // <PAIR_MAP_VAL_GROUP>
+                    r = s280();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s277() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s281();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s278() {
+        int r;
+        switch (token) {
+            case 67: // RBRACKET
+                token = actions.shift();
+                r = s282();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s279() {
+        int r;
+        switch (token) {
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s277();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 57: // <PAIR>
+                    r = s283();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s280() {
+        switch (token) {
+            default:
+                actions.reduce(106);
+                lhs = 55;
+                return 1;
+        }
+    }
+
+    private int s281() {
+        int r;
+        switch (token) {
+            case 70: // COLON
+                token = actions.shift();
+                r = s284();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s282() {
+        switch (token) {
+            default:
+                actions.reduce(105);
+                lhs = 54;
+                return 10;
+        }
+    }
+
+    private int s283() {
+        int r;
+        switch (token) {
+            case 68: // COMMA
+                token = actions.shift();
+                r = s279();
+                break;
+            default:
+                actions.reduce(108);
+                lhs = 56;
+                r = 0;
+                break;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 56: // <PAIR_MAP_VAL_GROUP>
+                    r = s285();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s284() {
+        int r;
+        switch (token) {
+            case 22: // TRUE
+                token = actions.shift();
+                r = s72();
+                break;
+            case 23: // FALSE
+                token = actions.shift();
+                r = s84();
+                break;
+            case 24: // NONE
+                token = actions.shift();
+                r = s67();
+                break;
+            case 30: // IDENTIFIER
+                token = actions.shift();
+                r = s66();
+                break;
+            case 31: // NUMBER
+                token = actions.shift();
+                r = s69();
+                break;
+            case 32: // DECIMAL
+                token = actions.shift();
+                r = s60();
+                break;
+            case 33: // TEXT
+                token = actions.shift();
+                r = s61();
+                break;
+            case 36: // MINUS
+                token = actions.shift();
+                r = s63();
+                break;
+            case 47: // NOT
+                token = actions.shift();
+                r = s76();
+                break;
+            case 57: // BITWISE_NOT
+                token = actions.shift();
+                r = s70();
+                break;
+            case 62: // LPAREN
+                token = actions.shift();
+                r = s71();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                case 6: // <CONST>
+                    r = s68();
+                    break;
+                case 7: // <EXPRESSION>
+                    r = s286();
+                    break;
+                case 8: // <LOGICOR_EXPR>
+                    r = s58();
+                    break;
+                case 9: // <LOGICAND_EXPR>
+                    r = s55();
+                    break;
+                case 10: // <LOGICNOT_EXPR>
+                    r = s59();
+                    break;
+                case 11: // <RELATIONAL_EXPR>
+                    r = s73();
+                    break;
+                case 12: // <BITOR_EXPR>
+                    r = s77();
+                    break;
+                case 13: // <BITXOR_EXPR>
+                    r = s78();
+                    break;
+                case 14: // <BITAND_EXPR>
+                    r = s65();
+                    break;
+                case 15: // <BITSHIFT_EXPR>
+                    r = s82();
+                    break;
+                case 16: // <BITNOT_EXPR>
+                    r = s62();
+                    break;
+                case 17: // <BIT_BASE>
+                    r = s56();
+                    break;
+                case 18: // <TERM>
+                    r = s80();
+                    break;
+                case 19: // <FACTOR>
+                    r = s75();
+                    break;
+                case 20: // <BASE>
+                    r = s79();
+                    break;
+                case 25: // <CONV_EXPR>
+                    r = s74();
+                    break;
+                case 42: // <FUNC_CALL>
+                    r = s64();
+                    break;
+                case 59: // <COLLECTION_EXPR>
+                    r = s83();
+                    break;
+                case 60: // <LIST_VALUE>
+                    r = s40();
+                    break;
+                case 61: // <PAIR_MAP_VALUE>
+                    r = s25();
+                    break;
+                case 62: // <PAIR_MAP_KEY>
+                    r = s20();
+                    break;
+                case 63: // <COLLECTION_METHOD>
+                    r = s81();
+                    break;
+                case 71: // <BINARY>
+                    r = s85();
+                    break;
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s285() {
+        switch (token) {
+            default:
+                actions.reduce(107);
+                lhs = 56;
+                return 2;
+        }
+    }
+
+    private int s286() {
+        int r;
+        switch (token) {
+            case 63: // RPAREN
+                token = actions.shift();
+                r = s287();
+                break;
+            default:
+                return REJECTED;
+        }
+        while (true) {
+            if (r != 0) {
+                return r > 0 ? r - 1 : r;
+            }
+            switch (lhs) {
+                default:
+                    return REJECTED;
+            }
+        }
+    }
+
+    private int s287() {
+        switch (token) {
+            default:
+                actions.reduce(109);
+                lhs = 57;
+                return 4;
+        }
+    }
+}
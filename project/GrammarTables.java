@@ -0,0 +1,128 @@
+package project;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import project.ParsingTableGenerator.GrammarProduction;
+import project.utils.parser.CompressedParseTable;
+import project.utils.parser.Grammar;
+import project.utils.parser.ParseTableCache;
+
+/**
+ * The LR tables and productions of one grammar, as loaded by ParsingTableGenerator.
+ * Nothing in it changes after it is built, so a single instance is shared by every
+ * parser, on any thread; loading another grammar makes a new instance and leaves the
+ * one parsers are using alone.
+ */
+public final class GrammarTables {
+    private final String grammarFile;
+    private final Grammar.TableMode tableMode;
+    // SHA-256 of the grammar's text, in hex
+    private final String grammarHash;
+    // Packed by row displacement, see CompressedParseTable. Terminal columns are TokenType
+    // ordinals and actions are packed as in ParseTableCache.encode; nonterminal columns
+    // follow nonterminals. Also holds the gotos with unit reductions that build nothing
+    // in the AST skipped, see ParseTableCache.unitBypassGotos.
+    private final CompressedParseTable parseTable;
+    private final String[] nonterminals;
+    private final int[] productionLhs;
+    private final int[] productionArity;
+    // Per rule, whether it is a unit rule A ::= B whose reduction builds nothing in the AST
+    private final boolean[] skippableUnitRules;
+    // The productions by rule number, for the trace; unmodifiable
+    private final Map<Integer, GrammarProduction> productions;
+
+    GrammarTables(String grammarFile, Grammar.TableMode tableMode, ParseTableCache tables,
+                  Map<Integer, GrammarProduction> productions) {
+        this.grammarFile = grammarFile;
+        this.tableMode = tableMode;
+        this.grammarHash = HexFormat.of().formatHex(tables.getGrammarHash());
+        this.parseTable = tables.getCompressed();
+        this.nonterminals = tables.getNonterminals();
+        this.productionLhs = tables.getProductionLhs();
+        this.productionArity = tables.getProductionArity();
+        boolean[] skippable = tables.skippableNonterminals();
+        int[] productionUnit = tables.getProductionUnit();
+        this.skippableUnitRules = new boolean[productionUnit.length];
+        for (int rule = 0; rule < productionUnit.length; rule++) {
+            skippableUnitRules[rule] = productionUnit[rule] >= 0 && skippable[productionLhs[rule]];
+        }
+        this.productions = Map.copyOf(productions);
+    }
+
+    /// Returns true if these tables were loaded from the given grammar file with the given construction.
+    public boolean isFor(String grammarFile, Grammar.TableMode tableMode) {
+        return this.grammarFile.equals(grammarFile) && this.tableMode == tableMode;
+    }
+
+    public String getGrammarFile() {
+        return grammarFile;
+    }
+
+    public Grammar.TableMode getTableMode() {
+        return tableMode;
+    }
+
+    public String getGrammarHash() {
+        return grammarHash;
+    }
+
+    /// Returns the packed action for a state and token type, or ParseTableCache.ERROR if there is none.
+    public int action(int state, TokenType tokenType) {
+        return parseTable.action(state, tokenType.ordinal());
+    }
+
+    /// Returns the goto state for a state and the left-hand side of a rule, for pairs a reduction can reach.
+    public int gotoState(int state, int ruleNumber) {
+        return parseTable.gotoState(state, productionLhs[ruleNumber]);
+    }
+
+    /// Like gotoState, but jumps past states that would only reduce a unit rule the AST does not need.
+    public int unitBypassGotoState(int state, int ruleNumber) {
+        return parseTable.unitBypassGotoState(state, productionLhs[ruleNumber]);
+    }
+
+    /// Returns the token types that have an action in the given state, in declaration order.
+    public List<TokenType> expectedTokens(int state) {
+        List<TokenType> expected = new ArrayList<>();
+        for (TokenType type : TokenType.values()) {
+            if (action(state, type) != ParseTableCache.ERROR) {
+                expected.add(type);
+            }
+        }
+        return expected;
+    }
+
+    public int getRuleCount() {
+        return productionLhs.length;
+    }
+
+    /// Returns the nonterminal column of a rule's left-hand side.
+    public int getProductionLhs(int ruleNumber) {
+        return productionLhs[ruleNumber];
+    }
+
+    public int getProductionArity(int ruleNumber) {
+        return productionArity[ruleNumber];
+    }
+
+    /// Returns true if reducing by the rule builds nothing in the AST, see ASTBuilder.passesUnitThrough.
+    public boolean isSkippableUnitRule(int ruleNumber) {
+        return skippableUnitRules[ruleNumber];
+    }
+
+    public String getNonterminal(int nonterminal) {
+        return nonterminals[nonterminal];
+    }
+
+    /// Returns a copy of the nonterminal names, in column order.
+    public String[] getNonterminals() {
+        return nonterminals.clone();
+    }
+
+    /// Returns the production with the given rule number as written in the grammar file, or null.
+    public GrammarProduction getProduction(int ruleNumber) {
+        return productions.get(ruleNumber);
+    }
+}
@@ -0,0 +1,208 @@
+package project;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import project.utils.lexer.SourceBuffer;
+import project.utils.lexer.TokenBuffer;
+import project.utils.parser.ASTNode;
+import project.utils.parser.ParseTreeNode;
+
+/**
+ * Checks that IncrementalParser gives what parsing the edited source from scratch
+ * gives: every .up file under a directory is edited at random, and after each edit
+ * the source, the tokens, the parse tree, the errors and the AST must be the ones
+ * a new Lexer and Parser produce, and the tree and AST returned before the edit
+ * must be unchanged. While a file is valid most edits insert a line that keeps it
+ * valid, so reuse is checked as well as error recovery. The edits only depend on
+ * the seed. Prints each difference and exits with status 1 if there is any.
+ *
+ *     java project.IncrementalCheck [directory] [edits per file] [seed]
+ */
+public class IncrementalCheck {
+
+    // Text inserted anywhere, including unterminated strings and comments
+    private static final String[] SNIPPETS = {
+        " ", "\n", "x", "1", "\n\n", "/* c */", "// c\n", "\"", "/*", "*/", ";", "a = 1;\n", "\"s\\q\"", "  ", "9", "zz"
+    };
+
+    // Lines inserted at a line start while the source is valid
+    private static final String[] VALID_LINES = {
+        "number q = 1;\n", "\n", " ", "// c\n", "/* c\n */", "if (1 < 2) { output << 1; }\n"
+    };
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "TestFiles");
+        int editsPerFile = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        Random random = new Random(args.length > 2 ? Long.parseLong(args[2]) : 42);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(path -> path.toString().endsWith(".up")).sorted().collect(Collectors.toList());
+        }
+
+        // The parsers print table loading, escape warnings and incomplete trees of sources
+        // with errors; only the differences are reported
+        PrintStream report = System.out;
+        PrintStream warnings = System.err;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(discard);
+        System.setErr(discard);
+        int edits = 0;
+        int differences = 0;
+        try {
+            for (Path file : files) {
+                String text = SourceBuffer.open(file, StandardCharsets.UTF_8).toString();
+                IncrementalParser incremental = new IncrementalParser(SourceBuffer.of(text), symbolTable(discard));
+                for (int i = 0; i < editsPerFile; i++) {
+                    int length = text.length();
+                    int offset = random.nextInt(length + 1);
+                    int removed = random.nextInt(4) == 0 ? Math.min(random.nextInt(6), length - offset) : 0;
+                    String inserted = random.nextInt(5) == 0 ? "" : SNIPPETS[random.nextInt(SNIPPETS.length)];
+                    if (random.nextBoolean() && removed == 0 && inserted.isEmpty()) {
+                        inserted = " ";
+                    }
+                    if (incremental.isValid() && random.nextInt(3) > 0) {
+                        // Insert a whole line in front of a line that is not the last one
+                        int lineEnd = text.indexOf('\n', offset);
+                        offset = lineEnd < 0 || lineEnd + 1 >= length ? 0 : lineEnd + 1;
+                        removed = 0;
+                        inserted = offset == 0 ? "" : VALID_LINES[random.nextInt(VALID_LINES.length)];
+                    }
+
+                    String treeBefore = dump(incremental.getParseTree());
+                    String astBefore = dump(incremental.getAST());
+                    ParseTreeNode oldTree = incremental.getParseTree();
+                    ASTNode oldAST = incremental.getAST();
+
+                    incremental.edit(offset, removed, inserted);
+                    text = text.substring(0, offset) + inserted + text.substring(offset + removed);
+                    if (!text.isEmpty() && !text.endsWith("\n")) {
+                        text += "\n"; // the source always ends with a line terminator
+                    }
+                    edits++;
+
+                    List<String> differing = compare(incremental, text, discard);
+                    if (!dump(oldTree).equals(treeBefore)) {
+                        differing.add("earlier parse tree");
+                    }
+                    if (!dump(oldAST).equals(astBefore)) {
+                        differing.add("earlier AST");
+                    }
+                    if (!differing.isEmpty()) {
+                        differences++;
+                        report.println(file + " edit " + i + ": at " + offset + " removed " + removed
+                                + " inserted \"" + inserted.replace("\n", "\\n") + "\": " + differing);
+                    }
+                }
+            }
+        } finally {
+            System.setOut(report);
+            System.setErr(warnings);
+        }
+        System.out.println(files.size() + " files, " + edits + " edits, " + differences
+                + " difference(s) from Parser");
+        if (differences > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Returns what the incremental parser has that lexing and parsing text from scratch does not give
+    private static List<String> compare(IncrementalParser incremental, String text, PrintStream discard) {
+        List<String> differing = new ArrayList<>();
+        if (!incremental.getSource().toString().equals(text)) {
+            differing.add("source");
+        }
+
+        Lexer lexer = new Lexer(SourceBuffer.of(text), symbolTable(discard));
+        lexer.setOutput(discard);
+        TokenBuffer tokens = new TokenBuffer(lexer.getSource());
+        while (tokens.getType(lexer.nextToken(tokens)) != TokenType.EOF) {
+            // keep scanning
+        }
+        if (!dump(tokens).equals(dump(incremental.getTokens()))) {
+            differing.add("tokens");
+        }
+
+        lexer = new Lexer(SourceBuffer.of(text), symbolTable(discard));
+        lexer.setOutput(discard);
+        Parser parser = new Parser(lexer);
+        parser.setOutput(discard);
+        parser.parse();
+        if (!dump(parser.getParseTree()).equals(dump(incremental.getParseTree()))) {
+            differing.add("parse tree");
+        }
+        boolean valid = parser.isAccepted() && parser.getErrors().isEmpty();
+        if (!parser.getErrors().equals(incremental.getErrors()) || incremental.isValid() != valid) {
+            differing.add("errors");
+        }
+        if (!dump(ASTNode.fromCST(parser.getParseTree())).equals(dump(incremental.getAST()))) {
+            differing.add("AST");
+        }
+        return differing;
+    }
+
+    private static SymbolTable symbolTable(PrintStream out) {
+        SymbolTable symbolTable = new SymbolTable();
+        symbolTable.setOutput(out);
+        return symbolTable;
+    }
+
+    // Writes each token with its line and column, one per line
+    private static String dump(TokenBuffer tokens) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            builder.append(tokens.toString(i)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    // Writes each node's symbol, value, rule and token position, one per line, indented by depth
+    private static String dump(ParseTreeNode tree) {
+        StringBuilder builder = new StringBuilder();
+        if (tree != null) {
+            appendTree(tree, 0, builder);
+        }
+        return builder.toString();
+    }
+
+    private static void appendTree(ParseTreeNode node, int depth, StringBuilder builder) {
+        builder.append("  ".repeat(depth)).append(node.getSymbol()).append(' ').append(node.getValue())
+                .append(' ').append(node.getRuleNumber());
+        if (node.getToken() != null) {
+            builder.append(" @").append(node.getToken().getLine()).append(':').append(node.getToken().getPosition());
+        }
+        builder.append('\n');
+        for (ParseTreeNode child : node.getChildren()) {
+            appendTree(child, depth + 1, builder);
+        }
+    }
+
+    // Writes each node's type, value and line, one per line, indented by depth
+    private static String dump(ASTNode ast) {
+        StringBuilder builder = new StringBuilder();
+        appendAST(ast, 0, builder);
+        return builder.toString();
+    }
+
+    private static void appendAST(ASTNode node, int depth, StringBuilder builder) {
+        builder.append("  ".repeat(depth));
+        if (node == null) {
+            builder.append("null\n");
+            return;
+        }
+        builder.append(node.getType()).append(' ').append(node.getValue()).append(" L").append(node.getLineNumber())
+                .append('\n');
+        for (ASTNode child : node.getChildren()) {
+            appendAST(child, depth + 1, builder);
+        }
+    }
+}
@@ -0,0 +1,729 @@
+package project;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import project.IncrementalTree.ListNode;
+import project.IncrementalTree.Node;
+import project.IncrementalTree.Seq;
+import project.ParsingTableGenerator.GrammarProduction;
+import project.utils.lexer.IdentifierInterner;
+import project.utils.lexer.SourceBuffer;
+import project.utils.lexer.TokenBuffer;
+import project.utils.parser.ASTNode;
+import project.utils.parser.IntGapBuffer;
+import project.utils.parser.IntStack;
+import project.utils.parser.ParseTableCache;
+import project.utils.parser.ParseTreeNode;
+
+/**
+ * Keeps the tokens and the parse tree of a source up to date while it is edited,
+ * for editors that parse on every keystroke.
+ *
+ * The source, the tokens and the token offsets are gap buffers that are edited in
+ * place. An edit is re-lexed from the last token whose scan could not have seen
+ * the changed text, up to the first token after which the lexer is back at an old
+ * token boundary with the same column; the old tokens from there on are kept, and
+ * their offsets and lines move by a pending shift instead of one by one.
+ * The parser then reads the old parse tree alongside the new tokens and shifts an
+ * old subtree whole when the LR state in front of it is the one it was built in
+ * and neither its tokens nor the token after it have changed (Wagner and Graham's
+ * state matching). Subtrees that do not qualify are broken down into their
+ * children. Statement lists are kept balanced (see IncrementalTree), so the
+ * elements of a list in front of the edit are shifted as one run and the parser
+ * takes the list apart only at the edit, whatever the length of the file.
+ *
+ * Syntax errors are recovered from inside the same loop the way Parser does it,
+ * so the trees and the errors are the ones Parser would give, and the subtrees
+ * in front of and behind the error are still reused. Trees with errors are never
+ * reused themselves: the parser keeps reading the last tree parsed without
+ * errors, and how its tokens map to the current ones is carried across edits.
+ *
+ * Subtrees are shared by the trees of later versions and never change once they
+ * are built. A reused subtree that moved to other lines keeps its tokens; its
+ * parent records how far it moved, and getParseTree() shows it through views
+ * whose tokens carry the new lines, so trees returned before an edit stay as
+ * they were.
+ */
+public class IncrementalParser {
+
+    private static final String GRAMMAR = "GrammarProgrammer/expanded.txt";
+
+    // Characters the lexer may look at past the end of a token ("/" peeks two ahead)
+    private static final int LOOKAHEAD = 2;
+
+    private final GrammarTables tables;
+    private final SymbolTable symbolTable;
+    private final IdentifierInterner interner = new IdentifierInterner(); // shared by every relex
+    private final SourceBuffer source;
+
+    private final TokenBuffer tokens;
+    private final IntGapBuffer ends = new IntGapBuffer(1024);       // lexer index after each token
+    private final IntGapBuffer leafTokens = new IntGapBuffer(1024); // indexes of the tokens the parser shifts
+
+    // For each list rule L ::= X L, the symbol X and the number of L ::= epsilon; for
+    // each such epsilon rule, the number of the list rule; null or -1 for other rules
+    private final String[] listElements;
+    private final int[] emptyRuleOf;
+    private final int[] listRuleOf;
+
+    private ParseTreeNode tree;
+    private ASTNode ast;      // the AST of tree, once getAST() made it
+    private boolean valid;    // tree was parsed without syntax errors
+    private final List<String> errors = new ArrayList<>();
+
+    // The last tree parsed without errors and the lines it moved since. Its leaf o
+    // is the current leaf o before cleanPrefix and leaf o + cleanLeafShift from
+    // cleanSuffix on, where its tokens moved cleanLineShift more lines; the leaves
+    // in between changed
+    private Node root;
+    private int rootShift;
+    private int cleanPrefix = Integer.MAX_VALUE;
+    private int cleanSuffix;
+    private int cleanLeafShift;
+    private int cleanLineShift;
+
+    private int relexedTokens;
+    private int reusedLeaves;
+
+    // Elements at the front of a list, pushed on the parse stack at once
+    private static final class Run extends Node {
+        final Seq elements;
+
+        Run(Seq elements) {
+            super(Seq.get(elements, 0).getSymbol(), -1, -1, Seq.leafCount(elements));
+            this.elements = elements;
+        }
+    }
+
+    // Parse stack states; a state pushed several times in a row is one entry with a count
+    private static final class StateStack {
+        private final IntStack states = new IntStack();
+        private final IntStack counts = new IntStack();
+        private int size;
+
+        void push(int state) {
+            push(state, 1);
+        }
+
+        void push(int state, int count) {
+            size += count;
+            if (!states.isEmpty() && states.peek() == state) {
+                counts.push(counts.pop() + count);
+            } else {
+                states.push(state);
+                counts.push(count);
+            }
+        }
+
+        int peek() {
+            return states.peek();
+        }
+
+        /// Returns how many times in a row the top state is on the stack.
+        int peekCount() {
+            return counts.peek();
+        }
+
+        void pop(int count) {
+            size -= count;
+            while (count > 0) {
+                int top = counts.pop();
+                if (top > count) {
+                    counts.push(top - count);
+                    return;
+                }
+                states.pop();
+                count -= top;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    // Parse stack nodes with the lines each moved since it was built; a Run is one entry
+    private static final class NodeStack {
+        private final ArrayList<Node> nodes = new ArrayList<>();
+        private final IntStack shifts = new IntStack();
+        private int poppedShift;
+
+        void push(Node node, int shift) {
+            nodes.add(node);
+            shifts.push(shift);
+        }
+
+        /// Returns the entry depth entries below the top, or null.
+        Node peek(int depth) {
+            int index = nodes.size() - 1 - depth;
+            return index < 0 ? null : nodes.get(index);
+        }
+
+        int peekShift() {
+            return shifts.peek();
+        }
+
+        boolean isEmpty() {
+            return nodes.isEmpty();
+        }
+
+        // Pops one node, taking the last element off a run; poppedShift() then
+        // returns the lines it moved
+        Node pop() {
+            Node node = nodes.remove(nodes.size() - 1);
+            poppedShift = shifts.pop();
+            if (node instanceof Run) {
+                Seq elements = ((Run) node).elements;
+                Seq[] parts = Seq.split(elements, Seq.size(elements) - 1);
+                if (parts[0] != null) {
+                    push(new Run(parts[0]), poppedShift);
+                }
+                node = Seq.get(parts[1], 0);
+                poppedShift += Seq.shiftOf(parts[1], 0);
+            }
+            return node;
+        }
+
+        int poppedShift() {
+            return poppedShift;
+        }
+
+        /// Removes the top entry, run or not.
+        void popEntry() {
+            nodes.remove(nodes.size() - 1);
+            shifts.pop();
+        }
+    }
+
+    // Old subtrees still ahead of the parser, with the old index of their first leaf
+    // and the lines they had moved in the old tree
+    private static final class OldSubtrees {
+        private final ArrayDeque<Node> nodes = new ArrayDeque<>();
+        private final IntStack starts = new IntStack();
+        private final IntStack shifts = new IntStack();
+
+        void push(Node node, int start, int shift) {
+            nodes.push(node);
+            starts.push(start);
+            shifts.push(shift);
+        }
+
+        void pop() {
+            nodes.pop();
+            starts.pop();
+            shifts.pop();
+        }
+
+        int shift() {
+            return shifts.peek();
+        }
+
+        // Drops the subtrees that end before oldLeaf and breaks down the ones around
+        // it; returns the largest one starting at oldLeaf, or null
+        Node next(int oldLeaf) {
+            while (!nodes.isEmpty()) {
+                Node node = nodes.peek();
+                int start = starts.peek();
+                if (start + node.leafCount <= oldLeaf) {
+                    pop();
+                } else if (start < oldLeaf) {
+                    breakDown();
+                } else {
+                    return start == oldLeaf && node.getRuleNumber() >= 0 ? node : null;
+                }
+            }
+            return null;
+        }
+
+        // Replaces the first subtree with its children; a list is split into its
+        // first element and the list of the rest
+        void breakDown() {
+            Node node = nodes.peek();
+            int start = starts.peek() + node.leafCount;
+            int shift = shifts.peek();
+            pop();
+            if (node instanceof ListNode) {
+                ListNode list = (ListNode) node;
+                if (list.size() > 0) {
+                    Seq[] parts = Seq.split(list.elements, 1);
+                    push(list.withElements(parts[1], list.innerState), start - Seq.leafCount(parts[1]), shift);
+                    push(Seq.get(parts[0], 0), start - list.leafCount, shift + Seq.shiftOf(parts[0], 0));
+                }
+                return;
+            }
+            for (int i = node.childCount() - 1; i >= 0; i--) {
+                Node child = node.child(i);
+                start -= child.leafCount;
+                push(child, start, shift + node.childShift(i));
+            }
+        }
+    }
+
+    /**
+     * Lexes and parses a source.
+     *
+     * @param symbolTable The lexer's symbol table; identifiers of edited text are added to it
+     */
+    public IncrementalParser(SourceBuffer source, SymbolTable symbolTable) {
+        tables = ParsingTableGenerator.loadTables(GRAMMAR);
+        if (tables == null) {
+            throw new IllegalStateException("Could not load the parsing tables for " + GRAMMAR);
+        }
+        int ruleCount = tables.getRuleCount();
+        listElements = new String[ruleCount];
+        emptyRuleOf = new int[ruleCount];
+        listRuleOf = new int[ruleCount];
+        Arrays.fill(emptyRuleOf, -1);
+        Arrays.fill(listRuleOf, -1);
+        for (int list = 0; list < ruleCount; list++) {
+            GrammarProduction production = tables.getProduction(list);
+            if (production == null || tables.getProductionArity(list) != 2) {
+                continue;
+            }
+            List<String> rhs = production.getRhs();
+            if (!rhs.get(1).equals(production.getLhs()) || !rhs.get(0).startsWith("<")) {
+                continue;
+            }
+            for (int empty = 0; empty < ruleCount; empty++) {
+                if (tables.getProductionArity(empty) == 0
+                        && tables.getProductionLhs(empty) == tables.getProductionLhs(list)) {
+                    listElements[list] = rhs.get(0);
+                    emptyRuleOf[list] = empty;
+                    listRuleOf[empty] = list;
+                }
+            }
+        }
+        this.symbolTable = symbolTable;
+        this.source = source;
+        this.tokens = new TokenBuffer(source);
+        Lexer lexer = new Lexer(source, symbolTable);
+        lexer.setInterner(interner);
+        while (scan(lexer) != TokenType.EOF) {
+            // keep scanning
+        }
+        relexedTokens = tokens.size();
+        addLeaves(0, tokens.size());
+        reparse();
+    }
+
+    /**
+     * Replaces removedLength characters at offset with insertedText and updates the
+     * tokens and the parse tree.
+     */
+    public void edit(int offset, int removedLength, String insertedText) {
+        int oldLineCount = source.lineCount();
+        int oldColumn = source.columnOf(offset + removedLength);
+        int delta = source.replace(offset, removedLength, insertedText);
+        int editEnd = offset + removedLength + delta; // end of the inserted text in the new source
+        int editEndLine = source.lineOf(editEnd);
+        int lineShift = source.lineCount() - oldLineCount;
+        // Whether the text after the edit on its last line changed columns
+        boolean columnsMoved = source.columnOf(editEnd) != oldColumn;
+        int oldCount = tokens.size();
+
+        // Tokens before first were scanned without looking at the edited text; the
+        // old tokens from first on are put after the gaps and move with the text
+        int first = Math.min(ends.lowerBound(offset - LOOKAHEAD + 1), oldCount - 1);
+        tokens.moveGap(first);
+        ends.moveGap(first);
+        tokens.shift(delta, lineShift);
+        ends.shift(delta);
+        Lexer lexer = new Lexer(source, symbolTable);
+        lexer.setInterner(interner);
+        if (first > 0) {
+            lexer.seek(ends.get(first - 1));
+        }
+
+        // Scan until the lexer is where it was after an old token past the edit,
+        // deleting the old tokens it passes; next is the first old token left
+        int next = first;
+        int oldLeft = oldCount - first; // the last one is EOF
+        boolean resynced = false;
+        while (!resynced) {
+            TokenType type = scan(lexer);
+            next++;
+            if (type == TokenType.EOF) {
+                deleteTokens(oldLeft);
+                oldLeft = 0;
+                break;
+            }
+            int end = lexer.getIndex();
+            while (end >= editEnd && oldLeft > 1 && ends.get(next) <= end) {
+                resynced = ends.get(next) == end && (!columnsMoved || source.lineOf(end) > editEndLine);
+                deleteTokens(1);
+                oldLeft--;
+                if (resynced) {
+                    break;
+                }
+            }
+        }
+        int replaced = oldCount - first - oldLeft;
+        relexedTokens = next - first;
+
+        // The error for an unterminated comment names its line, so it is scanned
+        // again if it moved; it runs to the end, so it is the last token before EOF
+        int size = tokens.size();
+        if (lineShift != 0 && oldLeft >= 2 && tokens.getType(size - 2) == TokenType.ERROR
+                && tokens.getLexeme(size - 2).startsWith("Unterminated multi-line comment")) {
+            tokens.moveGap(size - 2);
+            ends.moveGap(size - 2);
+            deleteTokens(2);
+            lexer.seek(ends.get(size - 3));
+            while (scan(lexer) != TokenType.EOF) {
+                relexedTokens++;
+            }
+            relexedTokens++;
+        }
+
+        // Old leaves before prefixLeaves and from suffixStart on are unchanged
+        int prefixLeaves = leafTokens.lowerBound(first);
+        int suffixStart = leafTokens.lowerBound(first + replaced);
+        leafTokens.moveGap(prefixLeaves);
+        leafTokens.delete(suffixStart - prefixLeaves);
+        leafTokens.shift(next - first - replaced);
+        int leafShift = addLeaves(first, next) - (suffixStart - prefixLeaves);
+
+        // Carry the mapping of the last error-free tree's leaves over this edit
+        cleanSuffix = Math.max(cleanSuffix, suffixStart - cleanLeafShift);
+        cleanPrefix = Math.min(cleanPrefix, prefixLeaves);
+        cleanLeafShift += leafShift;
+        cleanLineShift += lineShift;
+        reparse();
+    }
+
+    // Scans a token into the gap of the token buffer and returns its type
+    private TokenType scan(Lexer lexer) {
+        int index = lexer.nextToken(tokens);
+        ends.add(lexer.getIndex());
+        return tokens.getType(index);
+    }
+
+    // Deletes the count tokens after the gap
+    private void deleteTokens(int count) {
+        tokens.delete(count);
+        ends.delete(count);
+    }
+
+    // Adds the tokens in [from, to) that the parser shifts at the gap of the leaves; returns how many
+    private int addLeaves(int from, int to) {
+        int added = 0;
+        for (int i = from; i < to; i++) {
+            TokenType type = tokens.getType(i);
+            if (type != TokenType.EOF && type != TokenType.MCOMMENT && type != TokenType.SCOMMENT) {
+                leafTokens.add(i);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Parses the current tokens, shifting subtrees of the last error-free tree
+     * where they fit, and recovers from syntax errors as Parser.parse() does.
+     */
+    private void reparse() {
+        int prefixLeaves = cleanPrefix;
+        int suffixStart = cleanSuffix;
+        int suffixLeaves = cleanSuffix + cleanLeafShift; // first new leaf of the unchanged suffix
+        StateStack states = new StateStack();
+        states.push(0);
+        NodeStack nodes = new NodeStack();
+
+        OldSubtrees old = new OldSubtrees();
+        if (root != null) {
+            old.push(root, 0, rootShift);
+        }
+        reusedLeaves = 0;
+        errors.clear();
+        int errorCount = 0;
+        int lastErrorToken = -1;
+
+        int leaf = 0;
+        int leafCount = leafTokens.size();
+        int eof = tokens.size() - 1;
+        while (errorCount < Parser.MAX_ERRORS) {
+            int state = states.peek();
+            int tokenIndex = leaf < leafCount ? leafTokens.get(leaf) : eof;
+            int action = tables.action(state, tokens.getType(tokenIndex));
+            int kind = ParseTableCache.kindOf(action);
+
+            int oldLeaf = leaf < prefixLeaves ? leaf : leaf >= suffixLeaves ? leaf - cleanLeafShift : -1;
+            Node candidate = oldLeaf < 0 ? null : old.next(oldLeaf);
+            if (candidate != null && candidate.startState == state) {
+                if (oldLeaf + candidate.leafCount < prefixLeaves || oldLeaf >= suffixStart) {
+                    nodes.push(candidate, old.shift() + (oldLeaf >= suffixStart ? cleanLineShift : 0));
+                    old.pop();
+                    states.push(tables.gotoState(state, candidate.getRuleNumber()));
+                    leaf += candidate.leafCount;
+                    reusedLeaves += candidate.leafCount;
+                    continue;
+                }
+                int leaves = candidate instanceof ListNode && oldLeaf < prefixLeaves
+                        ? pushRun((ListNode) candidate, oldLeaf, prefixLeaves, old, states, nodes) : 0;
+                if (leaves > 0) {
+                    leaf += leaves;
+                    reusedLeaves += leaves;
+                    continue;
+                }
+            }
+            if (candidate != null && kind != ParseTableCache.REDUCE) {
+                old.breakDown();
+                continue;
+            }
+
+            if (kind == ParseTableCache.SHIFT) {
+                states.push(ParseTableCache.operandOf(action));
+                nodes.push(new Node(tokens.getToken(tokenIndex), state), 0);
+                leaf++;
+            } else if (kind == ParseTableCache.REDUCE) {
+                reduce(ParseTableCache.operandOf(action), states, nodes);
+            } else if (kind == ParseTableCache.ACCEPT) {
+                finish(nodes, true);
+                return;
+            } else {
+                if (lastErrorToken < 0 || tokens.getLine(tokenIndex) != tokens.getLine(lastErrorToken)
+                        || tokens.getColumn(tokenIndex) != tokens.getColumn(lastErrorToken)) {
+                    List<TokenType> expected = tables.expectedTokens(state);
+                    errors.add(String.format("Line %d:%d - Unexpected token: '%s'", tokens.getLine(tokenIndex),
+                            tokens.getColumn(tokenIndex), tokens.getType(tokenIndex))
+                            + "\n    Expected: " + (!expected.isEmpty() ? expected : "none"));
+                    lastErrorToken = tokenIndex;
+                }
+                errorCount++;
+                if (!insertMissingToken(tokenIndex, states, nodes)) {
+                    leaf = skipToSyncPoint(leaf, states);
+                }
+            }
+        }
+        finish(nodes, false);
+    }
+
+    // Reduces by a rule the way Parser does, which leaves the state out if there is no goto
+    private void reduce(int ruleNumber, StateStack states, NodeStack nodes) {
+        if (listElements[ruleNumber] != null && foldList(ruleNumber, states, nodes)) {
+            return;
+        }
+        int arity = tables.getProductionArity(ruleNumber);
+        Node[] children = new Node[arity];
+        int[] childShifts = null;
+        for (int i = arity - 1; i >= 0; i--) {
+            children[i] = nodes.pop();
+            int shift = nodes.poppedShift();
+            if (shift != 0) {
+                if (childShifts == null) {
+                    childShifts = new int[arity];
+                }
+                childShifts[i] = shift;
+            }
+        }
+        states.pop(arity);
+        int startState = states.peek();
+        String symbol = tables.getNonterminal(tables.getProductionLhs(ruleNumber));
+        nodes.push(listRuleOf[ruleNumber] >= 0
+                ? new ListNode(symbol, listRuleOf[ruleNumber], ruleNumber, startState, -1, null)
+                : new Node(symbol, ruleNumber, startState, children, childShifts), 0);
+        pushGoto(startState, ruleNumber, states);
+    }
+
+    private void pushGoto(int state, int ruleNumber, StateStack states) {
+        int next = tables.gotoState(state, ruleNumber);
+        if (next >= 0) {
+            states.push(next);
+        }
+    }
+
+    // Parser's phrase-level recovery: acts on the first of the tokens it tries that
+    // the state on top accepts, shifting an empty token; returns false if there is none
+    private boolean insertMissingToken(int tokenIndex, StateStack states, NodeStack nodes) {
+        int state = states.peek();
+        for (TokenType missing : Parser.RECOVERY_TOKENS) {
+            int action = tables.action(state, missing);
+            if (action == ParseTableCache.ERROR) {
+                continue;
+            }
+            if (ParseTableCache.kindOf(action) == ParseTableCache.SHIFT) {
+                states.push(ParseTableCache.operandOf(action));
+                Token token = new Token(missing, "", tokens.getLine(tokenIndex), tokens.getColumn(tokenIndex));
+                nodes.push(new Node(token, state), 0);
+            } else if (ParseTableCache.kindOf(action) == ParseTableCache.REDUCE) {
+                reduce(ParseTableCache.operandOf(action), states, nodes);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // Parser's panic mode: skips leaves up to one the state on top accepts, then
+    // pops states, but not nodes, down to one that accepts it; returns that leaf
+    private int skipToSyncPoint(int leaf, StateStack states) {
+        int leafCount = leafTokens.size();
+        int state = states.peek();
+        while (leaf < leafCount
+                && tables.action(state, tokens.getType(leafTokens.get(leaf))) == ParseTableCache.ERROR) {
+            leaf++;
+        }
+        TokenType type = leaf < leafCount ? tokens.getType(leafTokens.get(leaf)) : TokenType.EOF;
+        while (states.size() > 1 && tables.action(states.peek(), type) == ParseTableCache.ERROR) {
+            states.pop(Math.min(states.peekCount(), states.size() - 1));
+        }
+        return leaf;
+    }
+
+    // Takes the tree off the stack. Without errors it becomes the tree later edits
+    // reuse. Otherwise it is what Parser gives: when it accepts, every node made the
+    // first child of the one below it, and the top node when it gives up
+    private void finish(NodeStack nodes, boolean accepted) {
+        valid = accepted && errors.isEmpty();
+        ast = null;
+        if (valid) {
+            root = nodes.peek(0);
+            rootShift = nodes.peekShift();
+            tree = IncrementalTree.shifted(root, rootShift);
+            cleanPrefix = Integer.MAX_VALUE;
+            cleanSuffix = 0;
+            cleanLeafShift = 0;
+            cleanLineShift = 0;
+            return;
+        }
+        tree = null;
+        if (!nodes.isEmpty()) {
+            Node top = nodes.pop();
+            tree = IncrementalTree.shifted(top, nodes.poppedShift());
+        }
+        while (accepted && !nodes.isEmpty()) {
+            Node below = nodes.pop();
+            tree = IncrementalTree.prepended(IncrementalTree.shifted(below, nodes.poppedShift()), tree);
+        }
+    }
+
+    // Pushes the elements at the front of an old list that starts at oldLeaf and
+    // whose start state is on top of the stack as one run, as far as they and the
+    // token after them lie before the edit; returns how many leaves it pushed
+    private int pushRun(ListNode list, int oldLeaf, int prefixLeaves, OldSubtrees old, StateStack states,
+                        NodeStack nodes) {
+        int count = Seq.countWithin(list.elements, prefixLeaves - 1 - oldLeaf);
+        if (count == 0) {
+            return 0;
+        }
+        int elementRule = Seq.get(list.elements, 0).getRuleNumber();
+        int inner = tables.gotoState(states.peek(), elementRule);
+        if (inner != list.innerState || count > 1 && tables.gotoState(inner, elementRule) != inner) {
+            return 0;
+        }
+        Seq[] parts = Seq.split(list.elements, count);
+        int leaves = Seq.leafCount(parts[0]);
+        int shift = old.shift();
+        old.pop();
+        old.push(list.withElements(parts[1], inner), oldLeaf + leaves, shift);
+        states.push(inner, count);
+        nodes.push(new Run(Seq.shifted(parts[0], shift)), 0);
+        return leaves;
+    }
+
+    // Reduces L ::= X L with a list on top of the stack by adding the X below it, or
+    // the run of them, to its front. Returns false, having changed nothing, if the
+    // elements after the first of the result would not all start in the same state
+    private boolean foldList(int ruleNumber, StateStack states, NodeStack nodes) {
+        Node head = nodes.peek(1);
+        if (!(nodes.peek(0) instanceof ListNode) || head == null) {
+            return false;
+        }
+        ListNode tail = (ListNode) nodes.peek(0);
+        Node element = head instanceof Run ? Seq.get(((Run) head).elements, 0) : head;
+        if (!element.getSymbol().equals(listElements[ruleNumber])) {
+            return false;
+        }
+        int tailState = states.peek();
+        states.pop(1);
+        int inner = states.peek(); // the state after each element
+        if (tables.gotoState(inner, element.getRuleNumber()) != inner
+                || tail.size() > 0 && (tail.startState != inner || tail.innerState != inner)) {
+            states.push(tailState);
+            return false;
+        }
+        int tailShift = nodes.peekShift();
+        nodes.popEntry();
+        Seq front;
+        if (head instanceof Run) {
+            Seq elements = ((Run) head).elements;
+            int count = Math.min(Seq.size(elements), states.peekCount());
+            int headShift = nodes.peekShift();
+            nodes.popEntry();
+            Seq[] parts = Seq.split(elements, Seq.size(elements) - count);
+            if (parts[0] != null) {
+                nodes.push(new Run(parts[0]), headShift);
+            }
+            front = Seq.shifted(parts[1], headShift);
+            states.pop(count);
+        } else {
+            front = Seq.of(head, nodes.peekShift());
+            nodes.popEntry();
+            states.pop(1);
+        }
+        int startState = states.peek();
+        nodes.push(new ListNode(tail.getSymbol(), ruleNumber, emptyRuleOf[ruleNumber], startState, inner,
+                Seq.concat(front, Seq.shifted(tail.elements, tailShift))), 0);
+        pushGoto(startState, ruleNumber, states);
+        return true;
+    }
+
+    /**
+     * Returns the interner that numbers the identifiers of every version of the source.
+     */
+    public IdentifierInterner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Returns the parse tree of the current source. Later edits leave it as it is.
+     */
+    public ParseTreeNode getParseTree() {
+        return tree;
+    }
+
+    /**
+     * Returns the AST of the current parse tree, which ASTNode.fromCST() would
+     * make of it. Later edits leave it as it is. Only the nodes the last edit
+     * rebuilt are converted; the ASTs of reused subtrees are shown through views.
+     */
+    public ASTNode getAST() {
+        if (ast == null && tree != null) {
+            ast = IncrementalTree.toAST(tree);
+        }
+        return ast;
+    }
+
+    /// Returns false if the last parse found syntax errors.
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the syntax errors of the current source, in the form Parser.getErrors()
+     * gives them. Nothing is printed.
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public TokenBuffer getTokens() {
+        return tokens;
+    }
+
+    public SourceBuffer getSource() {
+        return source;
+    }
+
+    /// Returns the number of tokens scanned by the last update.
+    public int getRelexedTokenCount() {
+        return relexedTokens;
+    }
+
+    /// Returns the number of tokens covered by subtrees the last update reused.
+    public int getReusedTokenCount() {
+        return reusedLeaves;
+    }
+}
@@ -0,0 +1,516 @@
+package project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import project.utils.parser.ASTNode;
+import project.utils.parser.ParseTreeNode;
+
+/**
+ * The nodes IncrementalParser builds and shares between the trees of successive
+ * versions of a source. Nodes never change once they are built. A node records
+ * how many lines each child moved since the child was built, and trees are shown
+ * through views whose tokens carry the new lines, so a subtree that moved is
+ * reused as it is and trees handed out earlier keep their lines.
+ *
+ * A list written as L ::= X L | epsilon is one ListNode holding its elements in a
+ * balanced sequence, so a run of elements can be taken from it or added to it in
+ * logarithmic time. It is shown as the chain of L nodes the grammar describes.
+ *
+ * Each node also keeps the AST ASTNode.fromCST() makes of it, built from the
+ * kept ASTs of its children, so converting a new tree only converts the nodes
+ * the edit rebuilt. Kept ASTs are handed out through views that have their own
+ * parents and lines, the same way as the nodes.
+ */
+final class IncrementalTree {
+
+    private IncrementalTree() {
+    }
+
+    /**
+     * A parse tree node with what state matching needs to know about it.
+     */
+    static class Node extends ParseTreeNode {
+        final int startState;            // the state below the node on the parse stack
+        final int leafCount;             // number of tokens it covers
+        private final int[] childShifts; // lines each child moved, or null if none did
+        private List<ParseTreeNode> shownChildren;
+        private ASTNode ast;             // the AST of the node as it was built, once converted
+        private boolean converted;
+
+        // A leaf for a token
+        Node(Token token, int startState) {
+            super(token.getType().toString(), token.getLexeme(), -1, token);
+            this.startState = startState;
+            this.leafCount = 1;
+            this.childShifts = null;
+        }
+
+        Node(String symbol, int ruleNumber, int startState, Node[] children, int[] childShifts) {
+            super(symbol, null, ruleNumber, null);
+            this.startState = startState;
+            this.childShifts = childShifts;
+            List<ParseTreeNode> parts = super.getChildren();
+            int leaves = 0;
+            for (Node child : children) {
+                parts.add(child);
+                leaves += child.leafCount;
+            }
+            this.leafCount = leaves;
+        }
+
+        // A node that keeps its children some other way
+        Node(String symbol, int ruleNumber, int startState, int leafCount) {
+            super(symbol, null, ruleNumber, null);
+            this.startState = startState;
+            this.leafCount = leafCount;
+            this.childShifts = null;
+        }
+
+        int childCount() {
+            return super.getChildren().size();
+        }
+
+        Node child(int index) {
+            return (Node) super.getChildren().get(index);
+        }
+
+        int childShift(int index) {
+            return childShifts == null ? 0 : childShifts[index];
+        }
+
+        ASTNode ast() {
+            if (!converted) {
+                ast = ASTNode.fromCST(this, IncrementalTree::toAST);
+                converted = true;
+            }
+            return ast;
+        }
+
+        @Override
+        public List<ParseTreeNode> getChildren() {
+            if (childShifts == null) {
+                return super.getChildren();
+            }
+            if (shownChildren == null) {
+                shownChildren = shiftedChildren(this, 0);
+            }
+            return shownChildren;
+        }
+    }
+
+    /**
+     * The node of a list rule L ::= X L, or of its L ::= epsilon, for the whole chain of
+     * them the parser would build. Every element after the first starts in
+     * innerState, which is also the state after the first element.
+     */
+    static final class ListNode extends Node {
+        final Seq elements; // null if the list is empty
+        final int innerState;
+        private final int listRule;
+        private final int emptyRule;
+        private List<ParseTreeNode> shownChildren;
+
+        ListNode(String symbol, int listRule, int emptyRule, int startState, int innerState, Seq elements) {
+            super(symbol, elements == null ? emptyRule : listRule, startState, Seq.leafCount(elements));
+            this.elements = elements;
+            this.innerState = innerState;
+            this.listRule = listRule;
+            this.emptyRule = emptyRule;
+        }
+
+        int size() {
+            return Seq.size(elements);
+        }
+
+        /// Returns the list of other elements that this one's elements from the second on would form.
+        ListNode withElements(Seq elements, int startState) {
+            return new ListNode(getSymbol(), listRule, emptyRule, startState, innerState, elements);
+        }
+
+        @Override
+        public List<ParseTreeNode> getChildren() {
+            if (shownChildren == null) {
+                shownChildren = chainChildren(this, 0, 0);
+            }
+            return shownChildren;
+        }
+    }
+
+    /**
+     * A persistent treap of list elements by position, with the lines each element
+     * moved since it was built. A node's shift applies to its element and to both
+     * of its subtrees, so shifting a whole sequence makes one new node.
+     */
+    static final class Seq {
+        private final Seq left;
+        private final Seq right;
+        private final Node element;
+        private final int shift;
+        private final int priority; // parents have higher priorities than their children
+        private final int size;
+        private final int leafCount;
+
+        private Seq(Seq left, Seq right, Node element, int shift, int priority) {
+            this.left = left;
+            this.right = right;
+            this.element = element;
+            this.shift = shift;
+            this.priority = priority;
+            this.size = size(left) + 1 + size(right);
+            this.leafCount = leafCount(left) + element.leafCount + leafCount(right);
+        }
+
+        static Seq of(Node element, int shift) {
+            return new Seq(null, null, element, shift, ThreadLocalRandom.current().nextInt());
+        }
+
+        static int size(Seq seq) {
+            return seq == null ? 0 : seq.size;
+        }
+
+        static int leafCount(Seq seq) {
+            return seq == null ? 0 : seq.leafCount;
+        }
+
+        /// Returns the sequence with every element moved shift more lines.
+        static Seq shifted(Seq seq, int shift) {
+            if (seq == null || shift == 0) {
+                return seq;
+            }
+            return new Seq(seq.left, seq.right, seq.element, seq.shift + shift, seq.priority);
+        }
+
+        static Seq concat(Seq first, Seq second) {
+            if (first == null) {
+                return second;
+            }
+            if (second == null) {
+                return first;
+            }
+            if (first.priority > second.priority) {
+                return new Seq(first.left, concat(first.right, shifted(second, -first.shift)),
+                        first.element, first.shift, first.priority);
+            }
+            return new Seq(concat(shifted(first, -second.shift), second.left), second.right,
+                    second.element, second.shift, second.priority);
+        }
+
+        /// Returns the first count elements and the rest.
+        static Seq[] split(Seq seq, int count) {
+            if (seq == null) {
+                return new Seq[2];
+            }
+            int leftSize = size(seq.left);
+            if (count <= leftSize) {
+                Seq[] parts = split(seq.left, count);
+                parts[1] = new Seq(parts[1], seq.right, seq.element, seq.shift, seq.priority);
+                parts[0] = shifted(parts[0], seq.shift);
+                return parts;
+            }
+            Seq[] parts = split(seq.right, count - leftSize - 1);
+            parts[0] = new Seq(seq.left, parts[0], seq.element, seq.shift, seq.priority);
+            parts[1] = shifted(parts[1], seq.shift);
+            return parts;
+        }
+
+        static Node get(Seq seq, int index) {
+            while (true) {
+                int leftSize = size(seq.left);
+                if (index < leftSize) {
+                    seq = seq.left;
+                } else if (index == leftSize) {
+                    return seq.element;
+                } else {
+                    index -= leftSize + 1;
+                    seq = seq.right;
+                }
+            }
+        }
+
+        /// Returns how many tokens the elements before index cover.
+        static int leavesBefore(Seq seq, int index) {
+            int leaves = 0;
+            while (seq != null) {
+                int leftSize = size(seq.left);
+                if (index <= leftSize) {
+                    seq = seq.left;
+                } else {
+                    leaves += leafCount(seq.left) + seq.element.leafCount;
+                    index -= leftSize + 1;
+                    seq = seq.right;
+                }
+            }
+            return leaves;
+        }
+
+        /// Returns the lines the element at index moved.
+        static int shiftOf(Seq seq, int index) {
+            int shift = 0;
+            while (true) {
+                shift += seq.shift;
+                int leftSize = size(seq.left);
+                if (index < leftSize) {
+                    seq = seq.left;
+                } else if (index == leftSize) {
+                    return shift;
+                } else {
+                    index -= leftSize + 1;
+                    seq = seq.right;
+                }
+            }
+        }
+
+        /// Returns how many elements from the first on cover no more than leaves tokens together.
+        static int countWithin(Seq seq, int leaves) {
+            int count = 0;
+            while (seq != null) {
+                int leftLeaves = leafCount(seq.left);
+                if (leftLeaves > leaves) {
+                    seq = seq.left;
+                    continue;
+                }
+                count += size(seq.left);
+                leaves -= leftLeaves;
+                if (seq.element.leafCount > leaves) {
+                    break;
+                }
+                count++;
+                leaves -= seq.element.leafCount;
+                seq = seq.right;
+            }
+            return count;
+        }
+    }
+
+    // A node shown shift lines further down than it was built
+    private static final class ShiftedNode extends ParseTreeNode {
+        private final Node node;
+        private final int shift;
+        private List<ParseTreeNode> children;
+
+        ShiftedNode(Node node, int shift) {
+            super(node.getSymbol(), node.getValue(), node.getRuleNumber(), shifted(node.getToken(), shift));
+            this.node = node;
+            this.shift = shift;
+        }
+
+        @Override
+        public List<ParseTreeNode> getChildren() {
+            if (children == null) {
+                children = shiftedChildren(node, shift);
+            }
+            return children;
+        }
+    }
+
+    // The chain node of a list for its elements from index from on, shown shift lines further down
+    private static final class ListView extends ParseTreeNode {
+        private final ListNode list;
+        private final int from;
+        private final int shift;
+        private List<ParseTreeNode> children;
+
+        ListView(ListNode list, int from, int shift) {
+            super(list.getSymbol(), null, from < list.size() ? list.listRule : list.emptyRule, null);
+            this.list = list;
+            this.from = from;
+            this.shift = shift;
+        }
+
+        @Override
+        public List<ParseTreeNode> getChildren() {
+            if (children == null) {
+                children = chainChildren(list, from, shift);
+            }
+            return children;
+        }
+    }
+
+    // A node with another put in front of its children, which is how Parser joins
+    // what is left on its stack when it accepts a source with syntax errors
+    private static final class PrependedNode extends ParseTreeNode {
+        private final ParseTreeNode node;
+        private final ParseTreeNode first;
+        private List<ParseTreeNode> children;
+
+        PrependedNode(ParseTreeNode node, ParseTreeNode first) {
+            super(node.getSymbol(), node.getValue(), node.getRuleNumber(), node.getToken());
+            this.node = node;
+            this.first = first;
+        }
+
+        @Override
+        public List<ParseTreeNode> getChildren() {
+            if (children == null) {
+                children = new ArrayList<>(node.getChildren().size() + 1);
+                children.add(first);
+                children.addAll(node.getChildren());
+            }
+            return children;
+        }
+    }
+
+    /**
+     * Returns a node shown with first as its first child, followed by its own.
+     */
+    static ParseTreeNode prepended(ParseTreeNode node, ParseTreeNode first) {
+        return new PrependedNode(node, first);
+    }
+
+    // The AST of a node shown shift lines further down than it was converted
+    private static final class ShiftedAST extends ASTNode {
+        private final ASTNode ast;
+        private final int shift;
+        private boolean expanded;
+
+        ShiftedAST(ASTNode ast, int shift, int lineNumber) {
+            super(ast.getType(), ast.getValue(), lineNumber, ast.getId());
+            this.ast = ast;
+            this.shift = shift;
+        }
+
+        @Override
+        public List<ASTNode> getChildren() {
+            if (!expanded) {
+                expanded = true;
+                for (ASTNode child : ast.getChildren()) {
+                    addChild(shifted(child, shift));
+                }
+            }
+            return super.getChildren();
+        }
+    }
+
+    // The AST fromCST() makes of the chain node for the elements of a list from index from on
+    private static final class ListAST extends ASTNode {
+        private final ListNode list;
+        private final int from;
+        private final int shift;
+        private boolean expanded;
+
+        ListAST(ListNode list, int from, int shift, int lineNumber) {
+            super(list.getType(), null, lineNumber);
+            this.list = list;
+            this.from = from;
+            this.shift = shift;
+        }
+
+        ListAST(ListNode list, int from, int shift) {
+            this(list, from, shift, firstLine(list, from, shift));
+        }
+
+        @Override
+        public List<ASTNode> getChildren() {
+            if (!expanded) {
+                expanded = true;
+                if (from < list.size()) {
+                    ASTNode element = Seq.get(list.elements, from).ast();
+                    if (element != null) {
+                        addChild(shifted(element, shift + Seq.shiftOf(list.elements, from)));
+                    }
+                    addChild(new ListAST(list, from + 1, shift));
+                }
+            }
+            return super.getChildren();
+        }
+    }
+
+    /**
+     * Returns the AST of a node of a shown tree, reusing what its nodes kept.
+     */
+    static ASTNode toAST(ParseTreeNode shown) {
+        if (shown instanceof ShiftedNode) {
+            ShiftedNode view = (ShiftedNode) shown;
+            return shifted(view.node.ast(), view.shift);
+        }
+        if (shown instanceof ListView) {
+            ListView view = (ListView) shown;
+            return new ListAST(view.list, view.from, view.shift);
+        }
+        if (shown instanceof ListNode) {
+            return new ListAST((ListNode) shown, 0, 0);
+        }
+        if (shown instanceof Node) {
+            return shifted(((Node) shown).ast(), 0);
+        }
+        return ASTNode.fromCST(shown, IncrementalTree::toAST);
+    }
+
+    // Returns a new view of an AST shown shift lines further down; lines of 0 stay 0
+    private static ASTNode shifted(ASTNode ast, int shift) {
+        if (ast == null) {
+            return null;
+        }
+        int lineNumber = ast.getLineNumber() > 0 ? ast.getLineNumber() + shift : 0;
+        if (ast instanceof ListAST) {
+            ListAST view = (ListAST) ast;
+            return new ListAST(view.list, view.from, view.shift + shift, lineNumber);
+        }
+        if (ast instanceof ShiftedAST) {
+            ShiftedAST view = (ShiftedAST) ast;
+            return new ShiftedAST(view.ast, view.shift + shift, lineNumber);
+        }
+        return new ShiftedAST(ast, shift, lineNumber);
+    }
+
+    // Returns the line of the first token of the elements of a list from index from on, or 0
+    private static int firstLine(ListNode list, int from, int shift) {
+        int index = Seq.countWithin(list.elements, Seq.leavesBefore(list.elements, from));
+        if (index >= list.size()) {
+            return 0;
+        }
+        return firstLine(Seq.get(list.elements, index), shift + Seq.shiftOf(list.elements, index));
+    }
+
+    private static int firstLine(Node node, int shift) {
+        while (node.getToken() == null) {
+            if (node instanceof ListNode) {
+                return firstLine((ListNode) node, 0, shift);
+            }
+            int i = 0;
+            while (i < node.childCount() && node.child(i).leafCount == 0) {
+                i++;
+            }
+            if (i == node.childCount()) {
+                return 0;
+            }
+            shift += node.childShift(i);
+            node = node.child(i);
+        }
+        return node.getToken().getLine() + shift;
+    }
+
+    /**
+     * Returns how a node that moved shift lines since it was built is shown.
+     */
+    static ParseTreeNode shifted(Node node, int shift) {
+        if (node instanceof ListNode) {
+            return shift == 0 ? node : new ListView((ListNode) node, 0, shift);
+        }
+        return shift == 0 ? node : new ShiftedNode(node, shift);
+    }
+
+    private static Token shifted(Token token, int shift) {
+        return token == null ? null : new Token(token.getType(), token.getLexeme(), token.getLine() + shift,
+                token.getPosition(), token.getId());
+    }
+
+    private static List<ParseTreeNode> shiftedChildren(Node node, int shift) {
+        List<ParseTreeNode> children = new ArrayList<>(node.childCount());
+        for (int i = 0; i < node.childCount(); i++) {
+            children.add(shifted(node.child(i), shift + node.childShift(i)));
+        }
+        return children;
+    }
+
+    // The children of the chain node for the elements of a list from index from on
+    private static List<ParseTreeNode> chainChildren(ListNode list, int from, int shift) {
+        List<ParseTreeNode> children = new ArrayList<>(2);
+        if (from < list.size()) {
+            children.add(shifted(Seq.get(list.elements, from), shift + Seq.shiftOf(list.elements, from)));
+            children.add(new ListView(list, from + 1, shift));
+        }
+        return children;
+    }
+}
@@ -1,14 +1,46 @@
 package project;
 
-import java.io.File;
+import java.io.Closeable;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import project.utils.lexer.IdentifierInterner;
+import project.utils.lexer.SourceBuffer;
+import project.utils.lexer.TokenBuffer;
 
-public class Lexer {
-    private String input;
-    private int index = 0, line = 1, position = 0;
+public class Lexer implements Closeable {
+    private final SourceBuffer input;
+    private int index = 0;
+    // The line holding the last offset looked up and the offsets it spans, see lineAt
+    private int lineCursor = 1, lineCursorStart = 0, lineCursorEnd = 0;
     private SymbolTable symbolTable;
+    private PrintStream out = System.out;
+    private IdentifierInterner interner = new IdentifierInterner();
+
+    // The scan methods describe the token they found here instead of allocating it,
+    // so nextToken(TokenBuffer) can store it without creating a Token
+    private TokenType tokenType;
+    private int tokenStart, tokenEnd; // lexeme slice, or -1 if the lexeme is not a slice
+    private String tokenText;         // the lexeme, if it has been built already
+    private int tokenId;              // the interned id of an identifier, or -1
+    private int tokenBegin;           // source index of the token's first character
+    private int tokenLine, tokenPosition;
+
+    // Set on the lexers of parallel chunks, which leave the symbol table and the
+    // escape warnings to the thread that stitches the chunks together
+    private Chunk chunk;
+
+    // The smallest chunk scanParallel hands to a thread; smaller sources are lexed on the calling thread
+    public static final int PARALLEL_CHUNK_SIZE = 1 << 20;
     private static final Map<String, TokenType> KEYWORDS = Map.ofEntries(
             Map.entry("start", TokenType.START), Map.entry("end", TokenType.END),
             Map.entry("if", TokenType.IF), Map.entry("otherwise", TokenType.OTHERWISE),
@@ -60,97 +92,261 @@ public class Lexer {
             ':', TokenType.COLON, '.', TokenType.DOT
     );
 
+    // Character classes of the ASCII range, derived from the tables above. Characters
+    // outside it fall back to the Character methods.
+    private static final int ASCII_LIMIT = 128;
+    private static final byte IDENT_START = 1;
+    private static final byte IDENT_PART = 2;
+    private static final byte DIGIT = 4;
+    private static final byte WHITESPACE = 8;
+    private static final byte OPERATOR = 16;
+    private static final byte SPECIAL = 32;
+    private static final byte[] CHAR_CLASSES = new byte[ASCII_LIMIT];
+    private static final TokenType[] SPECIAL_TYPES = new TokenType[ASCII_LIMIT];
+
+    // Keywords grouped by their first character, so a lexeme can be matched in place
+    private static final String[][] KEYWORDS_BY_CHAR = new String[ASCII_LIMIT][];
+
+    static {
+        for (char c = 0; c < ASCII_LIMIT; c++) {
+            byte charClass = 0;
+            if (Character.isLetter(c) || c == '_') charClass |= IDENT_START | IDENT_PART;
+            if (Character.isDigit(c)) charClass |= DIGIT | IDENT_PART;
+            if (Character.isWhitespace(c)) charClass |= WHITESPACE;
+            if (OPERATORS.containsKey(String.valueOf(c))) charClass |= OPERATOR;
+            if (SPECIAL_SYMBOLS.containsKey(c)) {
+                charClass |= SPECIAL;
+                SPECIAL_TYPES[c] = SPECIAL_SYMBOLS.get(c);
+            }
+            CHAR_CLASSES[c] = charClass;
+        }
+        for (String keyword : KEYWORDS.keySet()) {
+            char first = keyword.charAt(0);
+            String[] group = KEYWORDS_BY_CHAR[first];
+            group = group == null ? new String[1] : Arrays.copyOf(group, group.length + 1);
+            group[group.length - 1] = keyword;
+            KEYWORDS_BY_CHAR[first] = group;
+        }
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return c < ASCII_LIMIT ? (CHAR_CLASSES[c] & IDENT_START) != 0 : Character.isLetter(c);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return c < ASCII_LIMIT ? (CHAR_CLASSES[c] & IDENT_PART) != 0 : Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isLetter(char c) {
+        return c < ASCII_LIMIT ? (CHAR_CLASSES[c] & IDENT_START) != 0 && c != '_' : Character.isLetter(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c < ASCII_LIMIT ? (CHAR_CLASSES[c] & DIGIT) != 0 : Character.isDigit(c);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c < ASCII_LIMIT ? (CHAR_CLASSES[c] & WHITESPACE) != 0 : Character.isWhitespace(c);
+    }
+
     public Lexer(String filePath, SymbolTable symbolTable) throws FileNotFoundException {
-        this.input = readFileContent(filePath);
+        this(openFile(filePath), symbolTable);
+    }
+
+    /**
+     * Lexes a file through its channel; large files are memory-mapped.
+     */
+    public Lexer(FileChannel channel, Charset charset, SymbolTable symbolTable) throws IOException {
+        this(SourceBuffer.of(channel, charset), symbolTable);
+    }
+
+    /**
+     * Lexes the characters of a reader as they are read.
+     */
+    public Lexer(Reader reader, SymbolTable symbolTable) {
+        this(SourceBuffer.of(reader), symbolTable);
+    }
+
+    /**
+     * Lexes a byte stream, for example a program piped through System.in.
+     */
+    public Lexer(InputStream in, Charset charset, SymbolTable symbolTable) {
+        this(SourceBuffer.of(in, charset), symbolTable);
+    }
+
+    public Lexer(SourceBuffer input, SymbolTable symbolTable) {
+        this.input = input;
         this.symbolTable = symbolTable;
     }
 
-    private String readFileContent(String filePath) throws FileNotFoundException {
-        File file = new File(filePath);
-        StringBuilder content = new StringBuilder();
+    private static SourceBuffer openFile(String filePath) throws FileNotFoundException {
+        try {
+            return SourceBuffer.open(Paths.get(filePath), Charset.defaultCharset());
+        } catch (IOException e) {
+            FileNotFoundException notFound = new FileNotFoundException(filePath);
+            notFound.initCause(e);
+            throw notFound;
+        }
+    }
+
+    // Records a token whose lexeme is input[start, end). A token's column is where
+    // it begins and its line is the one the lexer has reached at its end.
+    private TokenType slice(TokenType type, int start, int end, String lexeme) {
+        tokenType = type;
+        tokenStart = start;
+        tokenEnd = end;
+        tokenText = lexeme;
+        tokenId = -1;
+        tokenPosition = columnAt(tokenBegin);
+        tokenLine = lineAt(index);
+        return type;
+    }
+
+    // Records an operator or symbol made of the last length characters
+    private TokenType symbol(TokenType type, int length) {
+        return slice(type, index - length, index, null);
+    }
+
+    // Records a token whose lexeme is not a slice of the input
+    private TokenType text(TokenType type, String lexeme) {
+        int column = columnAt(tokenBegin);
+        return text(type, lexeme, lineAt(index), column);
+    }
 
-        try (Scanner scanner = new Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                content.append(scanner.nextLine()).append("\n");
+    // Same as text(type, lexeme), for a token reported on another line
+    private TokenType text(TokenType type, String lexeme, int lexemeLine, int column) {
+        tokenType = type;
+        tokenStart = -1;
+        tokenEnd = -1;
+        tokenText = lexeme;
+        tokenId = -1;
+        tokenLine = lexemeLine;
+        tokenPosition = column;
+        return type;
+    }
+
+    /**
+     * Returns the line of an offset the lexer has read past. Tokens are looked up
+     * in source order, so this steps a cursor forward through the source's table
+     * of line starts and only searches it when the lexer has been moved back.
+     */
+    private int lineAt(int offset) {
+        if (offset >= lineCursorStart && offset < lineCursorEnd) {
+            return lineCursor;
+        }
+        int cursor = lineCursor;
+        if (offset < lineCursorStart) {
+            cursor = input.lineOf(offset);
+        } else {
+            int count = input.lineCount();
+            while (cursor < count && input.lineStart(cursor + 1) <= offset) {
+                cursor++;
             }
         }
-        return content.toString();
+        lineCursor = cursor;
+        lineCursorStart = input.lineStart(cursor);
+        // Where the line ends may not be decoded yet; then the next lookup checks again
+        lineCursorEnd = cursor < input.lineCount() ? input.lineStart(cursor + 1) : lineCursorStart;
+        return cursor;
+    }
+
+    private int columnAt(int offset) {
+        lineAt(offset);
+        return offset - lineCursorStart;
     }
 
     private char peek() {
-        return (index < input.length()) ? input.charAt(index) : '\0';
+        return input.charAt(index);
     }
 
     //n lookahead
     private char peek(int n) {
-        return (index + n < input.length()) ? input.charAt(index + n) : '\0';
+        return input.charAt(index + n);
     }
 
     private char advance() {
         char c = peek();
         index++;
-        position++;
-        if (c == '\n') {
-            line++;
-            position = 0;
-        }
-
         return c;
     }
 
     private void skipWhitespace() {
-        while (Character.isWhitespace(peek())) advance();
+        index = input.skipWhitespace(index);
+        while (isWhitespace(peek())) advance();
     }
 
     //MADE BY: NGAN
-    private Token scanIdentifierOrKeyword() {
-        int startPos = position;
+    private TokenType scanIdentifierOrKeyword() {
         int startIdx = index;
         char firstChar = peek();
 
         // S1: Check if the first character is not a letter or an underscore
-        if (!(Character.isLetter(firstChar) || firstChar == '_')) {
+        if (!isIdentifierStart(firstChar)) {
             advance();
             String lexeme = input.substring(startIdx, index);
-            return new Token(TokenType.ERROR, "Invalid token: "+lexeme, line, startPos);
+            return text(TokenType.ERROR, "Invalid token: "+lexeme);
         }
 
         // S2: Continue scanning if the first character is valid
         advance();
-        while (Character.isLetterOrDigit(peek()) || peek() == '_') {
+        index = input.skipIdentifierPart(index);
+        while (isIdentifierPart(peek())) {
             advance();
         }
 
-        String lexeme = input.substring(startIdx, index);
-
         // S3: Check if the lexeme is a keyword, otherwise classify it as an identifier
-        TokenType type = KEYWORDS.getOrDefault(lexeme, TokenType.IDENTIFIER);
+        String keyword = matchKeyword(startIdx, index - startIdx);
+        if (keyword != null) {
+            return slice(KEYWORDS.get(keyword), startIdx, index, keyword);
+        }
+        int known = interner.size();
+        int id = interner.intern(input, startIdx, index);
+        String lexeme = interner.getName(id);
+        TokenType type = TokenType.IDENTIFIER;
 
         // Add identifier to symbol table if it's not a keyword
-        if (type == TokenType.IDENTIFIER && !symbolTable.containsIdentifier(lexeme)) {
+        if (chunk != null) {
+            if (id == known) {
+                chunk.noteIdentifier(chunk.tokens.size(), id);
+            }
+        } else if (type == TokenType.IDENTIFIER && !symbolTable.containsIdentifier(lexeme)) {
             symbolTable.addIdentifier(lexeme, type,null);
         }
 
-        return new Token(type, lexeme, line, startPos);
+        slice(type, startIdx, index, lexeme);
+        tokenId = id;
+        return type;
+    }
+
+    // Returns the keyword spelled by input[start, start + length), or null if there is none
+    private String matchKeyword(int start, int length) {
+        char first = input.charAt(start);
+        String[] group = first < ASCII_LIMIT ? KEYWORDS_BY_CHAR[first] : null;
+        if (group == null) return null;
+        for (String keyword : group) {
+            if (keyword.length() == length && input.regionMatches(start, keyword)) {
+                return keyword;
+            }
+        }
+        return null;
     }
 
     //Assigned to Ansel | EDITED BY: NGAN
-    private Token scanNumber() {
-        int startPos = position;
+    private TokenType scanNumber() {
         int startIdx = index;
         boolean isDecimal = false;
         boolean hasDigitBeforeDot = false;
         boolean hasDigitAfterDot = false;
     
-        while (Character.isDigit(peek()) || peek() == '.') {
+        while (isDigit(peek()) || peek() == '.') {
             if (peek() == '.') {
                 if (isDecimal) {
                     // Second dot encountered, return error
-                    while (!Character.isWhitespace(peek())) {
+                    while (!isWhitespace(peek()) && peek() != '\0') {
                         advance();
                     }
                     String lexeme = input.substring(startIdx, index);
-                    return new Token(TokenType.ERROR, "Invalid decimal: " + lexeme, line, startPos);
+                    return text(TokenType.ERROR, "Invalid decimal: " + lexeme);
                 }
                 isDecimal = true;
                 advance(); // Consume the dot
@@ -165,12 +361,12 @@ public class Lexer {
         }
     
         // Check for invalid characters after the number
-        if (Character.isLetter(peek())) {
-            while (!Character.isWhitespace(peek()) && peek() != '\0') {
+        if (isLetter(peek())) {
+            while (!isWhitespace(peek()) && peek() != '\0') {
                 advance();
             }
             String lexeme = input.substring(startIdx, index);
-            return new Token(TokenType.ERROR, "Invalid token: " + lexeme, line, startPos);
+            return text(TokenType.ERROR, "Invalid token: " + lexeme);
         }
     
         // Handle cases like ".123" and "1."
@@ -178,38 +374,44 @@ public class Lexer {
             if (!hasDigitBeforeDot && !hasDigitAfterDot) {
                 // Both before and after dot are missing, e.g., "."
                 String lexeme = input.substring(startIdx, index);
-                return new Token(TokenType.ERROR, "Invalid number: " + lexeme, line, startPos);
+                return text(TokenType.ERROR, "Invalid number: " + lexeme);
             } else if (!hasDigitBeforeDot) {
                 // Case like ".123", treat as "0.123"
                 String lexeme = "0" + input.substring(startIdx, index);
-                return new Token(TokenType.DECIMAL, lexeme, line, startPos);
+                return text(TokenType.DECIMAL, lexeme);
             } else if (!hasDigitAfterDot) {
                 // Case like "1.", return error
                 String lexeme = input.substring(startIdx, index);
-                return new Token(TokenType.ERROR, "Invalid decimal: " + lexeme, line, startPos);
+                return text(TokenType.ERROR, "Invalid decimal: " + lexeme);
             }
         }
     
         // Return the appropriate token type
-        String lexeme = input.substring(startIdx, index);
         TokenType type = isDecimal ? TokenType.DECIMAL : TokenType.NUMBER;
-        return new Token(type, lexeme, line, startPos);
+        return slice(type, startIdx, index, null);
     }
     
 
     //MADE BY: SIMON
-    private Token scanText() {
-        int startPos = position;
-        String lexeme = "";
+    private TokenType scanText() {
+        // Literals without escapes are taken as one slice of the input; the builder
+        // is only created once a backslash shows up.
+        StringBuilder escaped = null;
         boolean warningIssued = false;
 
         advance(); // Skip opening quote
+        int sliceStart = index;
 
         // S1: Process characters until closing quote or end of input
         while (peek() != '"' && peek() != '\0') {
             char current = peek();
 
             if (current == '\\') {
+                if (escaped == null) {
+                    escaped = new StringBuilder(index - sliceStart + 16);
+                }
+                input.appendTo(escaped, sliceStart, index);
+
                 // DFA Transition: S1 -> S2 on backslash
                 advance(); // Consume '\\'
                 char escapeChar = peek();
@@ -217,54 +419,67 @@ public class Lexer {
                 // Check for end of input after backslash (possible invalid escape sequence)
                 if (escapeChar == '\0') {
                     warningIssued = true;
-                    lexeme += '\\'; // Treat lone backslash as literal
+                    escaped.append('\\'); // Treat lone backslash as literal
+                    sliceStart = index;
                     break;
                 }
 
                 // DFA State: S2 - Handle escape sequences
                 switch (escapeChar) {
                     case 'n':
-                        lexeme += '\n';
+                        escaped.append('\n');
                         break;
                     case 't':
-                        lexeme += '\t';
+                        escaped.append('\t');
                         break;
                     case '"':
-                        lexeme += '"';
+                        escaped.append('"');
                         break;
                     case '\\':
-                        lexeme += '\\';
+                        escaped.append('\\');
                         break;
                     default:
                         warningIssued = true; // Issue warning for invalid escape sequences
-                        lexeme += "\\" + escapeChar; // Include unknown escape sequence as-is
+                        escaped.append('\\').append(escapeChar); // Include unknown escape sequence as-is
                         break;
                 }
                 advance(); // Consume escape character
+                sliceStart = index;
             } else {
                 // DFA Transition: S1 -> S1 on valid character (except '"' and '\\')
-                lexeme += current;
                 advance();
             }
         }
 
+        int sliceEnd = index;
+        String lexeme = escaped == null ? null : input.appendTo(escaped, sliceStart, sliceEnd).toString();
+
         // End condition: Closing quote reached -> S1 -> Text
         if (peek() == '"') {
             advance(); // Consume closing quote
             if (warningIssued) {
-                System.out.println("Warning: Possible invalid escape sequence in string literal at line " + line + ".");
+                if (chunk != null) {
+                    chunk.deferWarning();
+                } else {
+                    printEscapeWarning(lineAt(index));
+                }
+            }
+            if (lexeme == null) {
+                return slice(TokenType.TEXT, sliceStart, sliceEnd, null);
             }
-            return new Token(TokenType.TEXT, lexeme, line, startPos);
+            return text(TokenType.TEXT, lexeme);
         }
 
         // Error: Unterminated string literal
-        return new Token(TokenType.ERROR, "Unterminated string literal: "+ lexeme, line, startPos);
+        if (lexeme == null) {
+            lexeme = input.substring(sliceStart, sliceEnd);
+        }
+        return text(TokenType.ERROR, "Unterminated string literal: "+ lexeme);
     }
 
     //Assign to  Jules
-    private Token scanComment() {
-        int startPos = position;
-        int startLine = line;
+    private TokenType scanComment() {
+        int startLine = lineAt(index);
     
         // Check if it's a multi-line comment
         if (peek() == '/' && peek(1) == '*') {
@@ -273,9 +488,11 @@ public class Lexer {
     
             // Scan until the end of the multi-line comment
             while (true) {
+                index = input.skipCommentBody(index);
                 if (peek() == '\0') {
                     // End of input reached without closing the comment
-                    return new Token(TokenType.ERROR, "Unterminated multi-line comment" + startLine, startLine, startPos);
+                    return text(TokenType.ERROR, "Unterminated multi-line comment" + startLine, startLine,
+                            columnAt(tokenBegin));
                 }
     
                 if (peek() == '*' && peek(1) == '/') {
@@ -287,17 +504,18 @@ public class Lexer {
                 advance(); // Consume the current character
             }
     
-            return new Token(TokenType.MCOMMENT, "", line, startPos);
+            return text(TokenType.MCOMMENT, "");
         } else {
             // Single-line comment
+            index = input.skipLine(index);
             while (peek() != '\n' && peek() != '\0') {
                 advance();
             }
-            return new Token(TokenType.SCOMMENT, "", line, startPos);
+            return text(TokenType.SCOMMENT, "");
         }
     }
     //Assigned to Mark Jason
-    private Token scanOperatorOrSpecialSymbol() {
+    private TokenType scanOperatorOrSpecialSymbol() {
         char firstChar = peek();
         // Check for multi-character operators first
         switch (firstChar) {
@@ -305,74 +523,74 @@ public class Lexer {
                 advance();
                 if (peek() == '=') {
                     advance();
-                    return new Token(TokenType.NEQ, "!=", line, position - 2);
+                    return symbol(TokenType.NEQ, 2);
                 } else {
-                    return new Token(TokenType.S_NOT, "!", line, position - 1);
+                    return symbol(TokenType.S_NOT, 1);
                 }
             case '+':
                 advance();
                 if (peek() == '=') {
                     advance();
-                    return new Token(TokenType.PLUS_ASSIGN, "+=", line, position - 2);
+                    return symbol(TokenType.PLUS_ASSIGN, 2);
                 } else {
-                    return new Token(TokenType.PLUS, "+", line, position - 1);
+                    return symbol(TokenType.PLUS, 1);
                 }
             case '-':  
                 advance();
                 if (peek() == '=') {
                     advance();
-                    return new Token(TokenType.MINUS_ASSIGN, "-=", line, position - 2);
+                    return symbol(TokenType.MINUS_ASSIGN, 2);
                 } else {
-                    return new Token(TokenType.MINUS, "-", line, position - 1);
+                    return symbol(TokenType.MINUS, 1);
                 }
             case '=':
                 advance();
                 if (peek() == '=') {
                     advance();
-                    return new Token(TokenType.EQ, "==", line, position - 2);
+                    return symbol(TokenType.EQ, 2);
                 } else {
-                    return new Token(TokenType.ASSIGN, "=", line, position - 1);
+                    return symbol(TokenType.ASSIGN, 1);
                 }
             case '<':
                 advance();
                 if (peek() == '=') {
                     advance();
-                    return new Token(TokenType.LEQ, "<=", line, position - 2);
+                    return symbol(TokenType.LEQ, 2);
                 } else if (peek() == '<') {
                     advance();
-                    return new Token(TokenType.LSHIFT, "<<", line, position - 2);
+                    return symbol(TokenType.LSHIFT, 2);
                 } else {
-                    return new Token(TokenType.LT, "<", line, position - 1);
+                    return symbol(TokenType.LT, 1);
                 }
             case '>':
                 advance();
                 if (peek() == '=') {
                     advance();
-                    return new Token(TokenType.GEQ, ">=", line, position - 2);
+                    return symbol(TokenType.GEQ, 2);
                 } else if (peek() == '>') {
                     advance();
-                    return new Token(TokenType.RSHIFT, ">>", line, position - 2);
+                    return symbol(TokenType.RSHIFT, 2);
                 } else {
-                    return new Token(TokenType.GT, ">", line, position - 1);
+                    return symbol(TokenType.GT, 1);
                 }
             case '&':
                 advance();
-                return new Token(TokenType.BITWISE_AND, "&", line, position - 1);
+                return symbol(TokenType.BITWISE_AND, 1);
             case '|':
                 advance();
-                return new Token(TokenType.BITWISE_OR, "|", line, position - 1);
+                return symbol(TokenType.BITWISE_OR, 1);
             case '*':
                 advance();
                 if (peek() == '*') {
                     advance();
-                    return new Token(TokenType.EXPONENT, "**", line, position - 2);
+                    return symbol(TokenType.EXPONENT, 2);
                 } 
                 if(peek() == '=') {
                     advance();
-                    return new Token(TokenType.MULT_ASSIGN, "*=", line, position - 2);
+                    return symbol(TokenType.MULT_ASSIGN, 2);
                 }
                 else {
-                    return new Token(TokenType.MULT, "*", line, position - 1);
+                    return symbol(TokenType.MULT, 1);
                 }
             case '/':
                 if (peek() == '/' && peek(2) == '/') {
@@ -380,52 +598,52 @@ public class Lexer {
                     advance(); // Consume first '/'
                     advance(); // Consume second '/'
                     advance(); // Consume third '/'
-                    return new Token(TokenType.FLOOR_DIV, "///", line, position - 3);
+                    return symbol(TokenType.FLOOR_DIV, 3);
                 } else if (peek(1) == '/' || peek(1) == '*') {
                     // Check for comments
                     return scanComment();
                 }
                 // Handle single '/' as division or other operators if applicable
                 advance();
-                return new Token(TokenType.DIV, "/", line, position - 1);
+                return symbol(TokenType.DIV, 1);
             case '%':
                 advance();
-                return new Token(TokenType.MOD, "%", line, position - 1);
+                return symbol(TokenType.MOD, 1);
             case '^':
                 advance();
-                return new Token(TokenType.BITWISE_XOR, "^", line, position - 1);
+                return symbol(TokenType.BITWISE_XOR, 1);
             case '~':
                 advance();
-                return new Token(TokenType.BITWISE_NOT, "~", line, position - 1);
+                return symbol(TokenType.BITWISE_NOT, 1);
             default:
                 // Check for special symbols
-                if (SPECIAL_SYMBOLS.containsKey(firstChar)) {
+                if (firstChar < ASCII_LIMIT && SPECIAL_TYPES[firstChar] != null) {
                     advance();
-                    return new Token(SPECIAL_SYMBOLS.get(firstChar), String.valueOf(firstChar), line, position - 1);
+                    return symbol(SPECIAL_TYPES[firstChar], 1);
                 } else {
                     // If no match, return an error token
                     advance();
-                    return new Token(TokenType.ERROR, String.valueOf(firstChar), line, position - 1);
+                    return symbol(TokenType.ERROR, 1);
                 }
         }
     }
 
     //Assigned to Aaron
-    private Token scanTokenUsingDFA() {
+    private TokenType scanTokenUsingDFA() {
         char currentChar = peek();
     
         // Handle identifiers or keywords
-        if (Character.isLetter(currentChar) || currentChar == '_') {
+        if (isIdentifierStart(currentChar)) {
             return scanIdentifierOrKeyword();
         }
     
         // Handle numbers
-        if (Character.isDigit(currentChar)) {
+        if (isDigit(currentChar)) {
             return scanNumber();
         }
     
         // Handle floating-point numbers starting with a dot
-        if (currentChar == '.' && Character.isDigit(peek(1))) {
+        if (currentChar == '.' && isDigit(peek(1))) {
             return scanNumber();
         }
     
@@ -435,7 +653,7 @@ public class Lexer {
         }
     
         // Handle operators or special symbols (including floor division)
-        if (OPERATORS.containsKey(String.valueOf(currentChar)) || SPECIAL_SYMBOLS.containsKey(currentChar)) {
+        if (currentChar < ASCII_LIMIT && (CHAR_CLASSES[currentChar] & (OPERATOR | SPECIAL)) != 0) {
             return scanOperatorOrSpecialSymbol();
         }
     
@@ -448,18 +666,314 @@ public class Lexer {
     
         // Handle unrecognized tokens
         advance();
-        return new Token(TokenType.ERROR, "Unrecognized token: " + String.valueOf(currentChar), line, position - 1);
+        return text(TokenType.ERROR, "Unrecognized token: " + String.valueOf(currentChar));
     }
 
     public Token nextToken() {
+        scan();
+        String lexeme = tokenText != null ? tokenText : input.substring(tokenStart, tokenEnd);
+        return new Token(tokenType, lexeme, tokenLine, tokenPosition, tokenId);
+    }
+
+    /**
+     * Scans the next token into a token buffer without creating a Token object.
+     * 
+     * @return The index of the token in the buffer
+     */
+    public int nextToken(TokenBuffer buffer) {
+        scan();
+        return store(buffer);
+    }
+
+    // Appends the token the last scan found to a buffer
+    private int store(TokenBuffer buffer) {
+        if (tokenStart < 0) {
+            return buffer.add(tokenType, tokenText, tokenLine, tokenPosition);
+        }
+        return buffer.add(tokenType, tokenStart, tokenEnd - tokenStart, tokenLine, tokenPosition, tokenId);
+    }
+
+    private void printEscapeWarning(int line) {
+        out.println("Warning: Possible invalid escape sequence in string literal at line " + line + ".");
+    }
+
+    /**
+     * Scans the rest of the source into a token buffer, up to and including EOF,
+     * lexing chunks of a large source in parallel on the given pool.
+     *
+     * Every chunk but the first starts right after a newline, and lines and columns
+     * come from the source's table of line starts. A newline can still be
+     * inside a text literal or a multi-line comment, so the chunks are checked while
+     * they are stitched together: a chunk is taken from the first token after which
+     * its lexer is at the same source index as the sequential lexer would be, and
+     * a chunk that never gets there is lexed again from that index. The buffer ends
+     * up exactly as if nextToken had been called until EOF, and identifiers reach
+     * the symbol table, and escape warnings the console, in source order.
+     *
+     * @return The number of tokens added, including EOF
+     */
+    public int scanParallel(TokenBuffer buffer, ForkJoinPool pool) {
+        return scanParallel(buffer, pool, PARALLEL_CHUNK_SIZE);
+    }
+
+    /**
+     * Same as scanParallel(buffer, pool), with chunks of at least minChunkSize characters.
+     */
+    public int scanParallel(TokenBuffer buffer, ForkJoinPool pool, int minChunkSize) {
+        int before = buffer.size();
+        int length = input.length(); // decodes the whole source, so every thread can read it
+        int chunkCount = (int) Math.min(pool.getParallelism() * 4L, (length - index) / minChunkSize);
+        if (chunkCount < 2) {
+            while (buffer.getType(nextToken(buffer)) != TokenType.EOF) {
+                // keep scanning
+            }
+            return buffer.size() - before;
+        }
+
+        // Chunk k covers [starts[k], starts[k + 1])
+        int[] starts = new int[chunkCount + 1];
+        starts[0] = index;
+        starts[chunkCount] = length;
+        for (int k = 1; k < chunkCount; k++) {
+            int split = Math.max(index + (int) ((long) (length - index) * k / chunkCount), starts[k - 1]);
+            while (split < length && input.charAt(split - 1) != '\n') {
+                split++;
+            }
+            starts[k] = split;
+        }
+
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunkCount];
+        Chunk[] chunks = new Chunk[chunkCount];
+        for (int k = 0; k < chunkCount; k++) {
+            int chunkIndex = k;
+            Lexer lexer = chunkLexer(starts[k]);
+            tasks[k] = pool.submit(() -> {
+                chunks[chunkIndex] = lexer.scanChunk(starts[chunkIndex + 1]);
+            });
+        }
+        joinAll(tasks);
+
+        // This lexer follows the stitched tokens, so its state is the sequential lexer's
+        for (int k = 0; k < chunkCount; k++) {
+            Chunk next = chunks[k];
+            chunks[k] = null;
+            int first = 0;
+            if (index > starts[k]) {
+                // The previous token ran into this chunk
+                int match = Arrays.binarySearch(next.ends, 0, next.tokens.size(), index);
+                if (match >= 0) {
+                    first = match + 1;
+                } else {
+                    next = chunkLexer(index).scanChunk(starts[k + 1]);
+                }
+            }
+            adopt(next, first, buffer);
+        }
+        nextToken(buffer); // only whitespace is left before EOF
+        return buffer.size() - before;
+    }
+
+    private static void joinAll(ForkJoinTask<?>[] tasks) {
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    private Lexer chunkLexer(int start) {
+        Lexer lexer = new Lexer(input, null);
+        lexer.index = start;
+        lexer.chunk = new Chunk(input, lexer.interner);
+        return lexer;
+    }
+
+    // Scans the tokens that start before limit into this lexer's chunk
+    private Chunk scanChunk(int limit) {
+        while (true) {
+            skipWhitespace();
+            if (index >= limit || input.isEnd(index)) {
+                return chunk;
+            }
+            tokenBegin = index;
+            scanTokenUsingDFA();
+            chunk.add(this);
+        }
+    }
+
+    // Appends the tokens of a chunk from first on, replaying their side effects in
+    // order, and moves this lexer to where the chunk's lexer stopped after them
+    private void adopt(Chunk chunk, int first, TokenBuffer buffer) {
+        int count = chunk.tokens.size();
+        if (first == count) {
+            return;
+        }
+        if (first > 0) {
+            chunk.collectIdentifiers(first);
+        }
+        int warning = 0;
+        while (warning < chunk.warningCount && chunk.warnings[warning] < first) {
+            warning++;
+        }
+        // The chunk's lexer numbered identifiers on its own; they get this lexer's ids
+        // in the order they first occur, as if they had been scanned here
+        int[] ids = new int[chunk.names.size()];
+        int identifier = 0;
+        while (identifier < chunk.identifierCount || warning < chunk.warningCount) {
+            if (warning == chunk.warningCount || (identifier < chunk.identifierCount
+                    && chunk.identifierTokens[identifier] < chunk.warnings[warning])) {
+                int local = chunk.identifierIds[identifier++];
+                String lexeme = chunk.names.getName(local);
+                ids[local] = interner.intern(lexeme);
+                if (!symbolTable.containsIdentifier(lexeme)) {
+                    symbolTable.addIdentifier(lexeme, TokenType.IDENTIFIER, null);
+                }
+            } else {
+                printEscapeWarning(lineAt(chunk.ends[chunk.warnings[warning++]]));
+            }
+        }
+        int from = buffer.size();
+        buffer.append(chunk.tokens, first, count);
+        buffer.mapIds(from, ids);
+        index = chunk.ends[count - 1];
+    }
+
+    // The tokens of one parallel chunk, the lexer's index after each of them and the
+    // side effects left for the stitching thread
+    private static final class Chunk {
+        final TokenBuffer tokens;
+        int[] ends = new int[1024];
+
+        // Tokens whose escape warning has not been printed
+        int[] warnings = new int[4];
+        int warningCount;
+
+        // The first occurrence of each identifier in the chunk, by the chunk lexer's ids
+        final IdentifierInterner names;
+        int[] identifierTokens = new int[64];
+        int[] identifierIds = new int[64];
+        int identifierCount;
+
+        Chunk(SourceBuffer input, IdentifierInterner names) {
+            tokens = new TokenBuffer(input);
+            this.names = names;
+        }
+
+        void add(Lexer lexer) {
+            int token = lexer.store(tokens);
+            if (token == ends.length) {
+                ends = Arrays.copyOf(ends, token * 2);
+            }
+            ends[token] = lexer.index;
+        }
+
+        // Called before the warned-about token is added
+        void deferWarning() {
+            if (warningCount == warnings.length) {
+                warnings = Arrays.copyOf(warnings, warningCount * 2);
+            }
+            warnings[warningCount++] = tokens.size();
+        }
+
+        void noteIdentifier(int token, int id) {
+            if (identifierCount == identifierTokens.length) {
+                identifierTokens = Arrays.copyOf(identifierTokens, identifierCount * 2);
+                identifierIds = Arrays.copyOf(identifierIds, identifierCount * 2);
+            }
+            identifierTokens[identifierCount] = token;
+            identifierIds[identifierCount++] = id;
+        }
+
+        // Redoes the first occurrences for the tokens from first on, when the start of the chunk is dropped
+        void collectIdentifiers(int first) {
+            boolean[] seen = new boolean[names.size()];
+            identifierCount = 0;
+            for (int i = first; i < tokens.size(); i++) {
+                int id = tokens.getId(i);
+                if (id >= 0 && !seen[id]) {
+                    seen[id] = true;
+                    noteIdentifier(i, id);
+                }
+            }
+        }
+    }
+
+    private void scan() {
         skipWhitespace();
-        if (index >= input.length()) return new Token(TokenType.EOF, "EOF", line, position);
-        return scanTokenUsingDFA();
+        tokenBegin = index;
+        if (input.isEnd(index)) {
+            text(TokenType.EOF, "EOF");
+        } else {
+            scanTokenUsingDFA();
+        }
+    }
+
+    /**
+     * Sets where the lexer prints its warnings, System.out by default. Lexers
+     * running on different threads need their own.
+     */
+    public void setOutput(PrintStream out) {
+        this.out = out;
     }
+
+    /**
+     * Returns the source text being lexed.
+     */
+    public SourceBuffer getSource() {
+        return input;
+    }
+
+    /**
+     * Closes the rest of the source, for a caller that stops before EOF. The
+     * tokens scanned so far keep their text and positions.
+     */
+    @Override
+    public void close() {
+        input.close();
+    }
+
+    /**
+     * Moves the lexer to a token boundary of its source, so scanning can resume
+     * after a token without starting over.
+     */
+    public void seek(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns the interner that numbers this lexer's identifiers. The ids on its
+     * tokens, and on AST nodes built from them, are ids of this interner.
+     */
+    public IdentifierInterner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Numbers identifiers with another interner from now on, such as the one of an
+     * earlier lexer over the same program, so their ids stay the same.
+     */
+    public void setInterner(IdentifierInterner interner) {
+        this.interner = interner;
+    }
+
+    /// Returns the source index the next token is scanned from.
+    public int getIndex() {
+        return index;
+    }
+
+    /// Returns the line of getIndex(), found in the source's table of line starts.
+    public int getLine() {
+        return lineAt(index);
+    }
+
+    /// Returns the column of getIndex() in its line.
+    public int getPosition() {
+        return columnAt(index);
+    }
+
     public void reset() {
         // Reset position trackers
         this.index = 0;
-        this.line = 1;
-        this.position = 0;
+        this.lineCursor = 1;
+        this.lineCursorStart = 0;
+        this.lineCursorEnd = 0;
     }
 }
\ No newline at end of file
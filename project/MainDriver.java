@@ -15,6 +15,8 @@ public class MainDriver {
         try {
             Lexer lexer = new Lexer(filePath, lexicalSymbolTable);
             Parser parser = new Parser(lexer);
+            parser.setTraceEnabled(true);
+            parser.setTreeMode(Parser.TreeMode.ARENA);
 
             System.out.println("\nLexer Tokens:");
             parser.printTokens();
@@ -36,6 +38,7 @@ public class MainDriver {
            
 
             System.out.println("\nInterpreting...");
+            symbolTable.setInterner(lexer.getInterner());
             InterpreterN interpreter = new InterpreterN(symbolTable,false);
             interpreter.interpret(parseTree);
 
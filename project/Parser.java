@@ -1,14 +1,22 @@
 package project;
 
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.Stack;
-import project.ParsingTableGenerator.GrammarProduction;
+import java.util.concurrent.ForkJoinPool;
+import project.utils.lexer.TokenBuffer;
+import project.utils.lexer.TokenStream;
+import project.utils.parser.ASTBuilder;
+import project.utils.parser.ASTNode;
+import project.utils.parser.IntStack;
+import project.utils.parser.ParseTableCache;
+import project.utils.parser.ParseTreeArena;
 import project.utils.parser.ParseTreeNode;
 
 /**
@@ -16,16 +24,53 @@ import project.utils.parser.ParseTreeNode;
  * Uses shift-reduce parsing with action and goto tables generated from a grammar.
  */
 public class Parser {
-    private Lexer lexer;
-    private Token currentToken;
-    private Stack<Integer> stateStack;
-    private Stack<String> symbolStack;
+    private final TokenStream stream;
+    private final TokenBuffer tokens;
+    private int current; // index of the lookahead token in tokens
+    private final IntStack stateStack = new IntStack();
     private String inputGrammar = "GrammarProgrammer/expanded.txt";
-    private final Stack<ParseTreeNode> treeStack = new Stack<>();
-    private final ParserOutputFormatter outputFormatter = new ParserOutputFormatter();
+    private final ArrayDeque<ParseTreeNode> treeStack = new ArrayDeque<>();
+    private final GrammarTables tables;
+    private final ParserOutputFormatter outputFormatter;
+    private PrintStream out = System.out;
     private final List<String> originalErrors = new ArrayList<>(); 
     private final List<String> errorMessages = new ArrayList<>();
-    private Token lastErrorToken = null;
+    private int lastErrorToken = -1;
+    private final IntStack errorTokens = new IntStack(); // token index of each reported error
+    private boolean accepted;
+    // Whether reductions may jump past unit reductions, see reduce(); only until the first error
+    private boolean bypassUnits;
+    private TreeMode treeMode = TreeMode.PARSE_TREE;
+    private final ASTBuilder astBuilder;
+    private final ParseTreeArena treeArena;
+    private ForkJoinPool lexingPool;
+    private boolean pipelinedLexing;
+    private boolean directCoded = Boolean.getBoolean(DIRECT_CODED_PROPERTY);
+
+    // System property that turns on setDirectCoded for every parser
+    public static final String DIRECT_CODED_PROPERTY = "upspyre.directParser";
+
+    /**
+     * What the parser builds while reducing. PARSE_TREE keeps the full parse tree
+     * (needed for the parse tree image); ARENA keeps the same tree in a
+     * ParseTreeArena and hands out ParseTreeNode views of it; AST builds the AST
+     * straight from the reductions and skips the parse tree and the
+     * ASTNode.fromCST pass.
+     */
+    public enum TreeMode {
+        PARSE_TREE,
+        ARENA,
+        AST
+    }
+
+    // Limit on errors, counting repeats at one position, to prevent infinite loops
+    static final int MAX_ERRORS = 40;
+
+    // Tokens tried by phrase-level recovery when one of them is missing
+    static final TokenType[] RECOVERY_TOKENS = {
+            TokenType.SEMI,
+            TokenType.RPAREN,
+            TokenType.COMMA};
 
     // Tokens to be ignored during parsing (comments)
     private static final Set<TokenType> TOKENS_TO_IGNORE = Set.of(
@@ -37,30 +82,109 @@ public class Parser {
      * @param lexer The lexer to provide tokens for parsing
      */
     public Parser(Lexer lexer) {
-        this.lexer = lexer;
-        this.currentToken = lexer.nextToken(); // Initialize with the first token
-        this.stateStack = new Stack<>();
-        this.symbolStack = new Stack<>();
+        this.stream = new TokenStream(lexer);
+        this.tokens = stream.getBuffer();
+        this.current = stream.current(); // Initialize with the first token
         stateStack.push(0); // Start state
 
-        // Load parsing table from grammar file
-        ParsingTableGenerator.generateParsingTables(inputGrammar);
-        ParsingTableGenerator.generateProductionTable(inputGrammar);
+        // Load parsing table from grammar file (once per grammar, shared by every parser)
+        tables = ParsingTableGenerator.loadTables(inputGrammar);
+        if (tables == null) {
+            throw new IllegalStateException("Could not load the parsing tables for " + inputGrammar);
+        }
+        outputFormatter = new ParserOutputFormatter(tables);
+        astBuilder = new ASTBuilder(tables.getNonterminals());
+        treeArena = new ParseTreeArena(tables.getNonterminals(), tokens);
     }
 
     /**
      * Resets the parser to its initial state to allow reuse.
+     * Tokens already scanned are kept, so the source is not lexed again.
      */
     public void reset() {
-        this.lexer.reset();
-        this.currentToken = lexer.nextToken(); // Re-initialize with the first token
+        reset(stream.getLexer());
+    }
+
+    /**
+     * Resets the parser to parse the tokens of another lexer.
+     * The parsing tables and the parser's stacks are reused, so one parser can
+     * check many sources in a row. Passing the current lexer only rewinds its tokens.
+     *
+     * @param lexer The lexer of the next source
+     */
+    public void reset(Lexer lexer) {
+        this.stream.reset(lexer);
+        this.current = stream.current(); // Re-initialize with the first token
         this.stateStack.clear();
-        this.symbolStack.clear();
         this.treeStack.clear();
+        this.astBuilder.clear();
+        this.treeArena.clear();
         this.errorMessages.clear();
+        this.originalErrors.clear();
+        this.lastErrorToken = -1;
+        this.errorTokens.clear();
+        this.accepted = false;
+        this.outputFormatter.reset();
         this.stateStack.push(0); // Reset to start state
     }
 
+    /**
+     * Turns the step-by-step parse trace on or off. The trace is off by default,
+     * in which case parsing records nothing and only the error summary is printed.
+     */
+    public void setTraceEnabled(boolean enabled) {
+        outputFormatter.setTraceEnabled(enabled);
+    }
+
+    /**
+     * Sets where parse() prints the trace, the error summary and the node count,
+     * System.out by default. Parsers running on different threads need their own.
+     */
+    public void setOutput(PrintStream out) {
+        this.out = out;
+        outputFormatter.setOutput(out);
+    }
+
+    /**
+     * Chooses whether parse() builds a parse tree or an AST.
+     */
+    public void setTreeMode(TreeMode treeMode) {
+        this.treeMode = treeMode;
+    }
+
+    public TreeMode getTreeMode() {
+        return treeMode;
+    }
+
+    /**
+     * Lexes the whole source up front in parallel chunks on the given pool, before
+     * printTokens() or parse() read it. Null, the default, scans tokens as they
+     * are needed.
+     */
+    public void setLexingPool(ForkJoinPool lexingPool) {
+        this.lexingPool = lexingPool;
+    }
+
+    /**
+     * Lets parse() run the lexer on a separate thread that scans ahead of the
+     * parser, so lexing and parsing overlap. Off by default.
+     */
+    public void setPipelinedLexing(boolean pipelinedLexing) {
+        this.pipelinedLexing = pipelinedLexing;
+    }
+
+    /**
+     * Lets parse() run GeneratedParser, the parser RecursiveAscentGenerator writes from
+     * the grammar, instead of interpreting the tables. It builds the same trees. It is
+     * only used while the trace is off and when it was generated from the loaded grammar;
+     * a source with a syntax error is parsed again from the tables, which report and
+     * recover from the errors. Off by default, unless the upspyre.directParser system
+     * property is true.
+     */
+    public void setDirectCoded(boolean directCoded) {
+        this.directCoded = directCoded;
+    }
+
     /**
      * Performs the full parsing process using LR parsing algorithm.
      * Handles errors with recovery strategies.
@@ -68,49 +192,70 @@ public class Parser {
     public void parse() {
         // Print initial parsing setup information
         //System.out.println("Start Symbol: " + ParsingTableGenerator.productionTable.get(1));
-        outputFormatter.updateCurrentLine(currentToken);
+        if (lexingPool != null) {
+            stream.scanAll(lexingPool);
+        } else if (pipelinedLexing) {
+            stream.startPipeline();
+        }
+        bypassUnits = treeMode == TreeMode.AST;
+        if (directCoded && !outputFormatter.isTraceEnabled() && generatedParserMatches()) {
+            if (parseDirectCoded()) {
+                return;
+            }
+            bypassUnits = false; // the source most likely has a syntax error
+        }
+        traceCurrentLine();
 
         int errorCount = 0;
-        final int MAX_ERRORS = 40; // Limit error count to prevent infinite loops
 
         while (errorCount < MAX_ERRORS  ) {
-            outputFormatter.updateCurrentLine(currentToken);
+            traceCurrentLine();
             // Skip comment tokens to focus on actual code
-            while (TOKENS_TO_IGNORE.contains(currentToken.getType())) {
-                currentToken = lexer.nextToken();
-                outputFormatter.updateCurrentLine(currentToken);
+            while (TOKENS_TO_IGNORE.contains(tokens.getType(current))) {
+                nextToken();
+                traceCurrentLine();
             }
 
             int state = stateStack.peek();
-            String tokenType = currentToken.getType().toString();
+            TokenType tokenType = tokens.getType(current);
 
             // Check action table for the current state and token
-            HashMap<String, String> actionRow = ParsingTableGenerator.actionTable.get(state);
-            if (actionRow == null || !actionRow.containsKey(tokenType)) {
+            int action = tables.action(state, tokenType);
+            if (action == ParseTableCache.ERROR && bypassUnits) {
+                // Recovery pops states, and the stack lacks the ones unit reductions were
+                // skipped past, so parse again from the start with all of them
+                bypassUnits = false;
+                rewind();
+                continue;
+            }
+            if (action == ParseTableCache.ERROR) {
                 // Syntax error detected - no valid action for current state and token
+                List<TokenType> expected = tables.expectedTokens(state);
 
-                if (lastErrorToken == null || 
-                    currentToken.line != lastErrorToken.line || 
-                    currentToken.position != lastErrorToken.position) {
+                if (lastErrorToken == -1 || 
+                    tokens.getLine(current) != tokens.getLine(lastErrorToken) || 
+                    tokens.getColumn(current) != tokens.getColumn(lastErrorToken)) {
                     
                     String errorMsg = String.format("Line %d:%d - Unexpected token: '%s'", 
-                                                currentToken.line, currentToken.position, 
-                                                currentToken.getType());
+                                                tokens.getLine(current), tokens.getColumn(current), 
+                                                tokenType);
                     originalErrors.add(errorMsg + "\n    Expected: " + 
-                                    (actionRow != null ? actionRow.keySet() : "none"));
-                    lastErrorToken = currentToken;
+                                    (!expected.isEmpty() ? expected : "none"));
+                    lastErrorToken = current;
+                    errorTokens.push(current);
                 }
     
                 errorCount++;
                 String errorMsg = String.format("Syntax Error at line %d, position %d: %s", 
-                                               currentToken.line, currentToken.position, currentToken);
+                                               tokens.getLine(current), tokens.getColumn(current),
+                                               tokens.toString(current));
                 
                 // Add to error collection for summary
                 errorMessages.add(errorMsg);
                 
                 // Record the error in the formatter
-                outputFormatter.recordError(state, currentToken, 
-                    (actionRow != null ? actionRow.keySet().toString() : "none"));
+                outputFormatter.recordError(state, tokens.getToken(current), 
+                    (!expected.isEmpty() ? expected.toString() : "none"));
                 
                 // Try error recovery strategies
                 if (!tryPhraseLevelRecovery(state, tokenType)) {
@@ -122,157 +267,465 @@ public class Parser {
             }
 
             // Valid action found - execute it
-            String action = actionRow.get(tokenType);
+            int kind = ParseTableCache.kindOf(action);
 
-            if (action.startsWith("s")) { 
+            if (kind == ParseTableCache.SHIFT) { 
                 // Shift action - move to next token
-                outputFormatter.updateCurrentLine(currentToken);
-                int nextState = Integer.parseInt(action.substring(1));
+                traceCurrentLine();
+                int nextState = ParseTableCache.operandOf(action);
                 stateStack.push(nextState);
-                symbolStack.push(tokenType);
                 
                 // Record the shift action
-                outputFormatter.recordShift(state, nextState, currentToken);
-                
-                handleShift(currentToken);
-                currentToken = lexer.nextToken();
-            } else if (action.equals("acc")) { 
-                // Accept - parsing completed successfully
-                outputFormatter.recordSuccess();
-                
-                // Build final parse tree by combining all nodes
-                while (treeStack.size() > 1) {
-                    ParseTreeNode last = treeStack.pop();
-                    treeStack.peek().addChild(last);
+                if (outputFormatter.isTraceEnabled()) {
+                    outputFormatter.recordShift(state, nextState, tokens.getToken(current));
                 }
                 
-                // Print the trace and error summary
-                outputFormatter.printTrace();
-                if (!errorMessages.isEmpty()) {
-                    outputFormatter.printErrorSummary(originalErrors);
-                }
-                
-                System.out.println("Parse tree nodes: " + treeStack.size());
+                handleShift(current);
+                nextToken();
+            } else if (kind == ParseTableCache.ACCEPT) { 
+                // Accept - parsing completed successfully
+                accept();
                 return;
-            } else if (action.startsWith("r")) { 
+            } else { 
                 // Reduce action - apply grammar rule
-                int ruleNumber = Integer.parseInt(action.substring(1));
-                
-                // Get production information for logging
-                GrammarProduction production = ParsingTableGenerator.productionTable.get(ruleNumber);
-                String lhs = production.getLhs();
+                int ruleNumber = ParseTableCache.operandOf(action);
                 
                 // Store current state for logging
                 int currentState = stateStack.peek();
                 
                 // Perform the reduction
-                reduce(ruleNumber);
+                reduce(ruleNumber, tokenType);
                 
                 // Record the reduction (current state is now different after reduce)
-                outputFormatter.recordReduce(
-                    currentState, 
-                    ruleNumber, 
-                    production.toString(),
-                    stateStack.peek(),
-                    lhs
-                );
-            } else {
-                // Unexpected action - should not happen with valid tables
-                errorMessages.add("Unexpected action: " + action);
-                return;
+                outputFormatter.recordReduce(currentState, ruleNumber, stateStack.peek());
             }
         }
         
         // Reached max errors - print summary and exit
-        System.out.println("Maximum error count reached. Stopping parsing.");
+        stopReading();
+        out.println("Maximum error count reached. Stopping parsing.");
         outputFormatter.printTrace();
         outputFormatter.printErrorSummary(originalErrors);
     }
 
+    // Stops lexing before EOF: the lexer thread, if any, and the rest of the source
+    private void stopReading() {
+        stream.stopPipeline();
+        stream.getLexer().close();
+    }
+
+    /**
+     * Checks the syntax of the source and nothing else: runs the LR automaton over the
+     * tokens without building a tree, recording a trace, formatting errors or printing.
+     * Errors are recovered from as in parse(), and their positions are reported at
+     * the same tokens, but only the first maxErrors are recorded, after
+     * which the source is rejected without reading the rest. Checking many sources in a
+     * row with reset(lexer) in between allocates nothing beyond the lexer's tokens.
+     *
+     * @param maxErrors How many error positions to record before stopping, at least 1
+     * @return True if the source has no syntax errors
+     */
+    public boolean recognize(int maxErrors) {
+        if (lexingPool != null) {
+            stream.scanAll(lexingPool);
+        } else if (pipelinedLexing) {
+            stream.startPipeline();
+        }
+        bypassUnits = true;
+        int errorCount = 0;
+        while (errorCount < MAX_ERRORS) {
+            skipIgnoredTokens();
+            int state = stateStack.peek();
+            TokenType tokenType = tokens.getType(current);
+            int action = tables.action(state, tokenType);
+            int kind = ParseTableCache.kindOf(action);
+            if (kind == ParseTableCache.SHIFT) {
+                stateStack.push(ParseTableCache.operandOf(action));
+                nextToken();
+            } else if (kind == ParseTableCache.REDUCE) {
+                recognizeReduce(ParseTableCache.operandOf(action), tokenType);
+            } else if (kind == ParseTableCache.ACCEPT) {
+                accepted = true;
+                return errorTokens.isEmpty();
+            } else if (bypassUnits) {
+                // As in parse(), recover only with the states unit reductions leave on the stack
+                bypassUnits = false;
+                rewind();
+            } else {
+                if (lastErrorToken == -1
+                        || tokens.getLine(current) != tokens.getLine(lastErrorToken)
+                        || tokens.getColumn(current) != tokens.getColumn(lastErrorToken)) {
+                    lastErrorToken = current;
+                    errorTokens.push(current);
+                    if (errorTokens.size() >= maxErrors) {
+                        break;
+                    }
+                }
+                errorCount++;
+                if (!insertMissingToken(state)) {
+                    panicModeRecovery();
+                }
+            }
+        }
+        stopReading();
+        return false;
+    }
+
+    // Reduces by a rule without building anything, skipping unit reductions until the first error
+    private void recognizeReduce(int ruleNumber, TokenType lookahead) {
+        stateStack.pop(tables.getProductionArity(ruleNumber));
+        int below = stateStack.peek();
+        int nextState = bypassUnits
+                ? tables.unitBypassGotoState(below, ruleNumber)
+                : tables.gotoState(below, ruleNumber);
+        if (nextState >= 0) {
+            stateStack.push(bypassUnits ? skipUnitReductions(below, nextState, lookahead) : nextState);
+        }
+    }
+
+    // Phrase-level recovery for recognize(): acts on the first of RECOVERY_TOKENS the state accepts
+    private boolean insertMissingToken(int state) {
+        for (TokenType possibleToken : RECOVERY_TOKENS) {
+            int action = tables.action(state, possibleToken);
+            if (action == ParseTableCache.ERROR) {
+                continue;
+            }
+            if (ParseTableCache.kindOf(action) == ParseTableCache.SHIFT) {
+                stateStack.push(ParseTableCache.operandOf(action));
+            } else if (ParseTableCache.kindOf(action) == ParseTableCache.REDUCE) {
+                recognizeReduce(ParseTableCache.operandOf(action), possibleToken);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns how many syntax errors the last parse() or recognize() reported, counting
+     * one per position like the error summary.
+     */
+    public int getErrorPositionCount() {
+        return errorTokens.size();
+    }
+
+    /// Returns the line of the i-th error the last parse() or recognize() reported.
+    public int getErrorLine(int i) {
+        return tokens.getLine(errorTokens.get(i));
+    }
+
+    /// Returns the column of the i-th error the last parse() or recognize() reported.
+    public int getErrorColumn(int i) {
+        return tokens.getColumn(errorTokens.get(i));
+    }
+
     /**
      * Prints a summarized report of all parsing errors encountered.
      */
   
+    // Finishes the tree and prints the trace, the error summary and the node count
+    private void accept() {
+        accepted = true;
+        outputFormatter.recordSuccess();
+
+        // Build final parse tree by combining all nodes
+        if (treeMode == TreeMode.AST) {
+            astBuilder.collapse();
+        } else if (treeMode == TreeMode.ARENA) {
+            treeArena.collapse();
+        }
+        while (treeStack.size() > 1) {
+            ParseTreeNode last = treeStack.pop();
+            treeStack.peek().addChild(last);
+        }
+
+        // Print the trace and error summary
+        outputFormatter.printTrace();
+        if (!errorMessages.isEmpty()) {
+            outputFormatter.printErrorSummary(originalErrors);
+        }
+
+        out.println("Parse tree nodes: " + treeStackSize());
+    }
+
+    // True if GeneratedParser was generated from the loaded grammar and the current TokenType
+    private boolean generatedParserMatches() {
+        return GeneratedParser.GRAMMAR_HASH.equals(tables.getGrammarHash())
+                && GeneratedParser.TERMINALS.equals(String.join(" ", ParsingTableGenerator.terminalColumns()));
+    }
+
+    /**
+     * Parses with GeneratedParser. If it finds a syntax error, or the program is nested
+     * too deeply for the thread's stack, the tokens and trees are rewound so that the
+     * table-driven loop can parse the source from the start.
+     *
+     * @return True if the source was accepted
+     */
+    private boolean parseDirectCoded() {
+        skipIgnoredTokens();
+        int result;
+        try {
+            result = new GeneratedParser(new DirectActions(), tokens.getTypeOrdinal(current)).parse();
+        } catch (StackOverflowError e) {
+            result = GeneratedParser.REJECTED;
+        }
+        if (result == GeneratedParser.ACCEPTED) {
+            accept();
+            return true;
+        }
+        rewind();
+        return false;
+    }
+
+    // Goes back to the first token and the start state, dropping the trees and the trace
+    private void rewind() {
+        stream.rewind();
+        current = stream.current();
+        stateStack.clear();
+        stateStack.push(0);
+        treeStack.clear();
+        astBuilder.clear();
+        treeArena.clear();
+        outputFormatter.reset();
+    }
+
+    // Tree building for GeneratedParser, which keeps the LR states on the call stack
+    private final class DirectActions implements GeneratedParser.Actions {
+        @Override
+        public int shift() {
+            handleShift(current);
+            nextToken();
+            skipIgnoredTokens();
+            return tokens.getTypeOrdinal(current);
+        }
+
+        @Override
+        public void reduce(int rule) {
+            buildReduction(rule);
+        }
+    }
 
     /**
      * Performs a reduction operation according to a grammar rule.
      * This implements the "reduce" part of shift-reduce parsing.
      * 
      * @param ruleNumber The grammar rule number to apply
+     * @param lookahead The token type the reduction was chosen for
      */
-    private void reduce(int ruleNumber) {
-        // Get the production for this rule number
-        GrammarProduction production = ParsingTableGenerator.productionTable.get(ruleNumber);
-
-        if (production == null) {
-            System.out.println("Error: No production found for rule " + ruleNumber);
+    private void reduce(int ruleNumber, TokenType lookahead) {
+        if (ruleNumber >= tables.getRuleCount()) {
+            out.println("Error: No production found for rule " + ruleNumber);
             return;
         }
 
-        String lhs = production.getLhs();
-        int rhsSize = production.getRhsSize();
-
-        // Create a new parse tree node for this production
-        ParseTreeNode node = new ParseTreeNode(lhs, null, ruleNumber);
+        String lhs = tables.getNonterminal(tables.getProductionLhs(ruleNumber));
+        int rhsSize = tables.getProductionArity(ruleNumber);
 
-        // Pop rhsSize symbols and states from the stacks
-        // Build the parse tree bottom-up by adding children in reverse order
-        for (int i = 0; i < rhsSize; i++) {
-            symbolStack.pop();
-            stateStack.pop();
-            node.addChild(treeStack.pop());
-        } 
+        // Pop rhsSize states from the stack
+        stateStack.pop(rhsSize);
 
-        // Push the new node onto the tree stack
-        treeStack.push(node);
+        buildReduction(ruleNumber);
         
         // Get the current state after popping
         int currentState = stateStack.peek();
 
-        // Push the LHS non-terminal onto the symbol stack
-        symbolStack.push(lhs);
-
-        // Look up the goto action for this non-terminal
-        HashMap<String, String> gotoRow = ParsingTableGenerator.gotoTable.get(currentState);
-        if (gotoRow == null || !gotoRow.containsKey(lhs)) {
-            System.out.println("Error: No goto action for non-terminal " + lhs + " in state " + currentState);
+        // Look up the goto action for this non-terminal. The AST needs no node for most
+        // unit rules, so in AST mode the parser jumps past states that only reduce those,
+        // until the first error.
+        int nextState = bypassUnits
+                ? tables.unitBypassGotoState(currentState, ruleNumber)
+                : tables.gotoState(currentState, ruleNumber);
+        if (nextState < 0) {
+            out.println("Error: No goto action for non-terminal " + lhs + " in state " + currentState);
             return;
         }
-
-        // Get the next state from the goto table
-        int nextState = Integer.parseInt(gotoRow.get(lhs));
+        if (bypassUnits) {
+            nextState = skipUnitReductions(currentState, nextState, lookahead);
+        }
 
         // Push the next state onto the state stack
         stateStack.push(nextState);
     }
 
+    /**
+     * Replaces the trees of a rule's right-hand side with the tree of the rule.
+     *
+     * @param ruleNumber The grammar rule to reduce by
+     */
+    private void buildReduction(int ruleNumber) {
+        int lhsId = tables.getProductionLhs(ruleNumber);
+        int rhsSize = tables.getProductionArity(ruleNumber);
+        if (treeMode == TreeMode.AST) {
+            // The AST node of a skippable unit rule is its child's, so there is nothing to do
+            if (!tables.isSkippableUnitRule(ruleNumber)) {
+                astBuilder.reduce(lhsId, rhsSize);
+            }
+        } else if (treeMode == TreeMode.ARENA) {
+            treeArena.reduce(ruleNumber, lhsId, rhsSize);
+        } else {
+            // Create a new parse tree node for this production
+            ParseTreeNode node = new ParseTreeNode(tables.getNonterminal(lhsId), null, ruleNumber);
+
+            // Build the parse tree bottom-up by adding children in reverse order
+            for (int i = 0; i < rhsSize; i++) {
+                node.addChild(treeStack.pop());
+            }
+
+            // Push the new node onto the tree stack
+            treeStack.push(node);
+        }
+    }
+
+    /**
+     * Follows the unit reductions the next state would make on the lookahead, as long
+     * as the AST needs nothing from them. Reducing A ::= B only swaps the state on top
+     * of the stack for the goto on A from the state below, so that is all this does.
+     *
+     * @param below The state under the reduced symbol
+     * @param state The state reached on the reduced symbol
+     * @param lookahead The current lookahead token type
+     * @return The state the parser ends in after those reductions
+     */
+    private int skipUnitReductions(int below, int state, TokenType lookahead) {
+        int action = tables.action(state, lookahead);
+        while (ParseTableCache.kindOf(action) == ParseTableCache.REDUCE
+                && tables.isSkippableUnitRule(ParseTableCache.operandOf(action))) {
+            state = tables.unitBypassGotoState(below, ParseTableCache.operandOf(action));
+            action = tables.action(state, lookahead);
+        }
+        return state;
+    }
+
+    /**
+     * Handles a shift operation by creating a terminal node in the parse tree.
+     * 
+     * @param tokenIndex The index of the token to shift in the token buffer
+     */
+    private void handleShift(int tokenIndex) {
+        if (treeMode == TreeMode.AST) {
+            astBuilder.shift(tokens, tokenIndex);
+        } else if (treeMode == TreeMode.ARENA) {
+            treeArena.shift(tokenIndex);
+        } else {
+            handleShift(tokens.getToken(tokenIndex));
+        }
+    }
+
     /**
      * Handles a shift operation by creating a terminal node in the parse tree.
+     * Used for tokens inserted by error recovery, which are not in the token buffer.
      * 
      * @param token The token to shift
      */
     private void handleShift(Token token) {
+        if (treeMode == TreeMode.AST) {
+            astBuilder.shift(token);
+            return;
+        }
+        if (treeMode == TreeMode.ARENA) {
+            treeArena.shift(token);
+            return;
+        }
         // Create a terminal node and push it onto the tree stack
         treeStack.push(new ParseTreeNode(
                 token.getType().toString(),
-                token.lexeme,
+                token.getLexeme(),
                 -1 // -1 indicates terminal node
                 , token // Store the original token for error reporting
         ));
     }
 
+    // Moves to the next token, scanning it into the token buffer; stays on EOF
+    private void nextToken() {
+        current = stream.advance();
+    }
+
+    // Moves past comment tokens
+    private void skipIgnoredTokens() {
+        while (TOKENS_TO_IGNORE.contains(tokens.getType(current))) {
+            nextToken();
+        }
+    }
+
+    /**
+     * Returns the stream of tokens the parser reads, for callers that want to
+     * look at the tokens without scanning the source again.
+     */
+    public TokenStream getTokenStream() {
+        return stream;
+    }
+
+    private void traceCurrentLine() {
+        if (outputFormatter.isTraceEnabled()) {
+            outputFormatter.updateCurrentLine(tokens.getType(current), tokens.getLine(current));
+        }
+    }
+
+    /**
+     * Returns true if the last parse() reached the end of the program, which it can
+     * also do after recovering from syntax errors.
+     */
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Returns the syntax errors of the last parse(), one per error in the error summary.
+     * Each is the location and unexpected token, then a line with the expected tokens.
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(originalErrors);
+    }
+
     /**
      * Returns the completed parse tree after successful parsing.
      * 
      * @return The root node of the parse tree, or null if parsing failed
      */
     public ParseTreeNode getParseTree() {
-        if (treeStack.size() != 1) {
-            System.err.println("Warning: Incomplete parse tree - stack has " + treeStack.size() + " nodes");
+        if (treeStackSize() != 1) {
+            System.err.println("Warning: Incomplete parse tree - stack has " + treeStackSize() + " nodes");
+        }
+        if (treeMode == TreeMode.ARENA) {
+            return treeArena.getNode(treeArena.peek());
         }
         return treeStack.isEmpty() ? null : treeStack.peek();
     }
 
+    /**
+     * Returns the arena holding the parse tree in ARENA mode.
+     */
+    public ParseTreeArena getParseTreeArena() {
+        return treeArena;
+    }
+
+    // Number of unattached subtrees the current tree mode is holding
+    private int treeStackSize() {
+        switch (treeMode) {
+            case AST:
+                return astBuilder.size();
+            case ARENA:
+                return treeArena.stackSize();
+            default:
+                return treeStack.size();
+        }
+    }
+
+    /**
+     * Returns the AST of the parsed program. In AST mode this is the tree built during
+     * parsing; otherwise the parse tree is converted with ASTNode.fromCST.
+     * 
+     * @return The root node of the AST, or null if parsing failed
+     */
+    public ASTNode getAST() {
+        if (treeMode != TreeMode.AST) {
+            return ASTNode.fromCST(getParseTree());
+        }
+        if (treeStackSize() != 1) {
+            System.err.println("Warning: Incomplete AST - stack has " + treeStackSize() + " nodes");
+        }
+        return astBuilder.peek();
+    }
+
     /**
      * Generates a DOT representation of the parse tree for visualization.
      * 
@@ -325,25 +778,14 @@ public class Parser {
      * @param tokenType Current token type
      * @return true if recovery successful, false otherwise
      */
-    private boolean tryPhraseLevelRecovery(int state, String tokenType) {
-        // Try inserting common tokens that would allow progress
-        String[] commonTokens = {"SEMI", "RPAREN", "RBRACE", "COMMA"};
-        
-        // First check if action table exists for this state
-        HashMap<String, String> actionRow = ParsingTableGenerator.actionTable.get(state);
-        if (actionRow == null) {
-            return false;
-        }
-        
+    private boolean tryPhraseLevelRecovery(int state, TokenType tokenType) {
         // Try each common token to see if inserting it would allow parsing to continue
-        for (String possibleToken : commonTokens) {
-            if (actionRow.containsKey(possibleToken)) {
-                String action = actionRow.get(possibleToken);
-                if (action != null && !action.isEmpty()) {
-                    outputFormatter.recordRecovery("INSERT", "Inserting missing " + possibleToken);
-                    performAction(action, possibleToken);
-                    return true;
-                }
+        for (TokenType possibleToken : RECOVERY_TOKENS) {
+            int action = tables.action(state, possibleToken);
+            if (action != ParseTableCache.ERROR) {
+                outputFormatter.recordRecovery("INSERT", "Inserting missing " + possibleToken);
+                performAction(action, possibleToken);
+                return true;
             }
         }
         return false;
@@ -355,48 +797,47 @@ public class Parser {
      */
     private void panicModeRecovery() {
         // Keep track of starting token for error reporting
-        outputFormatter.updateCurrentLine(currentToken);
-        Token errorToken = currentToken;
+        traceCurrentLine();
+        int errorToken = current;
         int tokensSkipped = 0;
         
         
         // Skip tokens until we find one that can be processed in the current state
-        while (currentToken.getType() != TokenType.EOF) {
-            outputFormatter.updateCurrentLine(currentToken);
+        while (tokens.getType(current) != TokenType.EOF) {
+            traceCurrentLine();
             int state = stateStack.peek();
-            HashMap<String, String> actionRow = ParsingTableGenerator.actionTable.get(state);
             
             // Check if current token can be processed in current state
-            if (actionRow != null && actionRow.containsKey(currentToken.getType().toString())) {
-                outputFormatter.recordRecovery("SYNC", 
-                    "Found synchronization point at token " + currentToken + " skipped " + tokensSkipped + " tokens");
+            if (tables.action(state, tokens.getType(current)) != ParseTableCache.ERROR) {
+                if (outputFormatter.isTraceEnabled()) {
+                    outputFormatter.recordRecovery("SYNC", 
+                        "Found synchronization point at token " + tokens.toString(current) + " skipped " + tokensSkipped + " tokens");
+                }
                 break;
             }
             
             tokensSkipped++;
-            currentToken = lexer.nextToken();
+            nextToken();
         }
         
-        if (currentToken.getType() == TokenType.EOF) {
+        if (tokens.getType(current) == TokenType.EOF && outputFormatter.isTraceEnabled()) {
             outputFormatter.recordRecovery("FAIL", 
                 "Recovery failed - reached end of file after error at line " + 
-                errorToken.line + ", position " + errorToken.position);
+                tokens.getLine(errorToken) + ", position " + tokens.getColumn(errorToken));
         }
         
         // Pop states until we find a valid state for current token
         int statesPopped = 0;
         while (stateStack.size() > 1) {
             int state = stateStack.peek();
-            HashMap<String, String> actionRow = ParsingTableGenerator.actionTable.get(state);
-            if (actionRow != null && actionRow.containsKey(currentToken.getType().toString())) {
+            if (tables.action(state, tokens.getType(current)) != ParseTableCache.ERROR) {
                 break;
             }
             stateStack.pop();
-            symbolStack.pop();
             statesPopped++;
         }
         
-        if (statesPopped > 0) {
+        if (statesPopped > 0 && outputFormatter.isTraceEnabled()) {
             outputFormatter.recordRecovery("DISCARD", "Popped " + statesPopped + " states to reach recovery state");
         }
     }
@@ -405,25 +846,24 @@ public class Parser {
      * Performs the specified parsing action with the given token type.
      * Used during error recovery to simulate tokens.
      * 
-     * @param action The action to perform (shift or reduce)
+     * @param action The packed action to perform (shift or reduce)
      * @param tokenType The token type to use
      */
-    private void performAction(String action, String tokenType) {
-        if (action.startsWith("s")) { // Shift action
-            int nextState = Integer.parseInt(action.substring(1));
+    private void performAction(int action, TokenType tokenType) {
+        if (ParseTableCache.kindOf(action) == ParseTableCache.SHIFT) { // Shift action
+            int nextState = ParseTableCache.operandOf(action);
             stateStack.push(nextState);
-            symbolStack.push(tokenType);
             // Create a dummy token for the inserted token
             Token dummyToken = new Token(
-                TokenType.valueOf(tokenType),
+                tokenType,
                 "", // empty lexeme
-                currentToken.line, // use current line
-                currentToken.position // use current position
+                tokens.getLine(current), // use current line
+                tokens.getColumn(current) // use current position
             );
             handleShift(dummyToken);
-        } else if (action.startsWith("r")) { // Reduce action
-            int ruleNumber = Integer.parseInt(action.substring(1));
-            reduce(ruleNumber);
+        } else if (ParseTableCache.kindOf(action) == ParseTableCache.REDUCE) { // Reduce action
+            int ruleNumber = ParseTableCache.operandOf(action);
+            reduce(ruleNumber, tokenType);
         }
     }
     
@@ -439,52 +879,54 @@ public class Parser {
     public void printTokens() {
         
         reset();
+        if (lexingPool != null) {
+            stream.scanAll(lexingPool);
+        }
         
         System.out.println("=== Tokens (Aligned with Source) ===");
         
         // Track current line to handle line breaks
         int currentLine = 1;
         
-        // Print aligned version first
-        while (currentToken.getType() != TokenType.EOF) {
+        // Print aligned version first, scanning the input into the token buffer
+        while (tokens.getType(current) != TokenType.EOF) {
+            TokenType type = tokens.getType(current);
             // Skip comments if needed
-            if (TOKENS_TO_IGNORE.contains(currentToken.getType())) {
-                currentToken = lexer.nextToken();
+            if (TOKENS_TO_IGNORE.contains(type)) {
+                nextToken();
                 continue;
             }
             
             // Handle line breaks
-            if (currentToken.line > currentLine) {
+            if (tokens.getLine(current) > currentLine) {
                 // Print newlines for empty lines if needed
-                while (currentLine < currentToken.line) {
+                while (currentLine < tokens.getLine(current)) {
                     System.out.println();
                     currentLine++;
                 }
             }
             
             // Print the token type in brackets
-            System.out.print("[" + currentToken.getType() + "]");
+            System.out.print("[" + type + "]");
             
             // Add space between tokens on same line (except for certain tokens)
-            if (!currentToken.getType().toString().matches("RPAREN|LPAREN|RBACE|LBRACE|SEMI")) {
+            if (!type.toString().matches("RPAREN|LPAREN|RBACE|LBRACE|SEMI")) {
                 System.out.print(" ");
             }
             
-            currentToken = lexer.nextToken();
+            nextToken();
         }
         
         System.out.println("\n\n=== Detailed Token Information ===");
         
-        // Now print detailed version
-        reset();  // Use reset() again to start from beginning
-        while (currentToken.getType() != TokenType.EOF) {
-            if (!TOKENS_TO_IGNORE.contains(currentToken.getType())) {
-                System.out.println(currentToken);
+        // Now print detailed version from the tokens already scanned
+        for (int i = 0; tokens.getType(i) != TokenType.EOF; i++) {
+            if (!TOKENS_TO_IGNORE.contains(tokens.getType(i))) {
+                System.out.println(tokens.toString(i));
             }
-            currentToken = lexer.nextToken();
         }
         
-        // Restore original state by resetting and fast-forwarding
+        // Rewind so parse() starts from the first token; nothing is scanned again
         reset();
         
 }
@@ -1,16 +1,17 @@
 package project;
 
-import java.util.ArrayList;
+import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
+import project.ParsingTableGenerator.GrammarProduction;
+import project.utils.parser.IntStack;
 
 /**
  * A utility class that improves the readability of parser outputs
  * by providing cleaner formatting and removing redundancy.
  */
 public class ParserOutputFormatter {
-    private static int LINE_WIDTH = 120;
-    private static final boolean SHOW_DETAILED_MOVES = true;
+    private static final int LINE_WIDTH = 120;
     
     // Column widths for consistent formatting
     private static final int STEP_WIDTH = 8;
@@ -20,94 +21,126 @@ public class ParserOutputFormatter {
     private static final int TOKEN_WIDTH = 10;
     private static final int DETAILS_WIDTH = 30;
 
-    private final List<String> errorMessages = new ArrayList<>();
-    private final List<String> messages = new ArrayList<>();
-    private final List<Integer> contentLengths = new ArrayList<>();
+    // Trace events are stored as packed ints in a bounded ring buffer and are
+    // only turned into text by printTrace(). Nothing is recorded while tracing is off.
+    public static final int DEFAULT_TRACE_CAPACITY = 1 << 16;
+    private static final int EVENT_SHIFT = 0;
+    private static final int EVENT_REDUCE = 1;
+    private static final int EVENT_ERROR = 2;
+    private static final int EVENT_RECOVER = 3;
+    private static final int EVENT_ACCEPT = 4;
+    // kind, state, next state, rule number, line
+    private static final int EVENT_WIDTH = 5;
+
+    private boolean traceEnabled = false;
+    private int traceCapacity = DEFAULT_TRACE_CAPACITY;
+    private int[] events = new int[0];
+    private Object[] eventData = new Object[0];   // shifted/offending token, or recovery action
+    private String[] eventText = new String[0];   // expected tokens, or recovery details
     private int currentStep = 0;
     private boolean isSuccessful = false;
     private int currentLine = 1;
-    private Token lastToken;
-    private final List<Integer> lineNumbers = new ArrayList<>();
     private int endTokenLine = -1;
+    private final GrammarTables tables; // for the productions in REDUCE lines
+    private PrintStream out = System.out;
+
+    public ParserOutputFormatter(GrammarTables tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Sets where printTrace() and printErrorSummary() print, System.out by default.
+     */
+    public void setOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Turns the parse trace on or off. While it is off the record methods return
+     * immediately and printTrace() prints nothing.
+     */
+    public void setTraceEnabled(boolean enabled) {
+        traceEnabled = enabled;
+        if (enabled && eventData.length != traceCapacity) {
+            events = new int[traceCapacity * EVENT_WIDTH];
+            eventData = new Object[traceCapacity];
+            eventText = new String[traceCapacity];
+            currentStep = 0;
+        }
+    }
+
+    public boolean isTraceEnabled() {
+        return traceEnabled;
+    }
+
+    /**
+     * Sets how many of the most recent steps the trace keeps.
+     * 
+     * @param capacity Maximum number of steps held in the ring buffer
+     */
+    public void setTraceCapacity(int capacity) {
+        traceCapacity = Math.max(1, capacity);
+        setTraceEnabled(traceEnabled);
+    }
+
+    /**
+     * Clears the recorded trace so the formatter can be reused for another parse.
+     */
+    public void reset() {
+        Arrays.fill(eventData, null);
+        Arrays.fill(eventText, null);
+        currentStep = 0;
+        isSuccessful = false;
+        currentLine = 1;
+        endTokenLine = -1;
+    }
+
+    // Stores the numeric part of an event and returns its ring buffer slot
+    private int record(int kind, int state, int nextState, int ruleNumber, int line) {
+        int slot = currentStep++ % traceCapacity;
+        int base = slot * EVENT_WIDTH;
+        events[base] = kind;
+        events[base + 1] = state;
+        events[base + 2] = nextState;
+        events[base + 3] = ruleNumber;
+        events[base + 4] = line;
+        eventData[slot] = null;
+        eventText[slot] = null;
+        return slot;
+    }
     
     /**
      * Records a shift action in the parsing process.
      */
     public void recordShift(int state, int nextState, Token token) {
-        lineNumbers.add(token.line);
-        String message = String.format(
-            "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
-            LINE_WIDTH_COL + "d | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s",
-            ++currentStep,
-            "SHIFT",
-            state + " -> " + nextState,
-            token.line,
-            token.getType(),
-            token.lexeme
-        );
-        messages.add(message);
-        contentLengths.add(message.length());
+        if (!traceEnabled) return;
+        eventData[record(EVENT_SHIFT, state, nextState, -1, token.line)] = token;
     }
     
     /**
      * Records a reduce action in the parsing process.
      */
-    public void recordReduce(int state, int ruleNumber, String production, 
-                          int nextState, String nonTerminal) {
+    public void recordReduce(int state, int ruleNumber, int nextState) {
+        if (!traceEnabled) return;
         int line = (ruleNumber == 1 && endTokenLine != -1) ? endTokenLine : currentLine;
-        lineNumbers.add(line);
-        
-        String message = String.format(
-            "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
-            LINE_WIDTH_COL + "s | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s",
-            ++currentStep,
-            "REDUCE",
-            state + " -> " + nextState,
-            line > 0 ? String.valueOf(line) : "",
-            "",
-            production
-        );
-        messages.add(message);
-        contentLengths.add(message.length());
+        record(EVENT_REDUCE, state, nextState, ruleNumber, line);
     }
     
     /**
      * Records an error encountered during parsing.
      */
     public void recordError(int state, Token token, String expectedTokens) {
-        lineNumbers.add(token.line);
-        
-        // Clean up expected tokens display
-        String cleanExpected = expectedTokens.replace("[", "").replace("]", "");
-        
-        String message = String.format(
-            "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
-            LINE_WIDTH_COL + "d | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s",
-            ++currentStep,
-            "ERROR",
-            "State " + state,
-            token.line,
-            token.getType(),
-            "Unexpected: " + token.getType() + " | Expected: " + cleanExpected
-        );
-        messages.add(message);
-        contentLengths.add(message.length());
-        
-        // Store simplified error message for summary
-        String errorMsg = String.format("Line %d:%d - Unexpected token: '%s'",
-                                      token.line, token.position, 
-                                      token.getType());
-        errorMessages.add(errorMsg + "\n    Expected token/s type: '" + cleanExpected+"'");
+        if (!traceEnabled) return;
+        int slot = record(EVENT_ERROR, state, -1, -1, token.line);
+        eventData[slot] = token;
+        eventText[slot] = expectedTokens;
     }
 
-    public void updateCurrentLine(Token token) {
-        if (token != null && (lastToken == null || token.line != lastToken.line)) {
-            currentLine = token.line;
-            lastToken = token;
-        }
-
-        if (token != null && token.getType() != null && token.getType().toString().equals("END")) {
-            endTokenLine = token.line;
+    public void updateCurrentLine(TokenType type, int line) {
+        if (!traceEnabled) return;
+        currentLine = line;
+        if (type == TokenType.END) {
+            endTokenLine = line;
         }
     }
 
@@ -119,65 +152,85 @@ public class ParserOutputFormatter {
      * Records an error recovery action.
      */
     public void recordRecovery(String action, String details) {
-        lineNumbers.add(currentLine);
-
-        String cleanDetails = details
-        // Format token display with single quotes around lexeme
-        .replaceAll("lexeme:\\s*([^\\s]+)", "'$1'")
-        // Clean up token type brackets
-        .replaceAll("\\[([A-Z]+)\\s+\\]", "[$1]")
-        // Remove extra spaces
-        .replaceAll("\\s+", " ")
-        // Clean up line/position formatting
-        .replaceAll("Line:\\s*(\\d+)", "L$1")
-        .replaceAll("position:\\s*(\\d+)", "P$1")
-        .trim();
-
-        String message = String.format(
-            "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
-            LINE_WIDTH_COL + "d | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s",
-            ++currentStep,
-            "RECOVER",
-            action,
-            currentLine,
-            "",
-            "\nAttempting recovery: " + cleanDetails
-        );
-        messages.add(message);
-        contentLengths.add(message.length());
+        if (!traceEnabled) return;
+        int slot = record(EVENT_RECOVER, -1, -1, -1, currentLine);
+        eventData[slot] = action;
+        eventText[slot] = details;
     }
     
     /**
      * Records a successful completion of parsing.
      */
     public void recordSuccess() {
-        int line = endTokenLine != -1 ? endTokenLine : currentLine;
-        lineNumbers.add(line);
-        
-        String message = String.format(
-            "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
-            LINE_WIDTH_COL + "s | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s",
-            ++currentStep,
-            "ACCEPT",
-            "",
-            "",
-            "",
-            "Parsing completed successfully"
-        );
-        messages.add(message);
-        contentLengths.add(message.length());
         isSuccessful = true;
+        if (!traceEnabled) return;
+        record(EVENT_ACCEPT, -1, -1, -1, endTokenLine != -1 ? endTokenLine : currentLine);
+    }
+
+    /**
+     * Formats one recorded step as a row of the trace table.
+     */
+    private String formatEvent(int step, int slot) {
+        int base = slot * EVENT_WIDTH;
+        int state = events[base + 1];
+        int nextState = events[base + 2];
+        int ruleNumber = events[base + 3];
+        int line = events[base + 4];
+        String intLineFormat = "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
+            LINE_WIDTH_COL + "d | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s";
+        String textLineFormat = "%-" + STEP_WIDTH + "d| %-" + ACTION_WIDTH + "s | %-" + STATE_WIDTH + "s | %-" + 
+            LINE_WIDTH_COL + "s | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s";
+
+        switch (events[base]) {
+            case EVENT_SHIFT: {
+                Token token = (Token) eventData[slot];
+                return String.format(intLineFormat,
+                    step, "SHIFT", state + " -> " + nextState, line, token.getType(), token.lexeme);
+            }
+            case EVENT_REDUCE: {
+                GrammarProduction production = tables.getProduction(ruleNumber);
+                return String.format(textLineFormat,
+                    step, "REDUCE", state + " -> " + nextState, line > 0 ? String.valueOf(line) : "", "",
+                    production != null ? production.toString() : "rule " + ruleNumber);
+            }
+            case EVENT_ERROR: {
+                Token token = (Token) eventData[slot];
+                // Clean up expected tokens display
+                String cleanExpected = eventText[slot].replace("[", "").replace("]", "");
+                return String.format(intLineFormat,
+                    step, "ERROR", "State " + state, line, token.getType(),
+                    "Unexpected: " + token.getType() + " | Expected: " + cleanExpected);
+            }
+            case EVENT_RECOVER: {
+                String cleanDetails = eventText[slot]
+                // Format token display with single quotes around lexeme
+                .replaceAll("lexeme:\\s*([^\\s]+)", "'$1'")
+                // Clean up token type brackets
+                .replaceAll("\\[([A-Z]+)\\s+\\]", "[$1]")
+                // Remove extra spaces
+                .replaceAll("\\s+", " ")
+                // Clean up line/position formatting
+                .replaceAll("Line:\\s*(\\d+)", "L$1")
+                .replaceAll("position:\\s*(\\d+)", "P$1")
+                .trim();
+                return String.format(intLineFormat,
+                    step, "RECOVER", eventData[slot], line, "", "\nAttempting recovery: " + cleanDetails);
+            }
+            default:
+                return String.format(textLineFormat,
+                    step, "ACCEPT", "", "", "", "Parsing completed successfully");
+        }
     }
-    
-    
     
     /**
-     * Prints the formatted parsing trace.
+     * Prints the formatted parsing trace. If more steps were recorded than the
+     * trace keeps, only the most recent ones are shown.
      */
     public void printTrace() {
+        if (!traceEnabled) return;
     
-        System.out.println(String.format("%-" + LINE_WIDTH + "s", "PARSER TRACE OUTPUT"));
-        System.out.println("-".repeat(LINE_WIDTH));
+        out.println(String.format("%-" + LINE_WIDTH + "s", "PARSER TRACE OUTPUT"));
+        out.println("-".repeat(LINE_WIDTH));
         
         // Header with new column order
         String header = String.format(
@@ -185,26 +238,31 @@ public class ParserOutputFormatter {
             LINE_WIDTH_COL + "s | %-" + TOKEN_WIDTH + "s | %-" + DETAILS_WIDTH + "s",
             "Step", "Action", "States", "Line", "Token", "Details"
         );
-        System.out.println(header);
-        System.out.println("-".repeat(LINE_WIDTH));
+        out.println(header);
+        out.println("-".repeat(LINE_WIDTH));
+
+        int firstStep = Math.max(0, currentStep - traceCapacity);
+        if (firstStep > 0) {
+            out.println("(" + firstStep + " earlier steps not kept)");
+        }
         
         int lastLineNumber = -1;
-        for (int i = 0; i < messages.size(); i++) {
-            String msg = messages.get(i);
-            int lineNum = lineNumbers.get(i);
+        for (int step = firstStep; step < currentStep; step++) {
+            int slot = step % traceCapacity;
+            int lineNum = events[slot * EVENT_WIDTH + 4];
             
             if (lineNum != lastLineNumber && lineNum > 0) {
-                System.out.println("-".repeat(LINE_WIDTH));
-                System.out.println("Current Line: " + lineNum);
+                out.println("-".repeat(LINE_WIDTH));
+                out.println("Current Line: " + lineNum);
                 lastLineNumber = lineNum;
             }
             
-            System.out.println(msg);
+            out.println(formatEvent(step + 1, slot));
         }
         
-        System.out.println("-".repeat(LINE_WIDTH));
-        System.out.println(isSuccessful ? "[/] PARSING SUCCESSFUL" : "[X] PARSING FAILED");
-        System.out.println("-".repeat(LINE_WIDTH));
+        out.println("-".repeat(LINE_WIDTH));
+        out.println(isSuccessful ? "[/] PARSING SUCCESSFUL" : "[X] PARSING FAILED");
+        out.println("-".repeat(LINE_WIDTH));
     }
     
     /**
@@ -218,22 +276,22 @@ public void printErrorSummary(List<String> originalErrors) {
         return;
     }
     
-    System.out.println("\n" + centerText("ERROR SUMMARY", LINE_WIDTH));
-    System.out.println("-".repeat(LINE_WIDTH));
+    out.println("\n" + centerText("ERROR SUMMARY", LINE_WIDTH));
+    out.println("-".repeat(LINE_WIDTH));
     
     for (int i = 0; i < originalErrors.size(); i++) {
         String[] parts = originalErrors.get(i).split("\n");
         
-        System.out.println("Error " + (i+1) + ":");
-        System.out.println("  " + parts[0]);  // Location and unexpected token
-        System.out.println("  " + parts[1]);  // Expected tokens
+        out.println("Error " + (i+1) + ":");
+        out.println("  " + parts[0]);  // Location and unexpected token
+        out.println("  " + parts[1]);  // Expected tokens
         
         if (i < originalErrors.size() - 1) {
-            System.out.println("-".repeat(Math.min(LINE_WIDTH, 30)));
+            out.println("-".repeat(Math.min(LINE_WIDTH, 30)));
         }
     }
     
-    System.out.println("-".repeat(LINE_WIDTH));
+    out.println("-".repeat(LINE_WIDTH));
 }
     
     // Helper method to center text
@@ -244,13 +302,12 @@ public void printErrorSummary(List<String> originalErrors) {
     }
     
     /**
-     * Creates a string representation of the parsing stacks.
+     * Creates a string representation of the parser's state stack.
      * 
      * @param stateStack The state stack
-     * @param symbolStack The symbol stack
      * @return String representation of the current stack state
      */
-    public String formatStacks(Stack<Integer> stateStack, Stack<String> symbolStack) {
+    public String formatStacks(IntStack stateStack) {
         StringBuilder sb = new StringBuilder();
         
         sb.append("States: [");
@@ -266,19 +323,6 @@ public void printErrorSummary(List<String> originalErrors) {
             sb.append("]");
         }
         
-        sb.append(" | Symbols: [");
-        for (int i = 0; i < symbolStack.size(); i++) {
-            if (i > 0) sb.append(" ");
-            sb.append(symbolStack.get(i));
-            if (sb.length() > 70) {
-                sb.append("...]");
-                break;
-            }
-        }
-        if (!sb.toString().endsWith("]")) {
-            sb.append("]");
-        }
-        
         return sb.toString();
     }
 }
\ No newline at end of file
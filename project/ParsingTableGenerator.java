@@ -2,33 +2,43 @@ package project;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import project.utils.LR1Generator;
 import project.utils.exception.AnalysisException;
-import project.utils.parser.ParseTable;
-import project.utils.parser.Transition;
-import project.utils.symbol.AbstractSymbol;
-import project.utils.symbol.AbstractTerminalSymbol;
+import project.utils.parser.Grammar;
+import project.utils.parser.ParseTableCache;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 public class ParsingTableGenerator {
-    public static HashMap<Integer, HashMap<String, String>> actionTable = new HashMap<>();
-    public static HashMap<Integer, HashMap<String, String>> gotoTable = new HashMap<>();
-    public static HashMap<Integer, GrammarProduction> productionTable = new HashMap<>();
+    public static final int TERMINAL_COUNT = TokenType.values().length;
+
+    // Suffix of the precompiled table file written next to the grammar
+    public static final String CACHE_EXTENSION = ".tbl";
+
+    // Suffix added before CACHE_EXTENSION for LALR(1) tables, so both kinds can be cached side by side
+    public static final String LALR_CACHE_SUFFIX = ".lalr";
+
+    // System property selecting the table construction, CANONICAL_LR1 (the default) or LALR1
+    public static final String TABLE_MODE_PROPERTY = "upspyre.tableMode";
+
+    // The tables loadTables returned last; replaced, never changed, when another grammar is loaded
+    private static volatile GrammarTables loaded;
 
     // Class to represent a grammar production
     public static class GrammarProduction {
-        private String lhs; // Left-hand side of the production
-        private List<String> rhs; // Right-hand side of the production
+        private final String lhs; // Left-hand side of the production
+        private final List<String> rhs; // Right-hand side of the production
 
         public GrammarProduction(String lhs, List<String> rhs) {
             this.lhs = lhs;
-            this.rhs = rhs;
+            this.rhs = List.copyOf(rhs);
         }
 
         public String getLhs() {
@@ -54,67 +64,120 @@ public class ParsingTableGenerator {
         }
     }
 
-    public static void generateParsingTables(String grammarFilePath) {
-        try {
-            // Read the grammar input from the file
-            String grammarInput = new String(Files.readAllBytes(Paths.get(grammarFilePath)), StandardCharsets.UTF_8);
-
-            // Create the LR1Generator
-            LR1Generator lr1Generator = new LR1Generator(grammarInput);
-
-            // Get the parse table from the LR1Generator
-            ParseTable parseTable = lr1Generator.getParseTable();
-
-            // Populate the actionTable and gotoTable from the parseTable
-            for (Map.Entry<Integer, Map<AbstractSymbol, Transition>> entry : parseTable.getTable().entrySet()) {
-                int state = entry.getKey();
-                HashMap<String, String> actionRow = new HashMap<>();
-                HashMap<String, String> gotoRow = new HashMap<>();
-
-                for (Map.Entry<AbstractSymbol, Transition> symbolEntry : entry.getValue().entrySet()) {
-                    AbstractSymbol symbol = symbolEntry.getKey();
-                    Transition transition = symbolEntry.getValue();
-
-                    // Check if the symbol is a terminal or non-terminal
-                    if (symbol.getType() == AbstractSymbol.TERMINAL) {
-                        if (parseTable.getAcceptState() == state && symbol.equals(lr1Generator.getGrammar().getSymbolPool().getTerminalSymbol(AbstractTerminalSymbol.END))) {
-                            // If it's the accept state, add it to the ACTION table
-                            actionRow.put(symbol.getName(), "acc");
-                        } else {
-                            // If it's a terminal, add it to the ACTION table
-                            actionRow.put(symbol.getName(), transition.toString());
-                        }
-                    } else {
-                        // If it's a non-terminal, add it to the GOTO table
-                        gotoRow.put(symbol.getName(), transition.toString().substring(1));
-                    }
+    /**
+     * Returns the action, goto and production tables for the given grammar, loading them
+     * only if the tables loaded last are for another grammar or table mode, so parsers can
+     * be created repeatedly, and on several threads at once, without reloading them.
+     *
+     * @return The tables, or null if the grammar could not be read or analysed
+     */
+    public static GrammarTables loadTables(String grammarFilePath) {
+        Grammar.TableMode tableMode = tableMode();
+        GrammarTables tables = loaded;
+        if (tables != null && tables.isFor(grammarFilePath, tableMode)) {
+            return tables;
+        }
+        synchronized (ParsingTableGenerator.class) {
+            tables = loaded;
+            if (tables == null || !tables.isFor(grammarFilePath, tableMode)) {
+                tables = generateParsingTables(grammarFilePath, tableMode);
+                if (tables != null) {
+                    loaded = tables;
                 }
-
-                actionTable.put(state, actionRow);
-                gotoTable.put(state, gotoRow);
-            }
-            /* 
-            // Print the ACTION table
-            System.out.println("\nACTION TABLE:");
-            for (Map.Entry<Integer, HashMap<String, String>> entry : actionTable.entrySet()) {
-                //System.out.println("State " + entry.getKey() + " -> " + entry.getValue());
             }
+            return tables;
+        }
+    }
 
-            // Print the GOTO table
-            System.out.println("\nGOTO TABLE:");
-            for (Map.Entry<Integer, HashMap<String, String>> entry : gotoTable.entrySet()) {
-                //System.out.println("State " + entry.getKey() + " -> " + entry.getValue());
-            }
-            */
-            System.out.println("Parsing tables generated successfully.");
+    /// Returns the table construction named by the upspyre.tableMode property, canonical LR(1) if unset.
+    public static Grammar.TableMode tableMode() {
+        String mode = System.getProperty(TABLE_MODE_PROPERTY);
+        if (mode == null) {
+            return Grammar.TableMode.CANONICAL_LR1;
+        }
+        try {
+            return Grammar.TableMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown table mode " + mode + ", using " + Grammar.TableMode.CANONICAL_LR1);
+            return Grammar.TableMode.CANONICAL_LR1;
+        }
+    }
+
+    /**
+     * Builds the tables for the given grammar with canonical LR(1) tables.
+     */
+    public static GrammarTables generateParsingTables(String grammarFilePath) {
+        return generateParsingTables(grammarFilePath, Grammar.TableMode.CANONICAL_LR1);
+    }
+
+    /**
+     * Builds the action, goto and production tables for the given grammar.
+     * The tables are taken from the binary cache next to the grammar file when it was built
+     * from the same grammar text; otherwise the LR automaton is generated and the cache rewritten.
+     * Canonical and LALR(1) tables are cached in separate files.
+     *
+     * @return The tables, or null if the grammar could not be read or analysed
+     */
+    public static GrammarTables generateParsingTables(String grammarFilePath, Grammar.TableMode tableMode) {
+        try {
+            ParseTableCache tables = readOrGenerateTables(grammarFilePath, tableMode);
+            return new GrammarTables(grammarFilePath, tableMode, tables, generateProductionTable(grammarFilePath));
         } catch (IOException e) {
             System.out.println("Error reading grammar file: " + e.getMessage());
         } catch (AnalysisException e) {
             System.out.println("Error generating parsing table: " + e.getMessage());
         }
+        return null;
+    }
+
+    /**
+     * Returns the tables for the given grammar, from the binary cache next to the grammar
+     * file when it was built from the same grammar text, or else newly generated, in which
+     * case the cache is rewritten.
+     */
+    static ParseTableCache readOrGenerateTables(String grammarFilePath, Grammar.TableMode tableMode)
+            throws IOException, AnalysisException {
+        // Read the grammar input from the file
+        String grammarInput = new String(Files.readAllBytes(Paths.get(grammarFilePath)), StandardCharsets.UTF_8);
+        byte[] grammarHash = ParseTableCache.hashGrammar(grammarInput);
+        String suffix = tableMode == Grammar.TableMode.LALR1 ? LALR_CACHE_SUFFIX : "";
+        Path cachePath = Paths.get(grammarFilePath + suffix + CACHE_EXTENSION);
+
+        ParseTableCache tables = ParseTableCache.read(cachePath, grammarHash);
+        if (tables != null && !Arrays.equals(tables.getTerminals(), terminalColumns())) {
+            tables = null; // TokenType changed since the cache was written
+        }
+        if (tables != null) {
+            System.out.println("Parsing tables loaded from " + cachePath);
+            return tables;
+        }
+        // Create the LR1Generator
+        LR1Generator lr1Generator = new LR1Generator(grammarInput, tableMode);
+        tables = ParseTableCache.fromParseTable(grammarHash, lr1Generator.getGrammar(), terminalColumns());
+        try {
+            tables.write(cachePath);
+        } catch (IOException e) {
+            System.out.println("Could not write parse table cache: " + e.getMessage());
+        }
+        System.out.println("Parsing tables generated successfully.");
+        return tables;
+    }
+
+    /// The terminal columns of the dense action table, one per token type.
+    static String[] terminalColumns() {
+        TokenType[] types = TokenType.values();
+        String[] columns = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            columns[i] = types[i].name();
+        }
+        return columns;
     }
 
-    public static void generateProductionTable(String filePath) {
+    /**
+     * Reads the productions of a grammar file, numbered from 1 in the order they are written.
+     */
+    public static Map<Integer, GrammarProduction> generateProductionTable(String filePath) {
+        Map<Integer, GrammarProduction> productionTable = new HashMap<>();
         try {
             FileReader fr = new FileReader(filePath);
             BufferedReader br = new BufferedReader(fr);
@@ -184,5 +247,6 @@ public class ParsingTableGenerator {
         } catch (IOException e) {
             System.out.println("Error reading productions file: " + e.getMessage());
         }
+        return productionTable;
     }
 }
\ No newline at end of file
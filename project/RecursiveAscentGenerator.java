@@ -0,0 +1,199 @@
+package project;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import project.utils.exception.AnalysisException;
+import project.utils.parser.Grammar;
+import project.utils.parser.ParseTableCache;
+
+/**
+ * Writes GeneratedParser, a recursive-ascent parser for the grammar: every LR state
+ * becomes a method that switches on the lookahead's TokenType ordinal. A shift reads
+ * the next token and calls the method of the state it goes to. A reduction hands the
+ * rule to the parser's tree building and returns as many methods as the rule has
+ * symbols, and the state the reduction uncovers switches on the rule's left-hand side
+ * to call its goto state. The LR stack is the call stack, and the tables are not
+ * looked at while parsing.
+ *
+ * The code is generated from the LALR(1) tables. The grammar has no LALR conflicts, so
+ * on valid input they make the same moves as the canonical tables with a third of the
+ * states. Every state reduces by its most common reduction on any token it has no
+ * other action for; an erroneous token is then still found before it is shifted,
+ * which is all GeneratedParser needs, since Parser reparses a source with errors with
+ * the tables to report them.
+ *
+ * Run it again whenever the grammar or TokenType changes:
+ *     java project.RecursiveAscentGenerator [grammar file] [output file]
+ */
+public class RecursiveAscentGenerator {
+
+    private static final String DEFAULT_GRAMMAR = "GrammarProgrammer/expanded.txt";
+    private static final String DEFAULT_OUTPUT = "project/GeneratedParser.java";
+
+    public static void main(String[] args) throws IOException, AnalysisException {
+        String grammarFilePath = args.length > 0 ? args[0] : DEFAULT_GRAMMAR;
+        String outputPath = args.length > 1 ? args[1] : DEFAULT_OUTPUT;
+        ParseTableCache tables = ParsingTableGenerator.readOrGenerateTables(grammarFilePath, Grammar.TableMode.LALR1);
+        Files.write(Paths.get(outputPath), generate(tables, grammarFilePath).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + outputPath + " with " + tables.getStateCount() + " states");
+    }
+
+    /**
+     * Returns the source of GeneratedParser for the given tables.
+     *
+     * @param tables The LR tables, with TokenType ordinals as terminal columns
+     * @param grammarFilePath The grammar file, named in the generated code
+     */
+    public static String generate(ParseTableCache tables, String grammarFilePath) {
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by project.RecursiveAscentGenerator from ").append(grammarFilePath)
+                .append(". Do not edit.\n");
+        out.append("package project;\n\n");
+        out.append("/**\n");
+        out.append(" * A recursive-ascent parser for ").append(grammarFilePath).append(", one method per LALR(1) state.\n");
+        out.append(" * Each method returns how many more states a reduction pops, or ACCEPTED or REJECTED.\n");
+        out.append(" * See RecursiveAscentGenerator.\n");
+        out.append(" */\n");
+        out.append("final class GeneratedParser {\n\n");
+        out.append("    // SHA-256 of the grammar text, and the terminal order, the code was generated for\n");
+        out.append("    static final String GRAMMAR_HASH = \"")
+                .append(HexFormat.of().formatHex(tables.getGrammarHash())).append("\";\n");
+        out.append("    static final String TERMINALS = \"").append(String.join(" ", tables.getTerminals()))
+                .append("\";\n\n");
+        out.append("    static final int ACCEPTED = -1;\n");
+        out.append("    static final int REJECTED = -2;\n\n");
+        out.append("    /// What the parser does on each move; the rules and nonterminals are numbered as in the tables.\n");
+        out.append("    interface Actions {\n");
+        out.append("        /// Shifts the lookahead and returns the TokenType ordinal of the next token.\n");
+        out.append("        int shift();\n\n");
+        out.append("        void reduce(int rule);\n");
+        out.append("    }\n\n");
+        out.append("    private final Actions actions;\n");
+        out.append("    private int token; // TokenType ordinal of the lookahead\n");
+        out.append("    private int lhs; // nonterminal column of the last reduction\n\n");
+        out.append("    GeneratedParser(Actions actions, int token) {\n");
+        out.append("        this.actions = actions;\n");
+        out.append("        this.token = token;\n");
+        out.append("    }\n\n");
+        out.append("    /// Parses from the start state and returns ACCEPTED, or REJECTED at a syntax error.\n");
+        out.append("    int parse() {\n");
+        out.append("        return s0();\n");
+        out.append("    }\n");
+        for (int state = 0; state < tables.getStateCount(); state++) {
+            out.append('\n');
+            generateState(out, tables, state);
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void generateState(StringBuilder out, ParseTableCache tables, int state) {
+        String[] terminals = tables.getTerminals();
+        String[] nonterminals = tables.getNonterminals();
+
+        // The most common reduction becomes the default case
+        Map<Integer, Integer> reductions = new HashMap<>();
+        int defaultAction = ParseTableCache.ERROR;
+        for (int terminal = 0; terminal < terminals.length; terminal++) {
+            int action = tables.getAction(state, terminal);
+            if (ParseTableCache.kindOf(action) == ParseTableCache.REDUCE) {
+                int count = reductions.merge(action, 1, Integer::sum);
+                if (count > reductions.getOrDefault(defaultAction, 0)) {
+                    defaultAction = action;
+                }
+            }
+        }
+        // The other actions, each with the terminals it is taken on
+        Map<Integer, List<Integer>> cases = new LinkedHashMap<>();
+        for (int terminal = 0; terminal < terminals.length; terminal++) {
+            int action = tables.getAction(state, terminal);
+            if (action != ParseTableCache.ERROR && action != defaultAction) {
+                cases.computeIfAbsent(action, a -> new ArrayList<>()).add(terminal);
+            }
+        }
+        List<Integer> gotos = new ArrayList<>();
+        for (int nonterminal = 0; nonterminal < nonterminals.length; nonterminal++) {
+            if (tables.getGoto(state, nonterminal) >= 0) {
+                gotos.add(nonterminal);
+            }
+        }
+
+        StringBuilder body = new StringBuilder();
+        boolean continues = false;
+        body.append("        switch (token) {\n");
+        for (Map.Entry<Integer, List<Integer>> entry : cases.entrySet()) {
+            for (int terminal : entry.getValue()) {
+                body.append("            case ").append(terminal).append(": // ").append(terminals[terminal]).append('\n');
+            }
+            continues |= generateAction(body, tables, entry.getKey());
+        }
+        body.append("            default:\n");
+        if (defaultAction == ParseTableCache.ERROR) {
+            body.append("                return REJECTED;\n");
+        } else {
+            continues |= generateAction(body, tables, defaultAction);
+        }
+        body.append("        }\n");
+
+        out.append("    private int s").append(state).append("() {\n");
+        if (continues) {
+            out.append("        int r;\n");
+        }
+        out.append(body);
+        if (!continues) {
+            out.append("    }\n");
+            return;
+        }
+        // r is 0 when this state is the one a reduction uncovered
+        out.append("        while (true) {\n");
+        out.append("            if (r != 0) {\n");
+        out.append("                return r > 0 ? r - 1 : r;\n");
+        out.append("            }\n");
+        out.append("            switch (lhs) {\n");
+        for (int nonterminal : gotos) {
+            out.append("                case ").append(nonterminal).append(": // ").append(nonterminals[nonterminal]).append('\n');
+            out.append("                    r = s").append(tables.getGoto(state, nonterminal)).append("();\n");
+            out.append("                    break;\n");
+        }
+        out.append("                default:\n");
+        out.append("                    return REJECTED;\n");
+        out.append("            }\n");
+        out.append("        }\n");
+        out.append("    }\n");
+    }
+
+    // Writes the statements of one case; returns true if they break out of the switch with r set
+    private static boolean generateAction(StringBuilder body, ParseTableCache tables, int action) {
+        int operand = ParseTableCache.operandOf(action);
+        switch (ParseTableCache.kindOf(action)) {
+            case ParseTableCache.SHIFT:
+                body.append("                token = actions.shift();\n");
+                body.append("                r = s").append(operand).append("();\n");
+                body.append("                break;\n");
+                return true;
+            case ParseTableCache.ACCEPT:
+                body.append("                return ACCEPTED;\n");
+                return false;
+            default:
+                int arity = tables.getProductionArity(operand);
+                body.append("                actions.reduce(").append(operand).append(");\n");
+                body.append("                lhs = ").append(tables.getProductionLhs(operand)).append(";\n");
+                if (arity > 0) {
+                    body.append("                return ").append(arity - 1).append(";\n");
+                    return false;
+                }
+                // An empty rule pops nothing, so this state takes the goto itself
+                body.append("                r = 0;\n");
+                body.append("                break;\n");
+                return true;
+        }
+    }
+}
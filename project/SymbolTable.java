@@ -1,10 +1,14 @@
 package project;
 
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import project.utils.lexer.IdentifierInterner;
 
 public class SymbolTable {
     public Map<String, SymbolDetails> table;
@@ -13,6 +17,13 @@ public class SymbolTable {
     private String scopeType = "generic";
     private String scopeId = "";
     private final Set<String> usedVariables = new HashSet<>();
+
+    // With an interner, every entry of table is also in slots at its name's id,
+    // so lookups by id skip hashing; used variables found by id are marked in usedIds
+    private IdentifierInterner interner;
+    private SymbolDetails[] slots = new SymbolDetails[0];
+    private final BitSet usedIds = new BitSet();
+    private PrintStream out = System.out;
     
 
     public SymbolTable() {
@@ -22,6 +33,46 @@ public class SymbolTable {
         this.scopeLevel = scopeLevel;
         this.parent = parent;
         this.table = new HashMap<>(); 
+        this.interner = parent != null ? parent.interner : null;
+        this.out = parent != null ? parent.out : System.out;
+    }
+
+    /**
+     * Sets where the table logs new and updated identifiers and prints itself,
+     * System.out by default. Scopes created with this table as parent use the same.
+     */
+    public void setOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Indexes this table by the ids of an interner, usually the lexer's, so the
+     * id overloads below can be used with the ids on tokens and AST nodes. Scopes
+     * created with this table as parent use the same interner.
+     */
+    public void setInterner(IdentifierInterner interner) {
+        this.interner = interner;
+        this.slots = new SymbolDetails[0];
+        if (interner != null) {
+            for (SymbolDetails details : table.values()) {
+                putSlot(interner.intern(details.getLexeme()), details);
+            }
+        }
+    }
+
+    public IdentifierInterner getInterner() {
+        return interner;
+    }
+
+    private void putSlot(int id, SymbolDetails details) {
+        if (id >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(id + 1, slots.length * 2));
+        }
+        slots[id] = details;
+    }
+
+    private SymbolDetails slot(int id) {
+        return id < slots.length ? slots[id] : null;
     }
     public void setScopeLevel(int level) {
         this.scopeLevel = level;
@@ -36,27 +87,47 @@ public class SymbolTable {
         usedVariables.add(lexeme);
     }
 
+    // Mark a variable as used by its interned id, or by name if there is none
+    public void markVariableAsUsed(int id, String lexeme) {
+        if (interner == null || id < 0) {
+            usedVariables.add(lexeme);
+        } else {
+            usedIds.set(id);
+        }
+    }
+
     // Check if a variable is used in the current scope
     public boolean isVariableUsed(String lexeme) {
-        return usedVariables.contains(lexeme);
+        if (usedVariables.contains(lexeme)) {
+            return true;
+        }
+        int id = interner != null ? interner.lookup(lexeme) : -1;
+        return id >= 0 && usedIds.get(id);
     }
 
     // Get the set of used variables
     public Set<String> getUsedVariables() {
+        for (int id = usedIds.nextSetBit(0); id >= 0; id = usedIds.nextSetBit(id + 1)) {
+            usedVariables.add(interner.getName(id));
+        }
         return usedVariables;
     }
     
     // Add an identifier with type and value
     public void addIdentifier(String lexeme, TokenType type, Object value) {
         if (!table.containsKey(lexeme)) {
-            table.put(lexeme, new SymbolDetails(lexeme, type, value,this.scopeLevel));
-            System.out.println("Added new identifier: " + lexeme + " with value: " + value + " and type: " + type);
+            SymbolDetails details = new SymbolDetails(lexeme, type, value,this.scopeLevel);
+            table.put(lexeme, details);
+            if (interner != null) {
+                putSlot(interner.intern(lexeme), details);
+            }
+            out.println("Added new identifier: " + lexeme + " with value: " + value + " and type: " + type);
         } else {
             // Update value AND type when explicitly declared with a type
             SymbolDetails details = table.get(lexeme);
             details.setValue(value);
             details.setType(type); // This line is missing or not working
-            System.out.println("Updated identifier: " + lexeme + " with new value: " + value + " and type: " + type);
+            out.println("Updated identifier: " + lexeme + " with new value: " + value + " and type: " + type);
         }
     }
 
@@ -81,10 +152,38 @@ public class SymbolTable {
         
         return null; // Variable not found
     }
+    /**
+     * Same as getIdentifier(lexeme), for a name with the given interned id. Falls
+     * back to the name if the table has no interner or the id is -1.
+     */
+    public SymbolDetails getIdentifier(int id, String lexeme) {
+        if (interner == null || id < 0) {
+            return getIdentifier(lexeme);
+        }
+        for (SymbolTable scope = this; scope != null; scope = scope.parent) {
+            SymbolDetails details = scope.slot(id);
+            if (details != null) {
+                // Marked as used in every scope from this one up to where it was found
+                for (SymbolTable marked = this; marked != scope.parent; marked = marked.parent) {
+                    marked.usedIds.set(id);
+                }
+                return details;
+            }
+        }
+        return null;
+    }
+
     public SymbolDetails getIdentifierLocalScope(String lexeme) {
         return table.get(lexeme);
     }
 
+    public SymbolDetails getIdentifierLocalScope(int id, String lexeme) {
+        if (interner == null || id < 0) {
+            return table.get(lexeme);
+        }
+        return slot(id);
+    }
+
     public String getScopeType() {
         return scopeType;
     }
@@ -118,6 +217,10 @@ public class SymbolTable {
     public boolean hasIdentifier(String lexeme) {
         return table.containsKey(lexeme);
     }
+
+    public boolean hasIdentifier(int id, String lexeme) {
+        return getIdentifierLocalScope(id, lexeme) != null;
+    }
     
     public void updateIdentifier(String lexeme, Object value) {
         SymbolDetails details = table.get(lexeme);
@@ -125,6 +228,12 @@ public class SymbolTable {
             details.setValue(value);
         }
     }
+    public void updateIdentifier(int id, String lexeme, Object value) {
+        SymbolDetails details = getIdentifierLocalScope(id, lexeme);
+        if (details != null) {
+            details.setValue(value);
+        }
+    }
     // Add this new method to update both value and type
     public void updateIdentifier(String lexeme, TokenType type, Object value) {
         SymbolDetails details = table.get(lexeme);
@@ -142,18 +251,18 @@ public class SymbolTable {
     
     // Print the symbol table
     public void printTable() {
-        System.out.printf("| %-15s | %-12s | %-15s |\n", "Lexeme", "Type", "Value");
+        out.printf("| %-15s | %-12s | %-15s |\n", "Lexeme", "Type", "Value");
         for (Map.Entry<String, SymbolDetails> entry : table.entrySet()) {
             SymbolDetails details = entry.getValue();
-            System.out.printf("| %-15s | %-12s | %-15s |\n", details.getLexeme(), details.getType(), details.getValue());
+            out.printf("| %-15s | %-12s | %-15s |\n", details.getLexeme(), details.getType(), details.getValue());
         }
     }
 
     public void printTableHierarchical() {
-        System.out.println("Scope Level " + this.getScopeLevel() + " (" + this.getScopeType() + "):");
-        System.out.println("|-----------------|--------------|-----------------|-------|");
-        System.out.printf("| %-15s | %-12s | %-15s | %-5s |\n", "Lexeme", "Type", "Value", "Scope");
-        System.out.println("|-----------------|--------------|-----------------|-------|");
+        out.println("Scope Level " + this.getScopeLevel() + " (" + this.getScopeType() + "):");
+        out.println("|-----------------|--------------|-----------------|-------|");
+        out.printf("| %-15s | %-12s | %-15s | %-5s |\n", "Lexeme", "Type", "Value", "Scope");
+        out.println("|-----------------|--------------|-----------------|-------|");
     
         // Print current scope variables
         table.values().stream()
@@ -162,14 +271,14 @@ public class SymbolTable {
                  if (details.getType() == TokenType.METHOD && details.getValue() instanceof List) {
                      List<?> overloads = (List<?>) details.getValue();
                      for (Object sig : overloads) {
-                         System.out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
+                         out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
                              details.getLexeme(),
                              details.getType(),
                              "[" + sig.toString().replaceAll(",$", "") + "]",
                              this.getScopeLevel());
                      }
                  } else {
-                     System.out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
+                     out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
                          details.getLexeme(),
                          details.getType(),
                          details.getValue(),
@@ -189,14 +298,14 @@ public class SymbolTable {
                     if (details.getType() == TokenType.METHOD && details.getValue() instanceof List) {
                         List<?> overloads = (List<?>) details.getValue();
                         for (Object sig : overloads) {
-                            System.out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
+                            out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
                                 details.getLexeme(),
                                 details.getType(),
                                 "[" + sig.toString().replaceAll(",$", "") + "]",
                                 currentScope.getScopeLevel());
                         }
                     } else {
-                        System.out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
+                        out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
                             details.getLexeme(),
                             details.getType(),
                             details.getValue(),
@@ -208,20 +317,20 @@ public class SymbolTable {
     }
 
     public void printTableRecursive() {
-        System.out.println("\nSymbol Table (Scope Level " + scopeLevel + "):");
-        System.out.printf("| %-15s | %-12s | %-15s | %-5s |\n", "Lexeme", "Type", "Value", "Scope");
-        System.out.println("|-----------------|--------------|-----------------|-------|");
+        out.println("\nSymbol Table (Scope Level " + scopeLevel + "):");
+        out.printf("| %-15s | %-12s | %-15s | %-5s |\n", "Lexeme", "Type", "Value", "Scope");
+        out.println("|-----------------|--------------|-----------------|-------|");
         
         // Print current scope
         for (Map.Entry<String, SymbolDetails> entry : table.entrySet()) {
             SymbolDetails details = entry.getValue();
-            System.out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
+            out.printf("| %-15s | %-12s | %-15s | %-5d |\n",
                 details.getLexeme(), details.getType(), details.getValue(), details.getScopeLevel());
         }
         
         // Print parent scope with indentation
         if (parent != null) {
-            System.out.println("\nParent Scope:");
+            out.println("\nParent Scope:");
             parent.printTableRecursive();
         }
     }
@@ -5,6 +5,7 @@ public class Token {
     String lexeme;
     int line;
     int position;
+    int id = -1; // the interned id of an identifier, or -1
 
     public Token(TokenType type, String lexeme, int line, int position) {
         this.type = type;
@@ -12,6 +13,11 @@ public class Token {
         this.line = line;
         this.position = position;
     }
+
+    public Token(TokenType type, String lexeme, int line, int position, int id) {
+        this(type, lexeme, line, position);
+        this.id = id;
+    }
     public int getLine() {
         return line;
     }
@@ -24,6 +30,15 @@ public class Token {
         return type;
     }
 
+    public String getLexeme() {
+        return lexeme;
+    }
+
+    /// Returns the id the lexer's IdentifierInterner gave an identifier, or -1 for other tokens.
+    public int getId() {
+        return id;
+    }
+
     @Override
     public String toString() {
         
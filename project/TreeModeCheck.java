@@ -0,0 +1,102 @@
+package project;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks that the tree modes only change what is built: parsing every .up file under a
+ * directory in each Parser.TreeMode must accept the same files and report the same
+ * error summaries, and recognize() must report the errors at the same positions, also
+ * when it stops at the first one.
+ * Prints each difference and exits with status 1 if there is any.
+ *
+ *     java project.TreeModeCheck [directory]
+ */
+public class TreeModeCheck {
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "TestFiles/ErrorFiles");
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        int differences = 0;
+        int fileCount;
+        try {
+            BatchParser batch = new BatchParser(pool);
+            batch.setTreeMode(Parser.TreeMode.PARSE_TREE);
+            List<BatchParser.Result> expected = batch.parseDirectory(directory);
+            fileCount = expected.size();
+            for (Parser.TreeMode mode : Parser.TreeMode.values()) {
+                if (mode == Parser.TreeMode.PARSE_TREE) {
+                    continue;
+                }
+                batch.setTreeMode(mode);
+                List<BatchParser.Result> actual = batch.parseDirectory(directory);
+                for (int i = 0; i < expected.size(); i++) {
+                    BatchParser.Result result = expected.get(i);
+                    differences += compare(mode.toString(), result.getFile(), result.isAccepted(),
+                            result.getErrors(), actual.get(i).isAccepted(), actual.get(i).getErrors());
+                }
+            }
+            for (BatchParser.Result result : expected) {
+                List<String> positions = new ArrayList<>();
+                for (String error : result.getErrors()) {
+                    positions.add(error.substring(0, error.indexOf(" - ")));
+                }
+                Parser parser = recognize(result.getFile(), Integer.MAX_VALUE);
+                differences += compare("recognize()", result.getFile(), result.isAccepted(), positions,
+                        parser.isAccepted(), errorPositions(parser));
+
+                // Stopping at the first error rejects the file without reading the rest
+                List<String> first = positions.subList(0, Math.min(1, positions.size()));
+                parser = recognize(result.getFile(), 1);
+                differences += compare("recognize(1)", result.getFile(),
+                        first.isEmpty() && result.isAccepted(), first, parser.isAccepted(), errorPositions(parser));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println(fileCount + " files, " + differences + " difference(s) from PARSE_TREE mode");
+        if (differences > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Returns a parser that has run recognize() over the file, recording up to maxErrors errors
+    private static Parser recognize(Path file, int maxErrors) throws IOException {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        SymbolTable symbolTable = new SymbolTable();
+        symbolTable.setOutput(discard);
+        Lexer lexer = new Lexer(file.toString(), symbolTable);
+        lexer.setOutput(discard);
+        Parser parser = new Parser(lexer);
+        parser.setOutput(discard);
+        parser.recognize(maxErrors);
+        return parser;
+    }
+
+    // Returns the positions of the errors a parser reported, written as the error summary writes them
+    private static List<String> errorPositions(Parser parser) {
+        List<String> positions = new ArrayList<>();
+        for (int i = 0; i < parser.getErrorPositionCount(); i++) {
+            positions.add("Line " + parser.getErrorLine(i) + ":" + parser.getErrorColumn(i));
+        }
+        return positions;
+    }
+
+    // Prints how a result differs from the expected one and returns 1, or returns 0 if it does not
+    private static int compare(String what, Path file, boolean expectedAccepted, List<String> expectedErrors,
+                               boolean accepted, List<String> errors) {
+        if (accepted == expectedAccepted && errors.equals(expectedErrors)) {
+            return 0;
+        }
+        System.out.println(file + " in " + what + ":");
+        System.out.println("  PARSE_TREE: accepted " + expectedAccepted + ", " + expectedErrors);
+        System.out.println("  " + what + ": accepted " + accepted + ", " + errors);
+        return 1;
+    }
+}
@@ -102,7 +102,7 @@ public class Evaluator {
 
             case "IDENTIFIER":
                 String varName = node.getValue();
-                SymbolDetails details = symbolTableManager.getIdentifier(varName);
+                SymbolDetails details = symbolTableManager.getIdentifier(node.getId(), varName);
                 if (details == null) {
                     throw new InterpreterException("Undefined variable: " + varName, getNodeLineNumber(node));
                 }
@@ -112,7 +112,7 @@ public class Evaluator {
                 if (details.getValue() == null) {
                     throw new InterpreterException("Variable '" + varName + "' is uninitialized", getNodeLineNumber(node));
                 }
-                symbolTableManager.getCurrentSymbolTable().markVariableAsUsed(varName);
+                symbolTableManager.getCurrentSymbolTable().markVariableAsUsed(node.getId(), varName);
                 return details.getValue();
 
             case "FUNC_CALL":
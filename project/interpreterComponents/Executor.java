@@ -174,6 +174,7 @@ public class Executor {
 
     private void executeAssignment(ASTNode node) {
         String variable = null;
+        int variableId = -1;
         Object value = null;
         TokenType type = null;
         boolean isForLoopInit = node.getParent() != null && node.getParent().getType().equals("FOR_LOOP");
@@ -196,8 +197,9 @@ public class Executor {
                 case "IDENTIFIER":
                     if (variable == null) {
                         variable = child.getValue();
+                        variableId = child.getId();
                     } else {
-                        SymbolDetails rhsDetails = symbolTableManager.getIdentifier(child.getValue());
+                        SymbolDetails rhsDetails = symbolTableManager.getIdentifier(child.getId(), child.getValue());
                         if (rhsDetails == null) {
                             throw new InterpreterException(
                                 "Variable '" + child.getValue() + "' is not defined.",
@@ -234,11 +236,11 @@ public class Executor {
             System.out.println("Warning: Assigned 'none' to variable '" + variable + "' of type " + type);
             // Allow assignment of 'none' (null) to any type
             symbolTableManager.addIdentifier(variable, type, null);
-            SymbolDetails details = symbolTableManager.getIdentifier(variable);
+            SymbolDetails details = symbolTableManager.getIdentifier(variableId, variable);
             if (details != null) {
                 details.setExplicitlyDeclared(true);
             }
-            symbolTableManager.getCurrentSymbolTable().markVariableAsUsed(variable);
+            symbolTableManager.getCurrentSymbolTable().markVariableAsUsed(variableId, variable);
             System.out.println("Assigned " + variable + " = none");
             return;
         }
@@ -246,7 +248,7 @@ public class Executor {
         // Get or verify type
         if (type == null) {
             // Assignment to existing variable
-            SymbolDetails existing = symbolTableManager.getIdentifier(variable);
+            SymbolDetails existing = symbolTableManager.getIdentifier(variableId, variable);
             if (existing == null) {
                 throw new InterpreterException(
                     "Variable '" + variable + "' must be declared before assignment.",
@@ -291,10 +293,10 @@ public class Executor {
             SymbolDetails existing;
             if (isForLoopInit) {
                 // For for-loop variable declarations, check all visible scopes (Java behavior)
-                existing = symbolTableManager.getIdentifier(variable);
+                existing = symbolTableManager.getIdentifier(variableId, variable);
             } else {
                 // For other declarations, only check current scope (allow shadowing)
-                existing = symbolTableManager.getCurrentSymbolTable().getIdentifierLocalScope(variable);
+                existing = symbolTableManager.getCurrentSymbolTable().getIdentifierLocalScope(variableId, variable);
             }
             if (existing != null && existing.isExplicitlyDeclared()) {
                 throw new InterpreterException(
@@ -305,14 +307,14 @@ public class Executor {
 
 
             symbolTableManager.addIdentifier(variable, type, value);
-            SymbolDetails details = symbolTableManager.getIdentifier(variable);
+            SymbolDetails details = symbolTableManager.getIdentifier(variableId, variable);
             if (details != null) {
                 details.setExplicitlyDeclared(true);
             }
         } else {
-            symbolTableManager.updateIdentifier(variable, value);
+            symbolTableManager.updateIdentifier(variableId, variable, value);
         }
-        symbolTableManager.getCurrentSymbolTable().markVariableAsUsed(variable);
+        symbolTableManager.getCurrentSymbolTable().markVariableAsUsed(variableId, variable);
 
         System.out.println("Assigned " + variable + " = " + value);
     }
@@ -53,7 +53,16 @@ public class InterpreterN {
         }
 
         System.out.println("Converting CST to AST...");
-        ASTNode astRoot = ASTNode.fromCST(root);
+        interpret(ASTNode.fromCST(root));
+    }
+
+    /**
+     * Interprets an AST built directly by the parser (see Parser.TreeMode.AST).
+     */
+    public void interpret(ASTNode astRoot) {
+        if (astRoot == null) {
+            throw new InterpreterException("AST is null. Cannot interpret.", 0);
+        }
 
         System.out.println("Generated AST:");
         astRoot.printAST(0);
@@ -147,6 +147,28 @@ public class SymbolTableManager {
         return currentSymbolTable.getIdentifier(name);
     }
     
+    /**
+     * Looks a name up by the id its AST node carries, falling back to the name
+     * when the id is -1 or the symbol tables are not indexed by id.
+     */
+    public SymbolDetails getIdentifier(int id, String name) {
+        if (currentSymbolTable == null) {
+            throw new InterpreterException("No active scope to search for identifier: " + name, 0);
+        }
+        return currentSymbolTable.getIdentifier(id, name);
+    }
+    
+    public void updateIdentifier(int id, String name, Object value) {
+        SymbolTable current = currentSymbolTable;
+        while (current != null && !current.hasIdentifier(id, name)) {
+            current = current.getParent();
+        }
+        if (current == null) {
+            throw new InterpreterException("Undefined variable: " + name, 0);
+        }
+        current.updateIdentifier(id, name, value);
+    }
+    
     public void updateIdentifier(String name, Object value) {
         SymbolTable scope = findScopeWithIdentifier(name);
         if (scope == null) {
@@ -18,8 +18,20 @@ public class LR1Generator {
      * @throws AnalysisException If there is an error in parsing the grammar or generating the parse table.
      */
     public LR1Generator(String grammarInput) throws AnalysisException {
+        this(grammarInput, Grammar.TableMode.CANONICAL_LR1);
+    }
+
+    /**
+     * Constructor for LR1Generator that builds the tables in the given mode.
+     * @param grammarInput The input string representing the grammar.
+     * @param tableMode Whether to build canonical LR(1) or LALR(1) tables.
+     * @throws AnalysisException If there is an error in parsing the grammar or generating the parse table.
+     */
+    public LR1Generator(String grammarInput, Grammar.TableMode tableMode) throws AnalysisException {
         // Parse the grammar input
         this.grammar = parseGrammar(grammarInput);
+        grammar.setTableMode(tableMode);
+        grammar.setParallelism(Runtime.getRuntime().availableProcessors());
 
         // Initialize the parse table
         grammar.initParseTable();
@@ -0,0 +1,125 @@
+package project.utils.lexer;
+
+import java.util.Arrays;
+
+/**
+ * Gives each distinct identifier a dense int id, 0, 1, 2, ... in the order the
+ * names are first seen, and keeps one String per name. Names are looked up
+ * straight from a range of the source, so an identifier that has been seen
+ * before costs a hash of its characters and no allocation.
+ *
+ * The ids are handed from the lexer to tokens, AST nodes and the interpreter's
+ * symbol tables, which can then index arrays by id instead of hashing names.
+ * An interner is not thread-safe; it belongs to one lexer at a time.
+ */
+public class IdentifierInterner {
+
+    private static final int EMPTY = -1;
+
+    private String[] names = new String[64];
+    private int[] hashes = new int[64];
+    private int size;
+
+    // Open-addressed table of ids, probed linearly; at most half full
+    private int[] slots = newSlots(128);
+    private int mask = 127;
+
+    /**
+     * Returns the id of the name spelled by text[start, end), giving it a new id
+     * if it has not been seen before.
+     */
+    public int intern(CharSequence text, int start, int end) {
+        int hash = hash(text, start, end);
+        int slot = hash & mask;
+        for (int id; (id = slots[slot]) != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[id] == hash && matches(names[id], text, start, end)) {
+                return id;
+            }
+        }
+        return add(text.subSequence(start, end).toString(), hash, slot);
+    }
+
+    /**
+     * Returns the id of a name, giving it a new id if it has not been seen before.
+     */
+    public int intern(String name) {
+        return intern(name, 0, name.length());
+    }
+
+    /**
+     * Returns the id of a name, or -1 if it has not been interned.
+     */
+    public int lookup(String name) {
+        int hash = hash(name, 0, name.length());
+        for (int slot = hash & mask, id; (id = slots[slot]) != EMPTY; slot = (slot + 1) & mask) {
+            if (hashes[id] == hash && names[id].equals(name)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /// Returns the name with the given id.
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /// Returns the number of names interned, which is one more than the largest id.
+    public int size() {
+        return size;
+    }
+
+    private int add(String name, int hash, int slot) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        int id = size++;
+        names[id] = name;
+        hashes[id] = hash;
+        slots[slot] = id;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    private void rehash() {
+        slots = newSlots(slots.length * 2);
+        mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+
+    // String.hashCode of the range, spread so that similar names use different slots
+    private static int hash(CharSequence text, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String name, CharSequence text, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package project.utils.lexer;
+
+/**
+ * Skips runs of characters that the lexer would otherwise read one at a time.
+ * Each method looks at chars[from, to) and returns an index i from which the
+ * lexer's own loop carries on; every character in [from, i) belongs to the run.
+ * An implementation may stop early, for example at a character outside ASCII,
+ * since the lexer checks the characters it stops at anyway.
+ *
+ * The Vector API implementation is used when the system property
+ * "upspyre.vectorLexer" is true and the jdk.incubator.vector module is
+ * available. Otherwise there is no run scanner and the lexer reads one character
+ * at a time as before. The implementation is in the separate vector/ source root,
+ * so the rest of the tree compiles without the incubator module.
+ */
+interface RunScanner {
+
+    String PROPERTY = "upspyre.vectorLexer";
+
+    /// Skips ASCII whitespace, the characters Character.isWhitespace accepts below 128.
+    int skipWhitespace(char[] chars, int from, int to);
+
+    /// Skips ASCII letters, digits and underscores.
+    int skipIdentifierPart(char[] chars, int from, int to);
+
+    /// Skips the body of a single-line comment, up to '\n' or '\0'.
+    int skipLine(char[] chars, int from, int to);
+
+    /// Skips the body of a multi-line comment, up to '*' or '\0'.
+    int skipCommentBody(char[] chars, int from, int to);
+
+    /**
+     * Returns the Vector API scanner if it is enabled and can be loaded, or null.
+     * The implementation is loaded by name, so a runtime without the incubator
+     * module, or a build without the vector/ source root, never links against it.
+     */
+    static RunScanner load() {
+        if (!Boolean.getBoolean(PROPERTY)
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (RunScanner) Class.forName("project.utils.lexer.VectorRunScanner")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
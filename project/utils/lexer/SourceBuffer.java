@@ -0,0 +1,505 @@
+package project.utils.lexer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The source text of a program, decoded on demand as the lexer reads it.
+ * Large files are memory-mapped and decoded straight from the mapping; smaller
+ * files, readers and input streams are decoded through a small read window.
+ *
+ * Line terminators are normalized the way the old Scanner-based reader did:
+ * CR LF, CR, NEL and the Unicode line and paragraph separators all become '\n',
+ * and a final '\n' is added if the text does not end with one. Decoded text is
+ * kept, so the lexer can be reset and read the source again.
+ *
+ * The offset each line starts at is recorded as the text is decoded, so a line
+ * and column can be found from a single offset without counting characters.
+ *
+ * A decoded source can be edited in place with replace(). The text has a gap at
+ * the last edit, and the line starts after it are kept relative to the end of the
+ * text, so an edit only moves what lies between it and the edit before.
+ *
+ * The input is closed once it has been read to the end. A reader that stops
+ * before the end, such as a parser that gives up after too many errors, closes
+ * the source itself.
+ */
+public class SourceBuffer implements CharSequence, Closeable {
+
+    // Files at least this large are memory-mapped instead of read through a channel
+    public static final long MAP_THRESHOLD = 1 << 20;
+
+    private static final int WINDOW_SIZE = 8192;
+
+    // Null unless the Vector API fast path is enabled, see RunScanner
+    private static final RunScanner RUNS = RunScanner.load();
+
+    private char[] chars = new char[WINDOW_SIZE];
+    private int length;
+    private boolean complete;
+
+    // The text from gapStart on is stored gapLength characters further on; until the
+    // first edit there is no gap and gapStart is length
+    private int gapStart;
+    private int gapLength;
+
+    // lineStarts[i] is the offset line i + 1 starts at; a final '\n' starts an empty line.
+    // The entries from lineGapStart on are stored lineGapLength further on, as offsets
+    // from the end of the text
+    private int[] lineStarts = new int[256];
+    private int lineCount = 1;
+    private int lineGapStart = 1;
+    private int lineGapLength;
+
+    // Exactly one of these is the undecoded rest of the source
+    private Reader reader;
+    private ByteBuffer mapped;
+    private CharsetDecoder decoder;
+
+    private final char[] window = new char[WINDOW_SIZE];
+    private boolean flushing;
+    private boolean skipLineFeed; // the last character read was '\r'
+
+    private SourceBuffer(Reader reader) {
+        this.reader = reader;
+    }
+
+    private SourceBuffer(ByteBuffer mapped, Charset charset) {
+        this.mapped = mapped;
+        this.decoder = newDecoder(charset);
+    }
+
+    private SourceBuffer(char[] chars) {
+        this.chars = chars;
+        this.complete = true;
+    }
+
+    /**
+     * Opens a source file. Files of MAP_THRESHOLD bytes or more are memory-mapped.
+     */
+    public static SourceBuffer open(Path path, Charset charset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return of(channel, charset);
+    }
+
+    /**
+     * Reads a source from a file channel, which is closed once it has been read or
+     * the source is closed.
+     */
+    public static SourceBuffer of(FileChannel channel, Charset charset) throws IOException {
+        if (channel.size() >= MAP_THRESHOLD) {
+            try (channel) {
+                return new SourceBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), charset);
+            }
+        }
+        return new SourceBuffer(Channels.newReader(channel, newDecoder(charset), WINDOW_SIZE));
+    }
+
+    /**
+     * Reads a source from a reader, which is closed once it has been read.
+     */
+    public static SourceBuffer of(Reader reader) {
+        return new SourceBuffer(reader);
+    }
+
+    /**
+     * Reads a source from an input stream such as System.in, which is closed once it has been read.
+     */
+    public static SourceBuffer of(InputStream in, Charset charset) {
+        return new SourceBuffer(new InputStreamReader(in, newDecoder(charset)));
+    }
+
+    /**
+     * Wraps text that is already in memory.
+     */
+    public static SourceBuffer of(String text) {
+        return new SourceBuffer(new StringReader(text));
+    }
+
+    private static CharsetDecoder newDecoder(Charset charset) {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Returns the character at index, or '\0' if the source ends before it.
+     */
+    @Override
+    public char charAt(int index) {
+        if (index < gapStart) {
+            return chars[index];
+        }
+        if (index < length) {
+            return chars[index + gapLength];
+        }
+        return fill(index) ? chars[index] : '\0';
+    }
+
+    /**
+     * Returns true if the source has no character at index.
+     */
+    public boolean isEnd(int index) {
+        return index >= length && !fill(index);
+    }
+
+    /**
+     * Returns the length of the whole source. This decodes the rest of the input.
+     */
+    @Override
+    public int length() {
+        while (fill(length)) {
+            // keep decoding
+        }
+        return length;
+    }
+
+    public String substring(int start, int end) {
+        if (end <= gapStart) {
+            return new String(chars, start, end - start);
+        }
+        if (start >= gapStart) {
+            return new String(chars, start + gapLength, end - start);
+        }
+        return appendTo(new StringBuilder(end - start), start, end).toString();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return substring(start, end);
+    }
+
+    /**
+     * Tests whether the text starting at start is the given string, without copying it.
+     */
+    public boolean regionMatches(int start, String other) {
+        if (isEnd(start + other.length() - 1)) {
+            return false;
+        }
+        for (int i = 0; i < other.length(); i++) {
+            if (charAt(start + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of lines started in the text decoded so far.
+     */
+    public int lineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the offset a line starts at.
+     *
+     * @param line A line number, counted from 1, below lineCount() + 1
+     */
+    public int lineStart(int line) {
+        int i = line - 1;
+        return i < lineGapStart ? lineStarts[i] : lineStarts[i + lineGapLength] + length;
+    }
+
+    /**
+     * Returns the line, counted from 1, that holds an offset which has been decoded.
+     */
+    public int lineOf(int offset) {
+        int low = 0;
+        int high = lineCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStart(mid + 1) <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low + 1;
+    }
+
+    /**
+     * Returns the column, counted from 0, of an offset which has been decoded.
+     */
+    public int columnOf(int offset) {
+        return offset - lineStart(lineOf(offset));
+    }
+
+    /**
+     * Skips whitespace from index on, as far as the text decoded so far allows
+     * the fast path to go. The lexer's own loop checks the characters from the
+     * returned index on; without the fast path this returns index unchanged.
+     */
+    public int skipWhitespace(int index) {
+        if (RUNS == null || index >= length) {
+            return index;
+        }
+        int shift = index < gapStart ? 0 : gapLength;
+        return RUNS.skipWhitespace(chars, index + shift, shift == 0 ? gapStart : length + gapLength) - shift;
+    }
+
+    /// Same as skipWhitespace(index), for the characters of an identifier.
+    public int skipIdentifierPart(int index) {
+        if (RUNS == null || index >= length) {
+            return index;
+        }
+        int shift = index < gapStart ? 0 : gapLength;
+        return RUNS.skipIdentifierPart(chars, index + shift, shift == 0 ? gapStart : length + gapLength) - shift;
+    }
+
+    /// Same as skipWhitespace(index), for the body of a single-line comment.
+    public int skipLine(int index) {
+        if (RUNS == null || index >= length) {
+            return index;
+        }
+        int shift = index < gapStart ? 0 : gapLength;
+        return RUNS.skipLine(chars, index + shift, shift == 0 ? gapStart : length + gapLength) - shift;
+    }
+
+    /// Same as skipWhitespace(index), for the body of a multi-line comment.
+    public int skipCommentBody(int index) {
+        if (RUNS == null || index >= length) {
+            return index;
+        }
+        int shift = index < gapStart ? 0 : gapLength;
+        return RUNS.skipCommentBody(chars, index + shift, shift == 0 ? gapStart : length + gapLength) - shift;
+    }
+
+    /**
+     * Appends the characters in [start, end) to a builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder, int start, int end) {
+        if (end <= gapStart) {
+            return builder.append(chars, start, end - start);
+        }
+        if (start >= gapStart) {
+            return builder.append(chars, start + gapLength, end - start);
+        }
+        return builder.append(chars, start, gapStart - start).append(chars, gapStart + gapLength, end - gapStart);
+    }
+
+    /**
+     * Replaces removedLength characters at offset with text, in place. Line
+     * terminators in text are normalized like the rest of the source, and the
+     * source still ends with '\n'. This decodes the rest of the input first.
+     *
+     * @return How many characters longer the source got, negative if it got shorter
+     */
+    public int replace(int offset, int removedLength, CharSequence text) {
+        int oldLength = length();
+        Objects.checkFromIndexSize(offset, removedLength, oldLength);
+        SourceBuffer inserted = new SourceBuffer(new char[text.length() + 1]);
+        inserted.append(text.toString().toCharArray(), text.length());
+        if (offset + removedLength == oldLength) {
+            char last = inserted.length > 0 ? inserted.chars[inserted.length - 1]
+                    : offset > 0 ? charAt(offset - 1) : '\n';
+            if (last != '\n') {
+                inserted.chars[inserted.length++] = '\n';
+                inserted.addLineStart(inserted.length);
+            }
+        }
+
+        // The lines starting in the removed text go, the ones starting in the inserted text come
+        int keptLines = lineOf(offset);
+        int removedLines = lineOf(offset + removedLength) - keptLines;
+        moveLineGap(keptLines);
+        lineGapLength += removedLines;
+        lineCount -= removedLines;
+        if (lineGapLength < inserted.lineCount - 1) {
+            growLineGap(inserted.lineCount - 1);
+        }
+        for (int line = 1; line < inserted.lineCount; line++) {
+            lineStarts[lineGapStart++] = offset + inserted.lineStarts[line];
+            lineGapLength--;
+            lineCount++;
+        }
+
+        moveGap(offset);
+        gapLength += removedLength;
+        length -= removedLength;
+        if (gapLength < inserted.length) {
+            growGap(inserted.length);
+        }
+        System.arraycopy(inserted.chars, 0, chars, gapStart, inserted.length);
+        gapStart += inserted.length;
+        gapLength -= inserted.length;
+        length += inserted.length;
+        return length - oldLength;
+    }
+
+    // Moves the gap in the text to offset
+    private void moveGap(int offset) {
+        if (offset < gapStart) {
+            System.arraycopy(chars, offset, chars, offset + gapLength, gapStart - offset);
+        } else if (offset > gapStart) {
+            System.arraycopy(chars, gapStart + gapLength, chars, gapStart, offset - gapStart);
+        }
+        gapStart = offset;
+    }
+
+    private void growGap(int minGap) {
+        int after = length - gapStart;
+        char[] grown = new char[Math.max(length + minGap, chars.length * 2)];
+        System.arraycopy(chars, 0, grown, 0, gapStart);
+        System.arraycopy(chars, gapStart + gapLength, grown, grown.length - after, after);
+        chars = grown;
+        gapLength = grown.length - length;
+    }
+
+    // Moves the gap in the line starts in front of entry index
+    private void moveLineGap(int index) {
+        while (lineGapStart > index) {
+            lineGapStart--;
+            lineStarts[lineGapStart + lineGapLength] = lineStarts[lineGapStart] - length;
+        }
+        while (lineGapStart < index) {
+            lineStarts[lineGapStart] = lineStarts[lineGapStart + lineGapLength] + length;
+            lineGapStart++;
+        }
+    }
+
+    private void growLineGap(int minGap) {
+        int after = lineCount - lineGapStart;
+        int[] grown = new int[Math.max(lineCount + minGap, lineStarts.length * 2)];
+        System.arraycopy(lineStarts, 0, grown, 0, lineGapStart);
+        System.arraycopy(lineStarts, lineGapStart + lineGapLength, grown, grown.length - after, after);
+        lineStarts = grown;
+        lineGapLength = grown.length - lineCount;
+    }
+
+    @Override
+    public String toString() {
+        return substring(0, length());
+    }
+
+    /**
+     * Closes the input without decoding the rest of it. The text decoded so far can
+     * still be read and edited, and the source ends there, with a final '\n' as usual.
+     */
+    @Override
+    public void close() {
+        if (complete) {
+            return;
+        }
+        try {
+            finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close source", e);
+        }
+    }
+
+    // Decodes more input until index is available; returns false if the source ends first
+    private boolean fill(int index) {
+        while (index >= length) {
+            if (complete) {
+                return false;
+            }
+            try {
+                int read = mapped != null ? decodeMapped() : reader.read(window, 0, WINDOW_SIZE);
+                if (read < 0) {
+                    finish();
+                } else {
+                    append(window, read);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read source", e);
+            }
+        }
+        return true;
+    }
+
+    // Decodes the next window of a mapped file, returning -1 at the end
+    private int decodeMapped() {
+        CharBuffer out = CharBuffer.wrap(window);
+        // The mapping holds the whole file, so every call sees the end of the input
+        CoderResult result = flushing ? decoder.flush(out) : decoder.decode(mapped, out, true);
+        if (!flushing && result.isUnderflow()) {
+            flushing = true;
+            result = decoder.flush(out);
+        }
+        if (flushing && result.isUnderflow() && out.position() == 0) {
+            return -1;
+        }
+        return out.position();
+    }
+
+    // Copies decoded characters, normalizing line terminators to '\n'
+    private void append(char[] source, int count) {
+        ensureCapacity(length + count);
+        for (int i = 0; i < count; i++) {
+            char c = source[i];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            switch (c) {
+                case '\r':
+                    skipLineFeed = true;
+                    c = '\n';
+                    break;
+                case '\u2028':
+                case '\u2029':
+                case '\u0085':
+                    c = '\n';
+                    break;
+                default:
+                    break;
+            }
+            chars[length++] = c;
+            if (c == '\n') {
+                addLineStart(length);
+            }
+        }
+        gapStart = length;
+    }
+
+    // Only called while decoding, when neither gap has been opened
+    private void addLineStart(int offset) {
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+        }
+        lineStarts[lineCount++] = offset;
+        lineGapStart = lineCount;
+    }
+
+    private void finish() throws IOException {
+        if (length > 0 && chars[length - 1] != '\n') {
+            ensureCapacity(length + 1);
+            chars[length++] = '\n';
+            addLineStart(length);
+            gapStart = length;
+        }
+        complete = true;
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+        mapped = null;
+        decoder = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package project.utils.lexer;
+
+import java.util.Arrays;
+import project.Token;
+import project.TokenType;
+
+/**
+ * Tokens stored as parallel int arrays over the source they were scanned from.
+ * Token i has a type ordinal, a line, a column and a lexeme that is usually the
+ * slice [start, start + length) of the source. Lexemes that are not a slice
+ * (error messages, escaped text literals, ".5" read as "0.5") are kept in a side
+ * table and marked by a negative length. Identifiers also carry the id their
+ * lexer's IdentifierInterner gave them; other tokens have id -1. Lexeme strings
+ * and Token objects are only created when a caller asks for them.
+ *
+ * Tokens are added at a gap in the arrays, which is at the end unless moveGap()
+ * put it somewhere else, so the tokens of an edited stretch of source can be
+ * replaced without moving the ones after it. Those tokens also carry a pending
+ * shift of their starts and lines, so text inserted or removed in front of them
+ * does not touch them either.
+ */
+public class TokenBuffer {
+
+    private static final TokenType[] TOKEN_TYPES = TokenType.values();
+
+    private CharSequence source;
+
+    private int[] types = new int[1024];
+    private int[] starts = new int[1024];
+    private int[] lengths = new int[1024];
+    private int[] lines = new int[1024];
+    private int[] columns = new int[1024];
+    private int[] ids = new int[1024];
+    private int size;
+
+    // Tokens from gapStart on are stored gapLength entries further on, and their
+    // starts and lines are startShift and lineShift short of the real ones
+    private int gapStart;
+    private int gapLength = 1024;
+    private int startShift;
+    private int lineShift;
+
+    private String[] texts = new String[16];
+    private int textCount;
+    private int[] freeTexts = new int[16]; // side table slots of deleted tokens
+    private int freeTextCount;
+
+    public TokenBuffer(CharSequence source) {
+        this.source = source;
+    }
+
+    /**
+     * Empties the buffer, keeping its arrays, and points it at another source.
+     */
+    public void reset(CharSequence source) {
+        this.source = source;
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(texts, 0, textCount, null);
+        size = 0;
+        gapStart = 0;
+        gapLength = types.length;
+        startShift = 0;
+        lineShift = 0;
+        textCount = 0;
+        freeTextCount = 0;
+    }
+
+    /**
+     * Adds a token whose lexeme is the source slice [start, start + length).
+     *
+     * @return The index of the new token
+     */
+    public int add(TokenType type, int start, int length, int line, int column) {
+        return add(type, start, length, line, column, -1);
+    }
+
+    /**
+     * Adds an identifier whose lexeme is the source slice [start, start + length).
+     *
+     * @param id The identifier's interned id
+     * @return The index of the new token
+     */
+    public int add(TokenType type, int start, int length, int line, int column, int id) {
+        if (gapLength == 0) {
+            grow(size + 1);
+        }
+        types[gapStart] = type.ordinal();
+        starts[gapStart] = start;
+        lengths[gapStart] = length;
+        lines[gapStart] = line;
+        columns[gapStart] = column;
+        ids[gapStart] = id;
+        gapLength--;
+        size++;
+        return gapStart++;
+    }
+
+    /**
+     * Adds a token whose lexeme is not a slice of the source.
+     *
+     * @return The index of the new token
+     */
+    public int add(TokenType type, String text, int line, int column) {
+        return add(type, -1, -1 - storeText(text), line, column);
+    }
+
+    // Puts a lexeme in the side table and returns its slot
+    private int storeText(String text) {
+        if (freeTextCount > 0) {
+            int slot = freeTexts[--freeTextCount];
+            texts[slot] = text;
+            return slot;
+        }
+        if (textCount == texts.length) {
+            texts = Arrays.copyOf(texts, textCount * 2);
+        }
+        texts[textCount] = text;
+        return textCount++;
+    }
+
+    /**
+     * Adds the tokens [from, to) of another buffer over the same source.
+     */
+    public void append(TokenBuffer other, int from, int to) {
+        append(other, from, to, 0, 0);
+    }
+
+    /**
+     * Adds the tokens [from, to) of another buffer whose source is this buffer's
+     * with text inserted or removed before them: their lexemes start startShift
+     * characters later here and their lines are lineShift lines later.
+     */
+    public void append(TokenBuffer other, int from, int to, int startShift, int lineShift) {
+        if (gapLength < to - from) {
+            grow(size + to - from);
+        }
+        while (from < to) {
+            boolean moved = from >= other.gapStart; // behind the other buffer's gap
+            int count = moved ? to - from : Math.min(to, other.gapStart) - from;
+            int source = moved ? from + other.gapLength : from;
+            System.arraycopy(other.types, source, types, gapStart, count);
+            System.arraycopy(other.starts, source, starts, gapStart, count);
+            System.arraycopy(other.lengths, source, lengths, gapStart, count);
+            System.arraycopy(other.lines, source, lines, gapStart, count);
+            System.arraycopy(other.columns, source, columns, gapStart, count);
+            System.arraycopy(other.ids, source, ids, gapStart, count);
+            int starting = startShift + (moved ? other.startShift : 0);
+            int lineStep = lineShift + (moved ? other.lineShift : 0);
+            for (int i = gapStart; i < gapStart + count; i++) {
+                if (lengths[i] < 0) {
+                    lengths[i] = -1 - storeText(other.texts[-1 - lengths[i]]);
+                } else {
+                    starts[i] += starting;
+                }
+                lines[i] += lineStep;
+            }
+            gapStart += count;
+            gapLength -= count;
+            size += count;
+            from += count;
+        }
+    }
+
+    /**
+     * Replaces the ids of the tokens from index from on by map[id], for tokens
+     * appended from a buffer whose ids came from another interner.
+     */
+    public void mapIds(int from, int[] map) {
+        for (int i = from; i < size; i++) {
+            int p = physical(i);
+            if (ids[p] >= 0) {
+                ids[p] = map[ids[p]];
+            }
+        }
+    }
+
+    /**
+     * Moves the gap in front of the token at index, so the next tokens added go
+     * there and delete() removes the tokens from index on.
+     */
+    public void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            moveEntries(index, index + gapLength, count);
+            for (int i = index + gapLength; i < index + gapLength + count; i++) {
+                starts[i] -= startShift;
+                lines[i] -= lineShift;
+            }
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            moveEntries(gapStart + gapLength, gapStart, count);
+            for (int i = gapStart; i < index; i++) {
+                starts[i] += startShift;
+                lines[i] += lineShift;
+            }
+        }
+        gapStart = index;
+    }
+
+    /**
+     * Removes the count tokens after the gap.
+     */
+    public void delete(int count) {
+        for (int i = gapStart + gapLength; i < gapStart + gapLength + count; i++) {
+            if (lengths[i] < 0) {
+                int slot = -1 - lengths[i];
+                texts[slot] = null;
+                if (freeTextCount == freeTexts.length) {
+                    freeTexts = Arrays.copyOf(freeTexts, freeTextCount * 2);
+                }
+                freeTexts[freeTextCount++] = slot;
+            }
+        }
+        gapLength += count;
+        size -= count;
+    }
+
+    /**
+     * Moves the tokens after the gap startShift characters and lineShift lines
+     * further into the source, for text inserted or removed in front of them.
+     */
+    public void shift(int startShift, int lineShift) {
+        this.startShift += startShift;
+        this.lineShift += lineShift;
+    }
+
+    private void moveEntries(int from, int to, int count) {
+        System.arraycopy(types, from, types, to, count);
+        System.arraycopy(starts, from, starts, to, count);
+        System.arraycopy(lengths, from, lengths, to, count);
+        System.arraycopy(lines, from, lines, to, count);
+        System.arraycopy(columns, from, columns, to, count);
+        System.arraycopy(ids, from, ids, to, count);
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, types.length * 2);
+        types = grow(types, capacity);
+        starts = grow(starts, capacity);
+        lengths = grow(lengths, capacity);
+        lines = grow(lines, capacity);
+        columns = grow(columns, capacity);
+        ids = grow(ids, capacity);
+        gapLength = capacity - size;
+    }
+
+    // Copies an array into a larger one, keeping the entries after the gap at its end
+    private int[] grow(int[] array, int capacity) {
+        int[] grown = Arrays.copyOf(array, capacity);
+        int after = size - gapStart;
+        System.arraycopy(array, gapStart + gapLength, grown, capacity - after, after);
+        return grown;
+    }
+
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapLength;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType getType(int index) {
+        return TOKEN_TYPES[types[physical(index)]];
+    }
+
+    public int getTypeOrdinal(int index) {
+        return types[physical(index)];
+    }
+
+    public int getLine(int index) {
+        return index < gapStart ? lines[index] : lines[index + gapLength] + lineShift;
+    }
+
+    public int getColumn(int index) {
+        return columns[physical(index)];
+    }
+
+    /// Returns the interned id of an identifier, or -1 for other tokens.
+    public int getId(int index) {
+        return ids[physical(index)];
+    }
+
+    /// Returns the source offset of a token's lexeme, or -1 if the lexeme is not a slice of the source.
+    public int getStart(int index) {
+        int p = physical(index);
+        if (lengths[p] < 0) {
+            return -1;
+        }
+        return index < gapStart ? starts[p] : starts[p] + startShift;
+    }
+
+    public int getLength(int index) {
+        int length = lengths[physical(index)];
+        return length < 0 ? texts[-1 - length].length() : length;
+    }
+
+    /**
+     * Builds the lexeme of a token.
+     */
+    public String getLexeme(int index) {
+        int p = physical(index);
+        if (lengths[p] < 0) {
+            return texts[-1 - lengths[p]];
+        }
+        int start = getStart(index);
+        return source.subSequence(start, start + lengths[p]).toString();
+    }
+
+    /**
+     * Creates a Token object for a token, for callers that keep tokens around.
+     */
+    public Token getToken(int index) {
+        int p = physical(index);
+        return new Token(getType(index), getLexeme(index), getLine(index), columns[p], ids[p]);
+    }
+
+    /**
+     * Formats a token the same way as Token.toString().
+     */
+    public String toString(int index) {
+        return getToken(index).toString();
+    }
+}
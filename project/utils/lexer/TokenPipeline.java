@@ -0,0 +1,207 @@
+package project.utils.lexer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import project.Lexer;
+import project.TokenType;
+
+/**
+ * Runs a lexer on its own thread, ahead of the thread that reads its tokens.
+ * The lexer fills blocks of tokens and hands them over through a bounded
+ * single-producer single-consumer ring; emptied blocks come back through a
+ * second ring. There are only blockCount blocks, so a lexer that gets too far
+ * ahead waits for the reader to give one back.
+ *
+ * An exception thrown by the lexer is handed to the reader, which gets it from
+ * take() once the tokens scanned before it have been read.
+ */
+public class TokenPipeline {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+    public static final int DEFAULT_BLOCK_COUNT = 16;
+
+    // Spins before a waiting thread starts parking, and how long it parks for
+    private static final int SPIN_LIMIT = 256;
+    private static final long PARK_NANOS = 20_000;
+
+    private final Lexer lexer;
+    private final int blockSize;
+    private final BlockRing filled;
+    private final BlockRing free;
+    private final Thread thread;
+
+    private volatile boolean stopped;
+    private volatile boolean done;
+    private volatile Throwable failure;
+
+    public TokenPipeline(Lexer lexer) {
+        this(lexer, DEFAULT_BLOCK_SIZE, DEFAULT_BLOCK_COUNT);
+    }
+
+    /**
+     * @param lexer The lexer to run; no other thread may use it until the pipeline is done or stopped
+     * @param blockSize The number of tokens handed over at a time
+     * @param blockCount The number of blocks, which bounds how far the lexer runs ahead
+     */
+    public TokenPipeline(Lexer lexer, int blockSize, int blockCount) {
+        this.lexer = lexer;
+        this.blockSize = blockSize;
+        this.filled = new BlockRing(blockCount);
+        this.free = new BlockRing(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            free.offer(new TokenBuffer(lexer.getSource()));
+        }
+        this.thread = new Thread(this::run, "upspyre-lexer");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    private void run() {
+        TokenBuffer block = null;
+        try {
+            while ((block = waitFor(free)) != null) {
+                block.clear();
+                boolean end = false;
+                while (block.size() < blockSize && !end) {
+                    end = block.getType(lexer.nextToken(block)) == TokenType.EOF;
+                }
+                filled.offer(block);
+                block = null;
+                if (end) {
+                    return;
+                }
+            }
+        } catch (Throwable e) {
+            if (block != null && block.size() > 0) {
+                filled.offer(block); // the tokens before the failure
+            }
+            failure = e;
+        } finally {
+            done = true;
+        }
+    }
+
+    // Polls a ring from the lexer thread until a block arrives or the pipeline is stopped
+    private TokenBuffer waitFor(BlockRing ring) {
+        for (int spins = 0; !stopped; spins++) {
+            TokenBuffer block = ring.poll();
+            if (block != null) {
+                return block;
+            }
+            idle(spins);
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the next block of tokens. The last block ends with EOF.
+     *
+     * @return The block, to be handed back through recycle() once it has been read,
+     *         or null if the lexer has finished or the pipeline was stopped
+     */
+    public TokenBuffer take() {
+        for (int spins = 0; ; spins++) {
+            TokenBuffer block = filled.poll();
+            if (block != null) {
+                return block;
+            }
+            if (done) {
+                // Blocks offered before the lexer finished are visible now
+                block = filled.poll();
+                if (block != null) {
+                    return block;
+                }
+                rethrowFailure();
+                return null;
+            }
+            idle(spins);
+        }
+    }
+
+    /**
+     * Hands a block that has been read back to the lexer thread.
+     */
+    public void recycle(TokenBuffer block) {
+        free.offer(block);
+    }
+
+    /**
+     * Stops the lexer thread after the block it is filling and waits for it. Blocks
+     * it has finished can still be taken, after which the lexer is idle right after
+     * the last token handed over, so it can be used on the calling thread again.
+     */
+    public void stop() {
+        stopped = true;
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable e = failure;
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e != null) {
+            throw new IllegalStateException("Lexer thread failed", e);
+        }
+    }
+
+    private static void idle(int spins) {
+        if (spins < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    // A bounded ring with one producer and one consumer. Each side only writes its
+    // own counter, so offer and poll need no locks.
+    private static final class BlockRing {
+        private final TokenBuffer[] slots;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong(); // next slot to poll
+        private final AtomicLong tail = new AtomicLong(); // next slot to offer
+
+        BlockRing(int capacity) {
+            int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+            slots = new TokenBuffer[size];
+            mask = size - 1;
+        }
+
+        // A ring can hold every block of its pipeline, so it is never full
+        void offer(TokenBuffer block) {
+            long t = tail.get();
+            if (t - head.getAcquire() == slots.length) {
+                throw new IllegalStateException("Block ring is full");
+            }
+            slots[(int) t & mask] = block;
+            tail.setRelease(t + 1);
+        }
+
+        TokenBuffer poll() {
+            long h = head.get();
+            if (h == tail.getAcquire()) {
+                return null;
+            }
+            TokenBuffer block = slots[(int) h & mask];
+            slots[(int) h & mask] = null;
+            head.setRelease(h + 1);
+            return block;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package project.utils.lexer;
+
+import java.util.concurrent.ForkJoinPool;
+import project.Lexer;
+import project.TokenType;
+
+/**
+ * A cursor over the tokens of one source. Tokens are scanned into a TokenBuffer
+ * the first time the cursor or a lookahead reaches them, and rewinding only moves
+ * the cursor back, so printing the tokens and parsing them share a single scan.
+ * The source is scanned again only when the stream is reset to another lexer.
+ */
+public class TokenStream {
+
+    private Lexer lexer;
+    private final TokenBuffer buffer;
+    private int position;
+    private TokenPipeline pipeline; // set while a lexer thread scans ahead
+
+    public TokenStream(Lexer lexer) {
+        this.lexer = lexer;
+        this.buffer = new TokenBuffer(lexer.getSource());
+    }
+
+    /**
+     * Starts over on the tokens of another lexer. The buffer's arrays are reused.
+     * Resetting to the lexer the stream already reads from only rewinds it.
+     */
+    public void reset(Lexer lexer) {
+        if (lexer == this.lexer) {
+            rewind();
+            return;
+        }
+        stopPipeline();
+        this.lexer = lexer;
+        buffer.reset(lexer.getSource());
+        position = 0;
+    }
+
+    /**
+     * Moves back to the first token without scanning anything again.
+     */
+    public void rewind() {
+        position = 0;
+    }
+
+    /// Returns the buffer index of the current token.
+    public int current() {
+        return fill(position);
+    }
+
+    /**
+     * Returns the buffer index of the token k positions ahead of the current one.
+     * Lookahead past the end stays on the EOF token.
+     */
+    public int peek(int k) {
+        return fill(position + k);
+    }
+
+    /**
+     * Moves to the next token unless the current one is EOF.
+     *
+     * @return The buffer index of the new current token
+     */
+    public int advance() {
+        int index = fill(position);
+        if (buffer.getType(index) != TokenType.EOF) {
+            position = index + 1;
+        }
+        return fill(position);
+    }
+
+    /**
+     * Scans the rest of the source into the buffer.
+     *
+     * @return The number of tokens, including EOF
+     */
+    public int scanAll() {
+        return fill(Integer.MAX_VALUE) + 1;
+    }
+
+    /**
+     * Scans the rest of the source into the buffer, lexing a large source in
+     * parallel chunks on the given pool. The tokens are the same as scanAll().
+     *
+     * @return The number of tokens, including EOF
+     */
+    public int scanAll(ForkJoinPool pool) {
+        int size = buffer.size();
+        if (size == 0 || buffer.getType(size - 1) != TokenType.EOF) {
+            lexer.scanParallel(buffer, pool);
+        }
+        return buffer.size();
+    }
+
+    /**
+     * Starts scanning the rest of the source on a separate thread, which runs a
+     * bounded number of blocks ahead of the tokens read through this stream. The
+     * tokens are the same; only the lexer's side effects, such as symbol table
+     * messages, may come earlier than they would otherwise. Does nothing if the
+     * source has been scanned already or a pipeline is running.
+     */
+    public void startPipeline() {
+        int size = buffer.size();
+        if (pipeline != null || (size > 0 && buffer.getType(size - 1) == TokenType.EOF)) {
+            return;
+        }
+        pipeline = new TokenPipeline(lexer);
+        pipeline.start();
+    }
+
+    /**
+     * Stops the lexer thread, if there is one, and keeps the tokens it has
+     * scanned. Later tokens are scanned on the calling thread again.
+     */
+    public void stopPipeline() {
+        if (pipeline == null) {
+            return;
+        }
+        pipeline.stop();
+        while (takeBlock()) {
+            // keep the blocks the lexer thread had finished
+        }
+    }
+
+    // Scans until the buffer holds index, or up to EOF; returns the index that is available
+    private int fill(int index) {
+        int size = buffer.size();
+        while (size <= index) {
+            if (size > 0 && buffer.getType(size - 1) == TokenType.EOF) {
+                return size - 1;
+            }
+            if (pipeline == null) {
+                lexer.nextToken(buffer);
+            } else if (!takeBlock()) {
+                continue; // the lexer thread stopped before EOF
+            }
+            size = buffer.size();
+        }
+        return index;
+    }
+
+    // Moves the next block of the pipeline into the buffer; returns false once the pipeline is done
+    private boolean takeBlock() {
+        TokenBuffer block;
+        try {
+            block = pipeline.take();
+        } catch (RuntimeException | Error e) {
+            pipeline = null;
+            throw e;
+        }
+        if (block == null) {
+            pipeline = null;
+            return false;
+        }
+        buffer.append(block, 0, block.size());
+        pipeline.recycle(block);
+        if (buffer.getType(buffer.size() - 1) == TokenType.EOF) {
+            pipeline = null; // the lexer thread has finished
+        }
+        return true;
+    }
+
+    public TokenBuffer getBuffer() {
+        return buffer;
+    }
+
+    public Lexer getLexer() {
+        return lexer;
+    }
+}
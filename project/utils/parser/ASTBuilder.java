@@ -0,0 +1,255 @@
+package project.utils.parser;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import project.Token;
+import project.utils.lexer.TokenBuffer;
+
+/**
+ * Builds the AST directly from the parser's shift and reduce actions, without
+ * creating a parse tree first. Each stack entry holds the AST of a grammar symbol
+ * together with the few facts about its parse subtree that ASTNode.fromCST looks
+ * at, so the resulting tree is the same as converting the parse tree afterwards.
+ */
+public class ASTBuilder {
+
+    private final String[] nonterminalTypes;
+
+    private ASTNode[] nodes = new ASTNode[64];
+    private String[] types = new String[64];        // grammar symbol, without the "<>"
+    private String[] leftmostLeaves = new String[64]; // symbol found by digging through first children
+    private boolean[] terminals = new boolean[64];
+    private int[] tokenLines = new int[64];          // line of a terminal's token
+    private int[] firstLines = new int[64];          // first non-zero line anywhere in the subtree
+    private int size;
+
+    /**
+     * @param nonterminals Nonterminal names indexed by nonterminal id, as used by the goto table
+     */
+    public ASTBuilder(String[] nonterminals) {
+        nonterminalTypes = new String[nonterminals.length];
+        for (int i = 0; i < nonterminals.length; i++) {
+            String symbol = nonterminals[i];
+            nonterminalTypes[i] = symbol.startsWith("<") && symbol.endsWith(">")
+                    ? symbol.substring(1, symbol.length() - 1)
+                    : symbol;
+        }
+    }
+
+    /**
+     * Returns true if reducing a unit rule A ::= B, where B is a nonterminal, to this
+     * nonterminal A leaves the stack as it was apart from the grammar symbol: build
+     * hands the single child up unchanged, and the leftmost leaf and lines carry over.
+     * The parser may skip such reductions in AST mode.
+     *
+     * @param nonterminal The nonterminal name, with or without the "<>"
+     */
+    public static boolean passesUnitThrough(String nonterminal) {
+        String type = nonterminal.startsWith("<") && nonterminal.endsWith(">")
+                ? nonterminal.substring(1, nonterminal.length() - 1)
+                : nonterminal;
+        // The only cases of build that do not return the single child
+        return !type.equals("PROGRAM") && !type.equals("OUTPUT_STMT");
+    }
+
+    /**
+     * Pushes the AST leaf of a shifted token.
+     */
+    public void shift(Token token) {
+        String type = token.getType().toString();
+        ASTNode node;
+        if (ASTNode.isTerminal(type)) {
+            node = new ASTNode(type, token.getLexeme(), token);
+        } else {
+            // fromCST treats token types it does not know as empty nonterminals
+            node = new ASTNode(type, null, Math.max(token.getLine(), 0));
+        }
+        push(node, type, type, true, token.getLine(), Math.max(token.getLine(), 0));
+    }
+
+    /**
+     * Pushes the AST leaf of a shifted token from a token buffer.
+     */
+    public void shift(TokenBuffer tokens, int index) {
+        String type = tokens.getType(index).toString();
+        int line = tokens.getLine(index);
+        ASTNode node = ASTNode.isTerminal(type)
+                ? new ASTNode(type, tokens.getLexeme(index), line, tokens.getId(index))
+                : new ASTNode(type, null, Math.max(line, 0));
+        push(node, type, type, true, line, Math.max(line, 0));
+    }
+
+    /**
+     * Replaces the top arity entries with the AST of the reduced nonterminal.
+     *
+     * @param lhs The nonterminal id of the production's left-hand side
+     * @param arity The number of symbols on the production's right-hand side
+     */
+    public void reduce(int lhs, int arity) {
+        if (arity > size) {
+            throw new NoSuchElementException();
+        }
+        String type = nonterminalTypes[lhs];
+        int base = size - arity;
+
+        int directLine = 0;
+        int firstLine = 0;
+        for (int i = base; i < size; i++) {
+            if (directLine == 0 && terminals[i] && tokenLines[i] > 0) {
+                directLine = tokenLines[i];
+            }
+            if (firstLine == 0) {
+                firstLine = firstLines[i];
+            }
+        }
+        int line = directLine > 0 ? directLine : firstLine;
+        String leftmostLeaf = arity > 0 ? leftmostLeaves[base] : type;
+
+        ASTNode node = build(type, base, arity, line);
+        size = base;
+        push(node, type, leftmostLeaf, false, 0, firstLine);
+    }
+
+    // Mirrors the cases of ASTNode.fromCST for a nonterminal whose children are entries base..base+arity-1
+    private ASTNode build(String type, int base, int arity, int line) {
+        switch (type) {
+            case "PROGRAM":
+                return withChildren(new ASTNode("PROGRAM", null, line), base, arity);
+
+            case "OUTPUT_STMT":
+                ASTNode outputNode = new ASTNode("OUTPUT", null, line);
+                if (arity >= 3 && nodes[base + 2] != null) {
+                    outputNode.addChild(nodes[base + 2]);
+                }
+                return outputNode;
+
+            case "EXPRESSION":
+            case "CONST":
+                return arity > 0 ? nodes[base] : null;
+
+            case "LOGICOR_EXPR":
+            case "LOGICAND_EXPR":
+            case "RELATIONAL_EXPR":
+            case "BITOR_EXPR":
+            case "BITXOR_EXPR":
+            case "BITAND_EXPR":
+            case "BITSHIFT_EXPR":
+            case "BIT_BASE":
+            case "TERM":
+                return buildLeftAssociative(base, arity);
+
+            case "FACTOR":
+                if (arity == 2 && "MINUS".equals(types[base])) {
+                    ASTNode minusNode = new ASTNode("MINUS");
+                    minusNode.addChild(nodes[base + 1]);
+                    return minusNode;
+                }
+                if (arity == 1) {
+                    return nodes[base];
+                }
+                if (arity == 3) {
+                    ASTNode opAST = new ASTNode(leftmostLeaves[base + 1]);
+                    opAST.addChild(nodes[base]);
+                    opAST.addChild(nodes[base + 2]);
+                    return opAST;
+                }
+                break;
+
+            case "BASE":
+                if (arity == 1) {
+                    return nodes[base];
+                } else if (arity == 3) {
+                    return nodes[base + 1];
+                }
+                return null;
+        }
+
+        if (arity == 1) {
+            return nodes[base];
+        }
+        return withChildren(new ASTNode(type, null, line), base, arity);
+    }
+
+    private ASTNode buildLeftAssociative(int base, int arity) {
+        ASTNode left = nodes[base];
+        for (int i = 1; i + 1 < arity; i += 2) {
+            int op = base + i;
+            ASTNode right = nodes[op + 1];
+            int line;
+            if (terminals[op]) {
+                line = tokenLines[op];
+            } else if (left != null && left.getLineNumber() > 0) {
+                line = left.getLineNumber();
+            } else if (right != null && right.getLineNumber() > 0) {
+                line = right.getLineNumber();
+            } else {
+                line = 0;
+            }
+
+            ASTNode opAST = new ASTNode(leftmostLeaves[op], null, line);
+            opAST.addChild(left);
+            opAST.addChild(right);
+            left = opAST;
+        }
+        return left;
+    }
+
+    private ASTNode withChildren(ASTNode node, int base, int arity) {
+        for (int i = base; i < base + arity; i++) {
+            if (nodes[i] != null) {
+                node.addChild(nodes[i]);
+            }
+        }
+        return node;
+    }
+
+    private void push(ASTNode node, String type, String leftmostLeaf, boolean terminal, int tokenLine,
+            int firstLine) {
+        if (size == nodes.length) {
+            int capacity = size * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            types = Arrays.copyOf(types, capacity);
+            leftmostLeaves = Arrays.copyOf(leftmostLeaves, capacity);
+            terminals = Arrays.copyOf(terminals, capacity);
+            tokenLines = Arrays.copyOf(tokenLines, capacity);
+            firstLines = Arrays.copyOf(firstLines, capacity);
+        }
+        nodes[size] = node;
+        types[size] = type;
+        leftmostLeaves[size] = leftmostLeaf;
+        terminals[size] = terminal;
+        tokenLines[size] = tokenLine;
+        firstLines[size] = firstLine;
+        size++;
+    }
+
+    /**
+     * Attaches fragments left on the stack after error recovery to the fragment
+     * below them, so a single root remains.
+     */
+    public void collapse() {
+        while (size > 1) {
+            ASTNode last = nodes[--size];
+            nodes[size] = null;
+            if (nodes[size - 1] != null && last != null) {
+                nodes[size - 1].addChild(last);
+            }
+        }
+    }
+
+    /**
+     * Returns the AST on top of the stack, or null if nothing has been built.
+     */
+    public ASTNode peek() {
+        return size == 0 ? null : nodes[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(nodes, 0, size, null);
+        size = 0;
+    }
+}
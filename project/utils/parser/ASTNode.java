@@ -2,6 +2,8 @@ package project.utils.parser;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -13,7 +15,20 @@ public class ASTNode {
     private List<ASTNode> children;
     private ASTNode parent;
     private int lineNumber = 0;
-    
+    private int id = -1; // interned id of an IDENTIFIER leaf, see IdentifierInterner
+
+    // List of all terminal token types in your language
+    private static final Set<String> TERMINALS = Set.of(
+        "START", "END", "IF", "OTHERWISE", "FOR", "REPEAT", "UNTIL", "CONTINUE", "STOP", "METHOD", "OUTPUT", "GET", "SHOW", "CHOOSE_WHAT", "CONVERT_TO",
+        "NUMBER_TYPE", "DECIMAL_TYPE", "TEXT_TYPE", "BINARY_TYPE", "LIST_TYPE", "PAIR_MAP_TYPE", "PICK",
+        "TRUE", "FALSE", "NONE",
+        "LEN", "SORT", "KEY", "VALUE", "TO_TEXT",
+        "IDENTIFIER", "NUMBER", "DECIMAL", "TEXT",
+        "ASSIGN", "PLUS", "MINUS", "MULT", "DIV", "EXPONENT", "MOD", "FLOOR_DIV", "PLUS_ASSIGN", "MINUS_ASSIGN", "MULT_ASSIGN",
+        "AND", "OR", "NOT", "EQ", "NEQ", "LT", "GT", "LEQ", "GEQ",
+        "BITWISE_AND", "BITWISE_OR", "BITWISE_XOR", "BITWISE_NOT", "LSHIFT", "RSHIFT", "S_NOT", "QUOTE",
+        "LPAREN", "RPAREN", "LCURLY", "RCURLY", "LBRACKET", "RBRACKET", "COMMA", "SEMI", "COLON", "DOT"
+    );
 
     public ASTNode(String type) {
         this(type, null);
@@ -29,11 +44,29 @@ public class ASTNode {
         this.value = value;
         this.children = new ArrayList<>();
         this.lineNumber = (token != null) ? token.getLine() : 0;
+        this.id = (token != null) ? token.getId() : -1;
+    }
+    public ASTNode(String type, String value, int lineNumber) {
+        this(type, value);
+        this.lineNumber = lineNumber;
+    }
+    public ASTNode(String type, String value, int lineNumber, int id) {
+        this(type, value, lineNumber);
+        this.id = id;
     }
     public int getLineNumber() {
         return lineNumber;
     }
 
+    /**
+     * Returns the id the lexer's interner gave an identifier leaf, or -1. The
+     * interpreter looks names up by this id when its symbol table uses the same
+     * interner.
+     */
+    public int getId() {
+        return id;
+    }
+
     public void addChild(ASTNode child) {
         child.setParent(this);
         children.add(child);
@@ -61,22 +94,23 @@ public class ASTNode {
 
     
 
+    static boolean isTerminal(String type) {
+        return TERMINALS.contains(type);
+    }
+
     public static ASTNode fromCST(ParseTreeNode cstNode) {
+        return fromCST(cstNode, ASTNode::fromCST);
+    }
+
+    /**
+     * Converts one CST node, converting its children with convert instead of
+     * fromCST(), so a caller that keeps the ASTs of unchanged subtrees can hand
+     * them back. convert must return a node that has no parent yet, since the
+     * result may become its parent and take over its line number.
+     */
+    public static ASTNode fromCST(ParseTreeNode cstNode, Function<ParseTreeNode, ASTNode> convert) {
         if (cstNode == null) return null;
     
-        // List of all terminal token types in your language
-        final java.util.Set<String> TERMINALS = java.util.Set.of(
-            "START", "END", "IF", "OTHERWISE", "FOR", "REPEAT", "UNTIL", "CONTINUE", "STOP", "METHOD", "OUTPUT", "GET", "SHOW", "CHOOSE_WHAT", "CONVERT_TO",
-            "NUMBER_TYPE", "DECIMAL_TYPE", "TEXT_TYPE", "BINARY_TYPE", "LIST_TYPE", "PAIR_MAP_TYPE", "PICK",
-            "TRUE", "FALSE", "NONE",
-            "LEN", "SORT", "KEY", "VALUE", "TO_TEXT",
-            "IDENTIFIER", "NUMBER", "DECIMAL", "TEXT",
-            "ASSIGN", "PLUS", "MINUS", "MULT", "DIV", "EXPONENT", "MOD", "FLOOR_DIV", "PLUS_ASSIGN", "MINUS_ASSIGN", "MULT_ASSIGN",
-            "AND", "OR", "NOT", "EQ", "NEQ", "LT", "GT", "LEQ", "GEQ",
-            "BITWISE_AND", "BITWISE_OR", "BITWISE_XOR", "BITWISE_NOT", "LSHIFT", "RSHIFT", "S_NOT", "QUOTE",
-            "LPAREN", "RPAREN", "LCURLY", "RCURLY", "LBRACKET", "RBRACKET", "COMMA", "SEMI", "COLON", "DOT"
-        );
-    
         String type = cstNode.getType();
     
         // If this is a terminal, always create an ASTNode with the token and line number
@@ -96,17 +130,11 @@ public class ASTNode {
                 }
             }
         }
-        Token fakeToken = null;
-        if (lineNumber > 0) {
-            // Create a dummy token just for line number propagation
-            fakeToken = new Token(null, null, lineNumber, 0);
-        }
-    
         switch (type) {
             case "PROGRAM":
-                ASTNode programNode = new ASTNode("PROGRAM", null, fakeToken);
+                ASTNode programNode = new ASTNode("PROGRAM", null, lineNumber);
                 for (ParseTreeNode child : cstNode.getChildren()) {
-                    ASTNode childAST = fromCST(child);
+                    ASTNode childAST = convert.apply(child);
                     if (childAST != null) {
                         programNode.addChild(childAST);
                     }
@@ -118,9 +146,9 @@ public class ASTNode {
                 return programNode;
     
             case "OUTPUT_STMT":
-                ASTNode outputNode = new ASTNode("OUTPUT", null, fakeToken);
+                ASTNode outputNode = new ASTNode("OUTPUT", null, lineNumber);
                 if (cstNode.getChildren().size() >= 3) {
-                    ASTNode exprAST = fromCST(cstNode.getChildren().get(2));
+                    ASTNode exprAST = convert.apply(cstNode.getChildren().get(2));
                     if (exprAST != null) outputNode.addChild(exprAST);
                 }
                 if (outputNode.getLineNumber() == 0) {
@@ -129,18 +157,18 @@ public class ASTNode {
                 return outputNode;
     
             case "IF":
-                ASTNode ifNode = new ASTNode("IF", null, fakeToken);
+                ASTNode ifNode = new ASTNode("IF", null, lineNumber);
                 if (!cstNode.getChildren().isEmpty()) {
                     if (cstNode.getChildren().size() > 1) {
-                        ASTNode conditionAST = fromCST(cstNode.getChildren().get(1));
+                        ASTNode conditionAST = convert.apply(cstNode.getChildren().get(1));
                         if (conditionAST != null) ifNode.addChild(conditionAST);
                     }
                     if (cstNode.getChildren().size() > 2) {
-                        ASTNode ifBlockAST = fromCST(cstNode.getChildren().get(2));
+                        ASTNode ifBlockAST = convert.apply(cstNode.getChildren().get(2));
                         if (ifBlockAST != null) ifNode.addChild(ifBlockAST);
                     }
                     if (cstNode.getChildren().size() > 4) {
-                        ASTNode otherwiseBlockAST = fromCST(cstNode.getChildren().get(4));
+                        ASTNode otherwiseBlockAST = convert.apply(cstNode.getChildren().get(4));
                         if (otherwiseBlockAST != null) ifNode.addChild(otherwiseBlockAST);
                     }
                     if (ifNode.getLineNumber() == 0) {
@@ -153,7 +181,7 @@ public class ASTNode {
             // Expression flattening for single-child nodes
             case "EXPRESSION":
             case "CONST":
-                return fromCST(cstNode.getChildren().get(0));
+                return convert.apply(cstNode.getChildren().get(0));
     
             // Left-associative binary expressions
             case "LOGICOR_EXPR":
@@ -165,32 +193,32 @@ public class ASTNode {
             case "BITSHIFT_EXPR":
             case "BIT_BASE":
             case "TERM":
-                return buildLeftAssociativeBinaryExpressionAST(cstNode);
+                return buildLeftAssociativeBinaryExpressionAST(cstNode, convert);
     
             // Right-associative binary expressions (e.g., exponentiation)
             case "FACTOR":
-                return buildRightAssociativeBinaryExpressionAST(cstNode);
+                return buildRightAssociativeBinaryExpressionAST(cstNode, convert);
     
             case "BASE":
                 if (cstNode.getChildren().size() == 1) {
-                    return fromCST(cstNode.getChildren().get(0));
+                    return convert.apply(cstNode.getChildren().get(0));
                 } else if (cstNode.getChildren().size() == 3) {
-                    return fromCST(cstNode.getChildren().get(1));
+                    return convert.apply(cstNode.getChildren().get(1));
                 }
                 break;
     
             default:
                 if (cstNode.getChildren().size() == 1) {
-                    ASTNode childAST = fromCST(cstNode.getChildren().get(0));
+                    ASTNode childAST = convert.apply(cstNode.getChildren().get(0));
                     // Propagate line number if this node has a token or child has one
                     if (childAST != null && lineNumber > 0) {
                         childAST.lineNumber = lineNumber;
                     }
                     return childAST;
                 } else {
-                    ASTNode defaultNode = new ASTNode(type, null, fakeToken);
+                    ASTNode defaultNode = new ASTNode(type, null, lineNumber);
                     for (ParseTreeNode child : cstNode.getChildren()) {
-                        ASTNode childAST = fromCST(child);
+                        ASTNode childAST = convert.apply(child);
                         if (childAST != null) {
                             defaultNode.addChild(childAST);
                         }
@@ -215,19 +243,20 @@ public class ASTNode {
         return 0;
     }
     // Helper: Build left-associative binary operator AST for BIT_BASE, TERM, FACTOR
-    private static ASTNode buildLeftAssociativeBinaryExpressionAST(ParseTreeNode node) {
+    private static ASTNode buildLeftAssociativeBinaryExpressionAST(ParseTreeNode node,
+                                                                    Function<ParseTreeNode, ASTNode> convert) {
         List<ParseTreeNode> children = node.getChildren();
         if (children.size() == 1) {
-            return fromCST(children.get(0));
+            return convert.apply(children.get(0));
         }
 
-        ASTNode left = fromCST(children.get(0));
+        ASTNode left = convert.apply(children.get(0));
         for (int i = 1; i < children.size(); i += 2) {
             ParseTreeNode opNode = children.get(i);
             String opType = extractOperatorTerminal(opNode);
 
             ASTNode opAST = new ASTNode(opType);
-            ASTNode right = fromCST(children.get(i + 1));
+            ASTNode right = convert.apply(children.get(i + 1));
             if (opNode.getToken() != null) {
                 opAST.lineNumber = opNode.getToken().getLine();
             } else if (left != null && left.getLineNumber() > 0) {
@@ -246,18 +275,19 @@ public class ASTNode {
         return left;
     }
 
-    private static ASTNode buildRightAssociativeBinaryExpressionAST(ParseTreeNode node) {
+    private static ASTNode buildRightAssociativeBinaryExpressionAST(ParseTreeNode node,
+                                                                     Function<ParseTreeNode, ASTNode> convert) {
         List<ParseTreeNode> children = node.getChildren();
 
         if (children.size() == 2 && "MINUS".equals(children.get(0).getType())) {
             ASTNode minusNode = new ASTNode("MINUS");
-            minusNode.addChild(fromCST(children.get(1)));
+            minusNode.addChild(convert.apply(children.get(1)));
             return minusNode;
         }
         
         // Base case: If there's only one child, return that node as is
         if (children.size() == 1) {
-            return fromCST(children.get(0));
+            return convert.apply(children.get(0));
         }
 
         // The right-associative rule should start from the last operator
@@ -265,7 +295,7 @@ public class ASTNode {
 
         // Recursively process the right side of the expression first (right-to-left)
         ParseTreeNode rightNode = children.get(children.size() - 1);
-        ASTNode right = fromCST(rightNode);
+        ASTNode right = convert.apply(rightNode);
 
         // Recursively process the left side of the expression (right-associative)
         // The left side is everything before the last operator
@@ -277,7 +307,7 @@ public class ASTNode {
             leftNode.addChild(leftChild);
         }
 
-        ASTNode left = buildRightAssociativeBinaryExpressionAST(leftNode);
+        ASTNode left = buildRightAssociativeBinaryExpressionAST(leftNode, convert);
 
         // Build the operator AST and return it
         ASTNode opAST = new ASTNode(opType);
@@ -302,7 +332,7 @@ public class ASTNode {
             System.out.print("  ");
         }
         System.out.println(type + (value != null ? " (" + value + ")" : ""));
-        for (ASTNode child : children) {
+        for (ASTNode child : getChildren()) {
             child.printAST(depth + 1);
         }
     }
@@ -317,7 +347,7 @@ public class ASTNode {
     
         sb.append(String.format("  %s [label=\"%s\"];\n", nodeId, label));
     
-        for (ASTNode child : children) {
+        for (ASTNode child : getChildren()) {
             sb.append(child.toDot());
             sb.append(String.format("  %s -> %s;\n", nodeId, "n" + System.identityHashCode(child)));
         }
@@ -0,0 +1,402 @@
+package project.utils.parser;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The action and goto tables of a ParseTableCache, packed by row displacement.
+ *
+ * Every state keeps a default action, the reduction it makes most often, and only
+ * its other actions are stored. Every nonterminal has a default goto, its most
+ * common target, and a state's goto row only holds the others. The stored cells of all rows
+ * are overlaid in one value array at a per-row offset (the row's base) so that no
+ * two cells land on the same slot; the check array records which row owns each
+ * slot, so a lookup is a single probe. Rows with the same cells are stored once
+ * and share an id.
+ *
+ * A state only takes its default reduction on the lookaheads it has an action for.
+ * Those sets repeat across states and are stored once each, so errors are found at
+ * the same token and in the same state as with the dense tables.
+ */
+public class CompressedParseTable {
+
+    private final int stateCount;
+    private final int terminalCount;
+    private final int nonterminalCount;
+
+    /// Packed cells of every row, and the id of the row owning each slot, or -1.
+    private final int[] table;
+    private final int[] check;
+
+    /// Per state: the offset and id of its action row, its default action and the offset of its lookahead set, or -1.
+    private final int[] actionBase;
+    private final int[] actionRow;
+    private final int[] defaultActions;
+    private final int[] defaultLookaheads;
+    private final long[] lookaheadWords;
+
+    /// Per state: the offsets and ids of its goto row and its bypass row.
+    private final int[] gotoBase;
+    private final int[] gotoRow;
+    private final int[] bypassBase;
+    private final int[] bypassRow;
+
+    /// Per nonterminal: the default goto state, or -1.
+    private final int[] defaultGotos;
+
+    private CompressedParseTable(int stateCount, int terminalCount, int nonterminalCount, int[] table, int[] check,
+            int[] actionBase, int[] actionRow, int[] defaultActions, int[] defaultLookaheads, long[] lookaheadWords,
+            int[] gotoBase, int[] gotoRow, int[] bypassBase, int[] bypassRow, int[] defaultGotos) {
+        this.stateCount = stateCount;
+        this.terminalCount = terminalCount;
+        this.nonterminalCount = nonterminalCount;
+        this.table = table;
+        this.check = check;
+        this.actionBase = actionBase;
+        this.actionRow = actionRow;
+        this.defaultActions = defaultActions;
+        this.defaultLookaheads = defaultLookaheads;
+        this.lookaheadWords = lookaheadWords;
+        this.gotoBase = gotoBase;
+        this.gotoRow = gotoRow;
+        this.bypassBase = bypassBase;
+        this.bypassRow = bypassRow;
+        this.defaultGotos = defaultGotos;
+    }
+
+    /**
+     * Compresses the dense tables of a cache.
+     *
+     * @param tables The dense tables
+     * @param bypassGotos A goto matrix laid out like tables.getGotos(), as returned by
+     *                    ParseTableCache.unitBypassGotos; only the cells that differ are kept
+     */
+    public static CompressedParseTable compress(ParseTableCache tables, int[] bypassGotos) {
+        final int stateCount = tables.getStateCount();
+        final int terminalCount = tables.getTerminals().length;
+        final int nonterminalCount = tables.getNonterminals().length;
+        final int[] gotos = tables.getGotos();
+
+        // Action rows, then goto rows, then bypass rows, one of each per state
+        final int rowCount = 3 * stateCount;
+        final int[][] rowColumns = new int[rowCount][];
+        final int[][] rowValues = new int[rowCount][];
+        final int[] rowWidth = new int[rowCount];
+
+        final int words = (terminalCount + 63) >>> 6;
+        final int[] defaultActions = new int[stateCount];
+        final int[] defaultLookaheads = new int[stateCount];
+        final Map<BitSet, Integer> lookaheadOffsets = new HashMap<>();
+        final List<BitSet> lookaheadSets = new ArrayList<>();
+        final int[] cells = new int[Math.max(terminalCount, Math.max(nonterminalCount, stateCount))];
+        for (int state = 0; state < stateCount; state++) {
+            for (int terminal = 0; terminal < terminalCount; terminal++) {
+                cells[terminal] = tables.getAction(state, terminal);
+            }
+            final int defaultAction = mostCommonReduction(cells, terminalCount);
+            defaultActions[state] = defaultAction;
+            defaultLookaheads[state] = -1;
+            if (defaultAction != ParseTableCache.ERROR) {
+                final BitSet lookaheads = new BitSet(terminalCount);
+                for (int terminal = 0; terminal < terminalCount; terminal++) {
+                    if (cells[terminal] != ParseTableCache.ERROR) {
+                        lookaheads.set(terminal);
+                    }
+                }
+                Integer offset = lookaheadOffsets.get(lookaheads);
+                if (offset == null) {
+                    offset = lookaheadSets.size() * words;
+                    lookaheadOffsets.put(lookaheads, offset);
+                    lookaheadSets.add(lookaheads);
+                }
+                defaultLookaheads[state] = offset;
+            }
+            setRow(state, cells, terminalCount, ParseTableCache.ERROR, defaultAction, rowColumns, rowValues);
+            rowWidth[state] = terminalCount;
+        }
+        final long[] lookaheadWords = new long[lookaheadSets.size() * words];
+        for (int i = 0; i < lookaheadSets.size(); i++) {
+            final long[] set = lookaheadSets.get(i).toLongArray();
+            System.arraycopy(set, 0, lookaheadWords, i * words, set.length);
+        }
+
+        final int[] defaultGotos = new int[nonterminalCount];
+        for (int nonterminal = 0; nonterminal < nonterminalCount; nonterminal++) {
+            for (int state = 0; state < stateCount; state++) {
+                cells[state] = gotos[state * nonterminalCount + nonterminal] - 1;
+            }
+            defaultGotos[nonterminal] = mostCommon(cells, stateCount);
+        }
+        final int[] bypass = new int[nonterminalCount];
+        for (int state = 0; state < stateCount; state++) {
+            for (int nonterminal = 0; nonterminal < nonterminalCount; nonterminal++) {
+                final int cell = state * nonterminalCount + nonterminal;
+                cells[nonterminal] = gotos[cell] == 0 || gotos[cell] - 1 == defaultGotos[nonterminal]
+                        ? -1
+                        : gotos[cell] - 1;
+                // Bypass rows hold only the cells that differ from the plain goto
+                bypass[nonterminal] = bypassGotos[cell] == gotos[cell] ? -1 : bypassGotos[cell] - 1;
+            }
+            setRow(stateCount + state, cells, nonterminalCount, -1, -1, rowColumns, rowValues);
+            rowWidth[stateCount + state] = nonterminalCount;
+            setRow(2 * stateCount + state, bypass, nonterminalCount, -1, -1, rowColumns, rowValues);
+            rowWidth[2 * stateCount + state] = nonterminalCount;
+        }
+
+        // Number the distinct rows; equal rows of different kinds may share an id too
+        final int[] rowIds = new int[rowCount];
+        final Map<String, Integer> distinct = new HashMap<>();
+        final List<Integer> firstRow = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            final String key = Arrays.toString(rowColumns[row]) + Arrays.toString(rowValues[row]);
+            Integer id = distinct.get(key);
+            if (id == null) {
+                id = firstRow.size();
+                distinct.put(key, id);
+                firstRow.add(row);
+            }
+            rowIds[row] = id;
+        }
+
+        // First fit, densest rows first
+        final Integer[] order = firstRow.toArray(new Integer[0]);
+        Arrays.sort(order, (a, b) -> Integer.compare(rowColumns[b].length, rowColumns[a].length));
+        final int[] base = new int[firstRow.size()];
+        int[] table = new int[256];
+        int[] check = new int[256];
+        Arrays.fill(check, -1);
+        int length = 0;
+        int firstFree = 0;
+        for (final int row : order) {
+            final int[] columns = rowColumns[row];
+            final int rowId = rowIds[row];
+            if (columns.length == 0) {
+                continue;
+            }
+            int offset = Math.max(0, firstFree - columns[0]);
+            while (!fits(check, offset, columns)) {
+                offset++;
+            }
+            final int end = offset + columns[columns.length - 1] + 1;
+            if (end > check.length) {
+                final int used = check.length;
+                final int grown = Math.max(end, used * 2);
+                table = Arrays.copyOf(table, grown);
+                check = Arrays.copyOf(check, grown);
+                Arrays.fill(check, used, grown, -1);
+            }
+            for (int i = 0; i < columns.length; i++) {
+                table[offset + columns[i]] = rowValues[row][i];
+                check[offset + columns[i]] = rowId;
+            }
+            base[rowId] = offset;
+            length = Math.max(length, end);
+            while (firstFree < check.length && check[firstFree] >= 0) {
+                firstFree++;
+            }
+        }
+        // Pad so that every row can be probed at any of its columns without a bounds check
+        final int[] rowBase = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            rowBase[row] = base[rowIds[row]];
+            length = Math.max(length, rowBase[row] + rowWidth[row]);
+        }
+        final int[] packedCheck = Arrays.copyOf(check, length);
+        for (int i = Math.min(check.length, length); i < length; i++) {
+            packedCheck[i] = -1;
+        }
+
+        return new CompressedParseTable(stateCount, terminalCount, nonterminalCount,
+                Arrays.copyOf(table, length), packedCheck,
+                Arrays.copyOfRange(rowBase, 0, stateCount), Arrays.copyOfRange(rowIds, 0, stateCount),
+                defaultActions, defaultLookaheads, lookaheadWords,
+                Arrays.copyOfRange(rowBase, stateCount, 2 * stateCount),
+                Arrays.copyOfRange(rowIds, stateCount, 2 * stateCount),
+                Arrays.copyOfRange(rowBase, 2 * stateCount, rowCount),
+                Arrays.copyOfRange(rowIds, 2 * stateCount, rowCount),
+                defaultGotos);
+    }
+
+    // Keeps the cells of a row that are neither empty nor the default
+    private static void setRow(int rowId, int[] row, int width, int empty, int defaultValue,
+            int[][] rowColumns, int[][] rowValues) {
+        int count = 0;
+        for (int column = 0; column < width; column++) {
+            if (row[column] != empty && row[column] != defaultValue) {
+                count++;
+            }
+        }
+        final int[] columns = new int[count];
+        final int[] values = new int[count];
+        count = 0;
+        for (int column = 0; column < width; column++) {
+            if (row[column] != empty && row[column] != defaultValue) {
+                columns[count] = column;
+                values[count++] = row[column];
+            }
+        }
+        rowColumns[rowId] = columns;
+        rowValues[rowId] = values;
+    }
+
+    private static boolean fits(int[] check, int offset, int[] columns) {
+        for (final int column : columns) {
+            final int slot = offset + column;
+            if (slot < check.length && check[slot] >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Returns the reduction a row makes on the most lookaheads, or ERROR if it makes none
+    private static int mostCommonReduction(int[] row, int width) {
+        final Map<Integer, Integer> counts = new HashMap<>();
+        int best = ParseTableCache.ERROR;
+        int bestCount = 0;
+        for (int column = 0; column < width; column++) {
+            if (ParseTableCache.kindOf(row[column]) != ParseTableCache.REDUCE) {
+                continue;
+            }
+            final int count = counts.merge(row[column], 1, Integer::sum);
+            if (count > bestCount) {
+                best = row[column];
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    // Returns the goto target that occurs most often in a row, or -1 if the row is empty
+    private static int mostCommon(int[] row, int width) {
+        final Map<Integer, Integer> counts = new HashMap<>();
+        int best = -1;
+        int bestCount = 0;
+        for (int column = 0; column < width; column++) {
+            if (row[column] < 0) {
+                continue;
+            }
+            final int count = counts.merge(row[column], 1, Integer::sum);
+            if (count > bestCount) {
+                best = row[column];
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /// Returns the encoded action for a state and terminal column, or ERROR if there is none.
+    public int action(int state, int terminal) {
+        final int slot = actionBase[state] + terminal;
+        if (check[slot] == actionRow[state]) {
+            return table[slot];
+        }
+        final int lookaheads = defaultLookaheads[state];
+        if (lookaheads >= 0 && (lookaheadWords[lookaheads + (terminal >>> 6)] & (1L << terminal)) != 0) {
+            return defaultActions[state];
+        }
+        return ParseTableCache.ERROR;
+    }
+
+    /**
+     * Returns the goto state for a state and nonterminal column. Only pairs the parser
+     * can reach are answered exactly; any other pair gets the column's default, or -1
+     * if the nonterminal has no gotos at all.
+     */
+    public int gotoState(int state, int nonterminal) {
+        final int slot = gotoBase[state] + nonterminal;
+        return check[slot] == gotoRow[state] ? table[slot] : defaultGotos[nonterminal];
+    }
+
+    /// Like gotoState, but with the unit reductions of ParseTableCache.unitBypassGotos skipped.
+    public int unitBypassGotoState(int state, int nonterminal) {
+        final int slot = bypassBase[state] + nonterminal;
+        return check[slot] == bypassRow[state] ? table[slot] : gotoState(state, nonterminal);
+    }
+
+    /// Returns the number of bytes write() takes.
+    int byteSize() {
+        return (3 + 12 + 2 * table.length + 2 * actionBase.length + defaultActions.length
+                + defaultLookaheads.length + 2 * gotoBase.length + 2 * bypassBase.length + defaultGotos.length)
+                * Integer.BYTES + lookaheadWords.length * Long.BYTES;
+    }
+
+    /// Writes the counts, then every array with its length in front, in field order.
+    void write(ByteBuffer buffer) {
+        buffer.putInt(stateCount).putInt(terminalCount).putInt(nonterminalCount);
+        putInts(buffer, table);
+        putInts(buffer, check);
+        putInts(buffer, actionBase);
+        putInts(buffer, actionRow);
+        putInts(buffer, defaultActions);
+        putInts(buffer, defaultLookaheads);
+        buffer.putInt(lookaheadWords.length);
+        buffer.asLongBuffer().put(lookaheadWords);
+        buffer.position(buffer.position() + lookaheadWords.length * Long.BYTES);
+        putInts(buffer, gotoBase);
+        putInts(buffer, gotoRow);
+        putInts(buffer, bypassBase);
+        putInts(buffer, bypassRow);
+        putInts(buffer, defaultGotos);
+    }
+
+    /// Reads a table written by write().
+    static CompressedParseTable read(ByteBuffer buffer) {
+        final int stateCount = buffer.getInt();
+        final int terminalCount = buffer.getInt();
+        final int nonterminalCount = buffer.getInt();
+        final int[] table = getInts(buffer);
+        final int[] check = getInts(buffer);
+        final int[] actionBase = getInts(buffer);
+        final int[] actionRow = getInts(buffer);
+        final int[] defaultActions = getInts(buffer);
+        final int[] defaultLookaheads = getInts(buffer);
+        final long[] lookaheadWords = new long[buffer.getInt()];
+        buffer.asLongBuffer().get(lookaheadWords);
+        buffer.position(buffer.position() + lookaheadWords.length * Long.BYTES);
+        final int[] gotoBase = getInts(buffer);
+        final int[] gotoRow = getInts(buffer);
+        final int[] bypassBase = getInts(buffer);
+        final int[] bypassRow = getInts(buffer);
+        final int[] defaultGotos = getInts(buffer);
+        return new CompressedParseTable(stateCount, terminalCount, nonterminalCount, table, check,
+                actionBase, actionRow, defaultActions, defaultLookaheads, lookaheadWords,
+                gotoBase, gotoRow, bypassBase, bypassRow, defaultGotos);
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values) {
+        buffer.putInt(values.length);
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    private static int[] getInts(ByteBuffer buffer) {
+        final int[] values = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+        return values;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getTerminalCount() {
+        return terminalCount;
+    }
+
+    public int getNonterminalCount() {
+        return nonterminalCount;
+    }
+
+    /// Returns the size of this table in ints, for comparing it with the dense one.
+    public int getPackedSize() {
+        return 2 * table.length + 2 * actionBase.length + defaultActions.length + defaultLookaheads.length
+                + 2 * lookaheadWords.length + 2 * gotoBase.length + 2 * bypassBase.length + defaultGotos.length;
+    }
+}
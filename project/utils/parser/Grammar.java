@@ -7,6 +7,11 @@ import project.utils.symbol.AbstractTerminalSymbol;
 import project.utils.symbol.SymbolPool;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * Represents a context-free grammar and provides methods for parsing and analysis.
@@ -27,6 +32,58 @@ public class Grammar {
 
     private ParseTable ParseTable;
 
+    /**
+     * How the LR automaton is built.
+     * CANONICAL_LR1 keeps every distinct LR(1) item set as its own state.
+     * LALR1 merges states whose items have the same LR(0) core and unions their lookaheads,
+     * which gives far fewer states; merging can only add reduce/reduce conflicts, and those
+     * are reported by initParseTable.
+     */
+    public enum TableMode {
+        CANONICAL_LR1,
+        LALR1
+    }
+
+    private TableMode Mode = TableMode.CANONICAL_LR1;
+
+    /// The productions of each non-terminal, indexed by non-terminal id, in rule order.
+    private Production[][] LhsProductions;
+
+    /// Non-terminal ids of the symbols that can derive ε.
+    private BitSet Nullable;
+
+    /// FIRST and FOLLOW sets as terminal ids, indexed by non-terminal id; ε is never included.
+    private BitSet[] First;
+
+    private BitSet[] Follow;
+
+    /// The core id of dot 0 in each production; dot d of production p has id CoreOffsets[p] + d.
+    private int[] CoreOffsets;
+
+    /// Per core with a non-terminal after the dot: FIRST of the rest of the production, as terminal ids.
+    private BitSet[] CoreFirst;
+
+    /// Per core with a non-terminal after the dot: whether the rest of the production can derive ε.
+    private boolean[] CoreNullable;
+
+    /// Number of threads initParseTable computes closures on; 1 builds the automaton on the calling thread.
+    private int Parallelism = 1;
+
+    /**
+     * The work done for one state of the automaton before it is numbered: its items
+     * grouped by the symbol after the dot (ended items under NULL), and the closed
+     * successor state for every other group.
+     */
+    private static final class Expansion {
+
+        private final Map<AbstractSymbol, List<Item>> Groups = new HashMap<>();
+
+        private final Map<AbstractSymbol, ParseState> Successors = new HashMap<>();
+
+        /// The core of every successor, only filled in LALR1 mode.
+        private final Map<AbstractSymbol, BitSet> Cores = new HashMap<>();
+    }
+
     // Constructor for Grammar class that initializes the grammar with a configuration object.
     public Grammar(Config config) throws AnalysisException {
         SymbolPool = new SymbolPool(config.getTerminalSymbols(), config.getNonterminalSymbols());
@@ -58,15 +115,47 @@ public class Grammar {
 
     public void setProductions(List<? extends Production> productions) {
         this.Productions = new ArrayList<>(productions);
+        numberProductions();
     }
 
     public ParseTable getParseTable() {
         return ParseTable;
     }
 
+    public TableMode getTableMode() {
+        return Mode;
+    }
+
+    /// Selects how initParseTable builds the automaton; canonical LR(1) by default.
+    public void setTableMode(TableMode mode) {
+        Mode = mode;
+    }
+
+    public int getParallelism() {
+        return Parallelism;
+    }
+
+    /**
+     * Sets the number of threads initParseTable uses to compute closures and successor
+     * states. The states are numbered the same way whatever the parallelism.
+     */
+    public void setParallelism(int parallelism) {
+        Parallelism = Math.max(1, parallelism);
+    }
+
     /**
      * Initializes the LR parse table for this grammar.
-     * Uses the LR(1) algorithm to construct states and transitions.
+     * Uses the LR(1) algorithm to construct states and transitions; in LALR1 mode a
+     * successor whose core matches an existing state is merged into it, and a state
+     * that gains lookaheads is processed again so they reach its own successors.
+     * Any conflicting table cells are printed and kept in the table's conflict list.
+     *
+     * The automaton is explored breadth first, one level of new states at a time. The
+     * closures and successors of a level are computed on a ForkJoinPool when the
+     * parallelism is above 1, and equal successor states are shared through a
+     * concurrent map. Numbers are then handed out on the calling thread in the order
+     * a sequential worklist would reach the states, so the tables do not depend on
+     * the thread count.
      * 
      * @throws AnalysisException If there are errors during parse table construction
      */
@@ -74,70 +163,214 @@ public class Grammar {
     public void initParseTable() throws AnalysisException {
         initSymbolProductions();
         initSymbolFirstSet();
+        initItemCores();
+        final AbstractTerminalSymbol nullSymbol = SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL);
+        final AbstractTerminalSymbol endSymbol = SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.END);
+        final boolean lalr = Mode == TableMode.LALR1;
         final List<ParseState> stateList = new ArrayList<>();
-        final Map<ParseState, Integer> stateMap = new HashMap<>();
+        // Canonical states are interned, so numbering them only needs their identity
+        final ConcurrentMap<ParseState, ParseState> internedStates = new ConcurrentHashMap<>();
+        final Map<ParseState, Integer> stateMap = new IdentityHashMap<>();
+        final Map<BitSet, Integer> coreMap = new HashMap<>();
 
         // Create the start state with items derived from the start symbol
 
         final ParseState startState = new ParseState(this);
         for (final Production production : Productions) {
             if (production.from().equals(StartSymbol)) {
-                startState.addItem(new Item(production, SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.END)));
+                final BitSet lookAheads = new BitSet();
+                lookAheads.set(endSymbol.getId());
+                startState.addItem(new Item(production, 0, coreId(production, 0), lookAheads));
             }
         }
         startState.makeClosure();
         stateList.add(startState);
-        stateMap.put(startState, 0);
+        if (lalr) {
+            coreMap.put(startState.getCore(), 0);
+        } else {
+            internedStates.put(startState, startState);
+            stateMap.put(startState, 0);
+        }
+
+        // States waiting to be processed, in the order they were found or grew
+        List<Integer> frontier = new ArrayList<>();
+        final BitSet queued = new BitSet();
+        frontier.add(0);
+        queued.set(0);
 
         ParseTable parseTable = new ParseTable(this);
-        for (int i = 0; i < stateList.size(); i++) {
-            final Set<Item> items = stateList.get(i).getItems();
-            final Map<AbstractSymbol, Set<Item>> groupedItems = new HashMap<>();
-
-            // Group items by the next symbol
-            for (final Item item : items) {
-                if (item.isNotEnded()) {
-                    if (!groupedItems.containsKey(item.getNextSymbol())) {
-                        groupedItems.put(item.getNextSymbol(), new HashSet<>());
-                    }
-                    groupedItems.get(item.getNextSymbol()).add(item);
-                } else {
-                    if (!groupedItems.containsKey(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL))) {
-                        groupedItems.put(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL), new HashSet<>());
-                    }
-                    groupedItems.get(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL)).add(item);
+        final ForkJoinPool pool = Parallelism > 1 ? new ForkJoinPool(Parallelism) : null;
+        try {
+            while (!frontier.isEmpty()) {
+                final List<ParseState> states = new ArrayList<>();
+                for (final int i : frontier) {
+                    queued.clear(i);
+                    states.add(stateList.get(i));
                 }
-            }
-
-            // Process each group of items to create transitions
-            for (final AbstractSymbol abstractSymbol : groupedItems.keySet()) {
-                if (abstractSymbol.equals(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL))) {
-                    for (final Item item : groupedItems.get(abstractSymbol)) {
-                        parseTable.addTransition(i, item.getLookAhead(), item.getProduction());
-                        if (item.getLookAhead().equals(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.END))
-                                && item.getProduction().from().equals(StartSymbol)) {
-                            parseTable.setAcceptState(i);
-                            System.out.println("Accept State: " + i);
+                final List<Expansion> expansions = expand(states, nullSymbol, lalr, internedStates, pool);
+
+                final List<Integer> nextFrontier = new ArrayList<>();
+                for (int k = 0; k < frontier.size(); k++) {
+                    final int i = frontier.get(k);
+                    final Expansion expansion = expansions.get(k);
+
+                    // Process each group of items to create transitions
+                    for (final AbstractSymbol abstractSymbol : expansion.Groups.keySet()) {
+                        if (abstractSymbol.equals(nullSymbol)) {
+                            for (final Item item : expansion.Groups.get(abstractSymbol)) {
+                                final BitSet lookAheads = item.getLookAheads();
+                                for (int id = lookAheads.nextSetBit(0); id >= 0; id = lookAheads.nextSetBit(id + 1)) {
+                                    parseTable.addTransition(i, SymbolPool.getTerminalSymbol(id), item.getProduction());
+                                }
+                                if (lookAheads.get(endSymbol.getId())
+                                        && item.getProduction().from().equals(StartSymbol)) {
+                                    parseTable.setAcceptState(i);
+                                    System.out.println("Accept State: " + i);
+                                }
+                            }
+                        } else {
+                            final ParseState parseState = expansion.Successors.get(abstractSymbol);
+                            final BitSet core = expansion.Cores.get(abstractSymbol);
+                            Integer next = lalr ? coreMap.get(core) : stateMap.get(parseState);
+                            if (next == null) {
+                                next = stateList.size();
+                                stateList.add(parseState);
+                                if (lalr) {
+                                    coreMap.put(core, next);
+                                } else {
+                                    stateMap.put(parseState, next);
+                                }
+                                nextFrontier.add(next);
+                                queued.set(next);
+                            } else if (lalr && stateList.get(next).merge(parseState) && !queued.get(next)) {
+                                // New lookaheads have to be passed on to the merged state's successors
+                                nextFrontier.add(next);
+                                queued.set(next);
+                            }
+                            parseTable.addTransition(i, abstractSymbol, next);
                         }
                     }
-                } else {
-                    // Create a new state by shifting over the next symbol
-                    final ParseState parseState = new ParseState(this);
-                    for (final Item item : groupedItems.get(abstractSymbol)) {
-                        parseState.addItem(item.getNextItem());
-                    }
-                    parseState.makeClosure();
-                    if (!stateMap.containsKey(parseState)) {
-                        stateMap.put(parseState, stateList.size());
-                        stateList.add(parseState);
-                    }
-                    parseTable.addTransition(i, abstractSymbol, stateMap.get(parseState));
                 }
+                frontier = nextFrontier;
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        System.out.println(Mode + " automaton: " + stateList.size() + " states");
+        final List<String> conflicts = parseTable.getConflicts();
+        if (!conflicts.isEmpty()) {
+            System.out.println(conflicts.size() + " parse table conflicts:");
+            for (final String conflict : conflicts) {
+                System.out.println("  " + conflict);
             }
         }
         ParseTable = parseTable;
     }
 
+    /// Expands a level of states, on the pool if there is one, keeping their order.
+    private List<Expansion> expand(List<ParseState> states, AbstractTerminalSymbol nullSymbol, boolean lalr,
+            ConcurrentMap<ParseState, ParseState> internedStates, ForkJoinPool pool) {
+        if (pool == null || states.size() < 2) {
+            final List<Expansion> expansions = new ArrayList<>(states.size());
+            for (final ParseState state : states) {
+                expansions.add(expand(state, nullSymbol, lalr, internedStates));
+            }
+            return expansions;
+        }
+        try {
+            return pool.submit(() -> states.parallelStream()
+                    .map(state -> expand(state, nullSymbol, lalr, internedStates))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the parse table", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not build the parse table", e.getCause());
+        }
+    }
+
+    /// Groups the items of a state by their next symbol and builds the closed successor for each group.
+    private Expansion expand(ParseState state, AbstractTerminalSymbol nullSymbol, boolean lalr,
+            ConcurrentMap<ParseState, ParseState> internedStates) {
+        final Expansion expansion = new Expansion();
+        final Map<AbstractSymbol, List<Item>> groupedItems = expansion.Groups;
+
+        // Group items by the next symbol
+        for (final Item item : state.getItems()) {
+            final AbstractSymbol key = item.isNotEnded() ? item.getNextSymbol() : nullSymbol;
+            if (!groupedItems.containsKey(key)) {
+                groupedItems.put(key, new ArrayList<>());
+            }
+            groupedItems.get(key).add(item);
+        }
+
+        for (final AbstractSymbol abstractSymbol : groupedItems.keySet()) {
+            if (abstractSymbol.equals(nullSymbol)) {
+                continue;
+            }
+            // Create a new state by shifting over the next symbol
+            ParseState parseState = new ParseState(this);
+            for (final Item item : groupedItems.get(abstractSymbol)) {
+                parseState.addItem(item.getNextItem());
+            }
+            parseState.makeClosure();
+            if (lalr) {
+                expansion.Cores.put(abstractSymbol, parseState.getCore());
+            } else {
+                final ParseState known = internedStates.putIfAbsent(parseState, parseState);
+                if (known != null) {
+                    parseState = known;
+                }
+            }
+            expansion.Successors.put(abstractSymbol, parseState);
+        }
+        return expansion;
+    }
+
+    /**
+     * Numbers the LR(0) item cores and works out for every core which lookaheads
+     * its closure items get, so that closures only combine bitsets.
+     */
+    private void initItemCores() {
+        CoreOffsets = new int[Productions.size()];
+        int coreCount = 0;
+        for (int i = 0; i < Productions.size(); i++) {
+            CoreOffsets[i] = coreCount;
+            coreCount += Productions.get(i).to().size() + 1;
+        }
+        CoreFirst = new BitSet[coreCount];
+        CoreNullable = new boolean[coreCount];
+        for (final Production production : Productions) {
+            final List<AbstractSymbol> to = production.to();
+            for (int dot = 0; dot < to.size(); dot++) {
+                if (to.get(dot).getType() != AbstractSymbol.NONTERMINAL) {
+                    continue;
+                }
+                final BitSet first = new BitSet();
+                CoreNullable[coreId(production, dot)] = addFirstOf(to, dot + 1, First, first);
+                CoreFirst[coreId(production, dot)] = first;
+            }
+        }
+    }
+
+    /// Returns the id of a production with the dot at the given position.
+    int coreId(Production production, int dot) {
+        return CoreOffsets[production.getId()] + dot;
+    }
+
+    /// Returns the lookaheads FIRST(beta) that an item core passes to its closure; must not be modified.
+    BitSet coreFirst(int core) {
+        return CoreFirst[core];
+    }
+
+    /// Returns true if a core's own lookaheads also pass to its closure, because beta can derive ε.
+    boolean coreNullable(int core) {
+        return CoreNullable[core];
+    }
+
     /**
      * Initializes the production rules from string representations.
      * 
@@ -177,157 +410,121 @@ public class Grammar {
         to.add(oldStartSymbol);
         Productions.add(0, new Production(newStartSymbol, to));
         StartSymbol = newStartSymbol;
+        numberProductions();
 
         //System.out.println("Augmented Grammar:");
         //System.out.println(this.toString());
     }
 
+    // Gives every production its index in the production list as its id, which is also its rule number.
+    private void numberProductions() {
+        for (int i = 0; i < Productions.size(); i++) {
+            Productions.get(i).setId(i);
+        }
+    }
+
     // Initializes the productions for each non-terminal symbol in the grammar.
     private void initSymbolProductions() {
+        final List<List<Production>> lhsProductions = new ArrayList<>();
+        for (int i = 0; i < SymbolPool.getNonterminalCount(); i++) {
+            lhsProductions.add(new ArrayList<>());
+        }
         for (final Production production : Productions) {
             final AbstractNonterminalSymbol from = (AbstractNonterminalSymbol) production.from();
             from.getProductions().add(production);
+            lhsProductions.get(from.getId()).add(production);
 
             //System.out.println("Non-terminal Symbol: " + from.getName() + ", Productions: " + from.getProductions());
         }
-
+        LhsProductions = new Production[lhsProductions.size()][];
+        for (int i = 0; i < LhsProductions.length; i++) {
+            LhsProductions[i] = lhsProductions.get(i).toArray(new Production[0]);
+        }
     }
 
-    // Initializes the nullable symbols in the grammar.
-
-    private void initSymbolNullable() throws AnalysisException {
-        Set<AbstractSymbol> tmpNullableSymbols = new HashSet<>();
-        final Set<AbstractSymbol> nullableSymbols = new HashSet<>();
-        tmpNullableSymbols.add(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL));
+    /// Returns the productions of a non-terminal, in rule order; the array must not be modified.
+    Production[] productionsOf(AbstractSymbol nonterminal) {
+        return LhsProductions[nonterminal.getId()];
+    }
 
-        final Map<AbstractSymbol, Set<Production>> symbolProductions = new HashMap<>();
-        for (final Production production : Productions) {
-            final AbstractSymbol from = production.from();
-            if (!symbolProductions.containsKey(from)) {
-                symbolProductions.put(from, new HashSet<>());
-            }
-            symbolProductions.get(from).add(new Production(production));
-        }
-        
-        //Iteratively find nullable symbols
-        while (!tmpNullableSymbols.isEmpty()) {
-            final Set<AbstractSymbol> nextTmpNullableSymbols = new HashSet<>();
-            for (final AbstractSymbol from : symbolProductions.keySet()) {
-                for (final Production production : symbolProductions.get(from)) {
-                    final List<AbstractSymbol> to = production.to();
-                    for (final AbstractSymbol abstractSymbol : tmpNullableSymbols) {
-                        to.remove(abstractSymbol);
-                    }
-                    if (to.size() <= 0) {
-                        nextTmpNullableSymbols.add(from);
+    /**
+     * Computes which non-terminals can derive ε, as a fixed point over the productions.
+     * A production makes its left side nullable when every symbol on its right is
+     * ε or a nullable non-terminal.
+     */
+    private void initSymbolNullable() {
+        final BitSet nullable = new BitSet();
+        boolean changed;
+        do {
+            changed = false;
+            for (final Production production : Productions) {
+                final int from = production.from().getId();
+                if (nullable.get(from)) {
+                    continue;
+                }
+                boolean allNullable = true;
+                for (final AbstractSymbol abstractSymbol : production.to()) {
+                    if (abstractSymbol.getType() == AbstractSymbol.NONTERMINAL
+                            ? !nullable.get(abstractSymbol.getId())
+                            : !abstractSymbol.getName().equals(AbstractTerminalSymbol.NULL)) {
+                        allNullable = false;
                         break;
                     }
                 }
+                if (allNullable) {
+                    nullable.set(from);
+                    changed = true;
+                }
             }
-            symbolProductions.keySet().removeAll(nextTmpNullableSymbols);
-            nullableSymbols.addAll(nextTmpNullableSymbols);
-            tmpNullableSymbols = nextTmpNullableSymbols;
-        }
-
-        //Mark all nullable symbols in the grammar
-        for (final AbstractSymbol abstractSymbol : nullableSymbols) {
-            ((AbstractNonterminalSymbol) abstractSymbol).setNullable(true);
-        }
-
+        } while (changed);
+        Nullable = nullable;
     }
 
     /**
      * Computes the FIRST sets for all non-terminal symbols in the grammar.
      * The FIRST set contains all terminals that can begin strings derived from a symbol.
+     * The sets are bitsets of terminal ids indexed by non-terminal id and leave ε out;
+     * whether a symbol can derive ε is kept in the nullable set. The symbols are given
+     * the same sets as terminal symbols, with ε added for nullable ones.
      * 
      * @throws AnalysisException If there's an error during computation
      */
 
     private void initSymbolFirstSet() throws AnalysisException {
         initSymbolNullable();
-        initSymbolFollowSet();
-
-        //System.out.println("Nullable Symbols:");
-        for (AbstractNonterminalSymbol symbol : SymbolPool.getNonterminalSymbols()) {
-            if (symbol.isNullable()) {
-                //System.out.println(symbol.getName() + " is nullable");
-            }
-        }
 
-        // Initialize FIRST sets for all non-terminal symbols
-        for (AbstractNonterminalSymbol symbol : SymbolPool.getNonterminalSymbols()) {
-            symbol.setFirstSet(new HashSet<>()); // Ensure the FIRST set is initialized
+        final BitSet[] first = new BitSet[SymbolPool.getNonterminalCount()];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = new BitSet();
         }
 
-        // Track symbol connections for propagating FIRST sets
-        final Map<AbstractNonterminalSymbol, Set<AbstractNonterminalSymbol>> connections = new HashMap<>();
-        final Map<AbstractNonterminalSymbol, Set<AbstractTerminalSymbol>> firstSets = new HashMap<>();
-        final Map<AbstractNonterminalSymbol, Set<AbstractTerminalSymbol>> tmpFirstSets = new HashMap<>();
-        final AbstractTerminalSymbol nullSymbol = SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL);
-
-        // Analyze productions to build initial FIRST sets
-        for (final Production production : Productions) {
-            for (final AbstractSymbol abstractSymbol : production.to()) {
-                final AbstractNonterminalSymbol from = (AbstractNonterminalSymbol) production.from();
-                if (abstractSymbol.getType() == AbstractSymbol.NONTERMINAL) {
-                    final AbstractNonterminalSymbol abstractNonterminalSymbol = (AbstractNonterminalSymbol) abstractSymbol;
-                    if (!connections.containsKey(abstractNonterminalSymbol)) {
-                        connections.put(abstractNonterminalSymbol, new HashSet<>());
-                    }
-                    connections.get(abstractNonterminalSymbol).add(from);
-                    if (!(abstractNonterminalSymbol.isNullable())) {
-                        break;
-                    }
-                } else if (!abstractSymbol.equals(nullSymbol)) {
-                    final AbstractTerminalSymbol abstractTerminalSymbol = (AbstractTerminalSymbol) abstractSymbol;
-                    if (!tmpFirstSets.containsKey(from)) {
-                        tmpFirstSets.put(from, new HashSet<>());
-                    }
-                    tmpFirstSets.get(from).add(abstractTerminalSymbol);
-                    break;
-                } else {
-                    break;
-                }
+        // Propagate FIRST sets along the productions until nothing changes
+        boolean changed;
+        do {
+            changed = false;
+            for (final Production production : Productions) {
+                final BitSet from = first[production.from().getId()];
+                final int before = from.cardinality();
+                addFirstOf(production.to(), 0, first, from);
+                changed |= from.cardinality() != before;
             }
-        }
+        } while (changed);
+        First = first;
 
-        // Propagate FIRST sets through symbol connections until fixed point
-        while (!tmpFirstSets.isEmpty()) {
-            final Map<AbstractNonterminalSymbol, Set<AbstractTerminalSymbol>> newTmpFirstSets = new HashMap<>();
-            for (final AbstractNonterminalSymbol abstractNonterminalSymbol : tmpFirstSets.keySet()) {
-                if (!firstSets.containsKey(abstractNonterminalSymbol)) {
-                    firstSets.put(abstractNonterminalSymbol, new HashSet<>());
-                }
-                firstSets.get(abstractNonterminalSymbol).addAll(tmpFirstSets.get(abstractNonterminalSymbol));
-                if (connections.containsKey(abstractNonterminalSymbol)) {
-                    for (final AbstractNonterminalSymbol target : connections.get(abstractNonterminalSymbol)) {
-                        if (!newTmpFirstSets.containsKey(target)) {
-                            newTmpFirstSets.put(target, new HashSet<>());
-                        }
-                        newTmpFirstSets.get(target).addAll(tmpFirstSets.get(abstractNonterminalSymbol));
-                    }
-                }
-            }
-            tmpFirstSets.clear();
-            for (final AbstractNonterminalSymbol abstractNonterminalSymbol : newTmpFirstSets.keySet()) {
-                if (firstSets.containsKey(abstractNonterminalSymbol)) {
-                    newTmpFirstSets.get(abstractNonterminalSymbol).removeAll(firstSets.get(abstractNonterminalSymbol));
-                }
-                if (newTmpFirstSets.get(abstractNonterminalSymbol).size() > 0) {
-                    tmpFirstSets.put(abstractNonterminalSymbol, newTmpFirstSets.get(abstractNonterminalSymbol));
-                }
-            }
-        }
+        // Compute FOLLOW sets now that FIRST sets are known
+        initSymbolFollowSet();
 
         // Finalize FIRST sets and handle nullable symbols
+        final AbstractTerminalSymbol nullSymbol = SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL);
         for (final AbstractNonterminalSymbol abstractNonterminalSymbol : SymbolPool.getNonterminalSymbols()) {
-            if (!firstSets.containsKey(abstractNonterminalSymbol)) {
-                firstSets.put(abstractNonterminalSymbol, new HashSet<>());
-            }
-            if (abstractNonterminalSymbol.isNullable()) {
-                firstSets.get(abstractNonterminalSymbol).add(nullSymbol);
+            final int id = abstractNonterminalSymbol.getId();
+            abstractNonterminalSymbol.setNullable(Nullable.get(id));
+            final Set<AbstractTerminalSymbol> firstSet = toSymbols(First[id]);
+            if (Nullable.get(id)) {
+                firstSet.add(nullSymbol);
             }
-            abstractNonterminalSymbol.setFirstSet(firstSets.get(abstractNonterminalSymbol));
+            abstractNonterminalSymbol.setFirstSet(firstSet);
+            abstractNonterminalSymbol.setFollowSet(toSymbols(Follow[id]));
         }
         System.out.println("FIRST Sets:");
         System.out.println(getFirstSetsCSV());
@@ -335,6 +532,36 @@ public class Grammar {
         System.out.println(getFollowSetsCSV());
     }
 
+    /**
+     * Adds FIRST of symbols[start..] to a set of terminal ids.
+     *
+     * @return True if every symbol from start on can derive ε
+     */
+    private boolean addFirstOf(List<AbstractSymbol> symbols, int start, BitSet[] first, BitSet into) {
+        for (int i = start; i < symbols.size(); i++) {
+            final AbstractSymbol abstractSymbol = symbols.get(i);
+            if (abstractSymbol.getType() == AbstractSymbol.NONTERMINAL) {
+                into.or(first[abstractSymbol.getId()]);
+                if (!Nullable.get(abstractSymbol.getId())) {
+                    return false;
+                }
+            } else if (!abstractSymbol.getName().equals(AbstractTerminalSymbol.NULL)) {
+                into.set(abstractSymbol.getId());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns the terminal symbols whose ids are set.
+    private Set<AbstractTerminalSymbol> toSymbols(BitSet ids) {
+        final Set<AbstractTerminalSymbol> symbols = new HashSet<>();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            symbols.add(SymbolPool.getTerminalSymbol(id));
+        }
+        return symbols;
+    }
+
     @Override
     public String toString() {
         final StringBuilder stringBuilder = new StringBuilder("Productions in this grammar:");
@@ -360,73 +587,42 @@ public class Grammar {
     }
 
     /**
-     * Computes the FOLLOW sets for all non-terminal symbols in the grammar.
+     * Computes the FOLLOW sets for all non-terminal symbols in the grammar,
+     * as bitsets of terminal ids indexed by non-terminal id.
      */
     private void initSymbolFollowSet() throws AnalysisException {
-        // Initialize FOLLOW sets
-        Map<AbstractNonterminalSymbol, Set<AbstractTerminalSymbol>> followSets = new HashMap<>();
-        for (AbstractNonterminalSymbol symbol : SymbolPool.getNonterminalSymbols()) {
-            followSets.put(symbol, new HashSet<>());
+        final BitSet[] follow = new BitSet[SymbolPool.getNonterminalCount()];
+        for (int i = 0; i < follow.length; i++) {
+            follow[i] = new BitSet();
         }
-        
+
         // Add $ to FOLLOW of start symbol
-        AbstractTerminalSymbol endSymbol = SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.END);
-        followSets.get(StartSymbol).add(endSymbol);
-        
+        follow[StartSymbol.getId()].set(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.END).getId());
+
         boolean changed;
         do {
             changed = false;
-            for (Production production : Productions) {
-                AbstractNonterminalSymbol A = (AbstractNonterminalSymbol) production.from();
-                List<AbstractSymbol> beta = production.to();
-                
+            for (final Production production : Productions) {
+                final BitSet followA = follow[production.from().getId()];
+                final List<AbstractSymbol> beta = production.to();
+
                 // Traverse the right-hand side of the production
                 for (int i = 0; i < beta.size(); i++) {
-                    if (beta.get(i).getType() == AbstractSymbol.NONTERMINAL) {
-                        AbstractNonterminalSymbol B = (AbstractNonterminalSymbol) beta.get(i);
-                        
-                        // Get FIRST of the symbols after B
-                        Set<AbstractTerminalSymbol> firstBeta = new HashSet<>();
-                        boolean nullable = true;
-                        for (int j = i + 1; j < beta.size() && nullable; j++) {
-                            if (beta.get(j).getType() == AbstractSymbol.NONTERMINAL) {
-                                firstBeta.addAll(((AbstractNonterminalSymbol) beta.get(j)).getFirstSet());
-                            } else {
-                                firstBeta.add((AbstractTerminalSymbol) beta.get(j));
-                            }
-                            
-                            // Remove ε from FIRST set (if present)
-                            firstBeta.remove(SymbolPool.getTerminalSymbol(AbstractTerminalSymbol.NULL));
-                            
-                            // Check if current symbol is nullable
-                            nullable = beta.get(j).getType() == AbstractSymbol.NONTERMINAL && 
-                                    ((AbstractNonterminalSymbol) beta.get(j)).isNullable();
-                        }
-                        
-                        // Add FIRST(beta) to FOLLOW(B)
-                        int oldSize = followSets.get(B).size();
-                        followSets.get(B).addAll(firstBeta);
-                        if (followSets.get(B).size() > oldSize) {
-                            changed = true;
-                        }
-                        
-                        // If all symbols after B are nullable, add FOLLOW(A) to FOLLOW(B)
-                        if (nullable) {
-                            oldSize = followSets.get(B).size();
-                            followSets.get(B).addAll(followSets.get(A));
-                            if (followSets.get(B).size() > oldSize) {
-                                changed = true;
-                            }
-                        }
+                    if (beta.get(i).getType() != AbstractSymbol.NONTERMINAL) {
+                        continue;
                     }
+                    final BitSet followB = follow[beta.get(i).getId()];
+                    final int before = followB.cardinality();
+
+                    // Add FIRST(beta) to FOLLOW(B), and FOLLOW(A) if beta can derive ε
+                    if (addFirstOf(beta, i + 1, First, followB)) {
+                        followB.or(followA);
+                    }
+                    changed |= followB.cardinality() != before;
                 }
             }
         } while (changed);
-        
-        // Store the FOLLOW sets in the symbols
-        for (AbstractNonterminalSymbol symbol : SymbolPool.getNonterminalSymbols()) {
-            symbol.setFollowSet(followSets.get(symbol));
-        }
+        Follow = follow;
     }
 
     public String getFollowSetsCSV() {
@@ -0,0 +1,121 @@
+package project.utils.parser;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of primitive ints with a gap that values are added at, for lists
+ * that are edited near the same place again and again, such as the token offsets
+ * an IncrementalParser keeps. The values after the gap carry a pending shift, so a
+ * run of them can be moved by a constant without touching each one.
+ */
+public class IntGapBuffer {
+
+    private int[] elements;
+
+    private int size;
+
+    // Values from gapStart on are stored gapLength entries further on, shift short of the real ones
+    private int gapStart;
+    private int gapLength;
+    private int shift;
+
+    public IntGapBuffer() {
+        this(64);
+    }
+
+    public IntGapBuffer(int initialCapacity) {
+        elements = new int[Math.max(1, initialCapacity)];
+        gapLength = elements.length;
+    }
+
+    /// Inserts a value at the gap and returns its index.
+    public int add(int value) {
+        if (gapLength == 0) {
+            int after = size - gapStart;
+            int[] grown = Arrays.copyOf(elements, elements.length * 2);
+            System.arraycopy(elements, gapStart, grown, grown.length - after, after);
+            elements = grown;
+            gapLength = grown.length - size;
+        }
+        elements[gapStart] = value;
+        gapLength--;
+        size++;
+        return gapStart++;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index < gapStart ? elements[index] : elements[index + gapLength] + shift;
+    }
+
+    /// Moves the gap in front of the value at index.
+    public void moveGap(int index) {
+        if (index < gapStart) {
+            System.arraycopy(elements, index, elements, index + gapLength, gapStart - index);
+            for (int i = index + gapLength; i < gapStart + gapLength; i++) {
+                elements[i] -= shift;
+            }
+        } else if (index > gapStart) {
+            System.arraycopy(elements, gapStart + gapLength, elements, gapStart, index - gapStart);
+            for (int i = gapStart; i < index; i++) {
+                elements[i] += shift;
+            }
+        }
+        gapStart = index;
+    }
+
+    /// Removes the count values after the gap.
+    public void delete(int count) {
+        if (count > size - gapStart) {
+            throw new IndexOutOfBoundsException("Cannot delete " + count + " of " + (size - gapStart) + " values");
+        }
+        gapLength += count;
+        size -= count;
+    }
+
+    /// Adds delta to every value after the gap.
+    public void shift(int delta) {
+        shift += delta;
+    }
+
+    /// Returns the first index whose value is at least key, or size(), for values in ascending order.
+    public int lowerBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+        gapStart = 0;
+        gapLength = elements.length;
+        shift = 0;
+    }
+
+    @Override
+    public String toString() {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = get(i);
+        }
+        return Arrays.toString(values);
+    }
+}
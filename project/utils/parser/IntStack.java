@@ -0,0 +1,77 @@
+package project.utils.parser;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * A growable, unsynchronized stack of primitive ints used for the LR state stack.
+ * Clearing keeps the backing array, so a stack can be reused across parses without reallocating.
+ */
+public class IntStack {
+
+    private int[] elements;
+
+    private int size;
+
+    public IntStack() {
+        this(64);
+    }
+
+    public IntStack(int initialCapacity) {
+        elements = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void push(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = value;
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[--size];
+    }
+
+    /// Removes the top count elements at once.
+    public void pop(int count) {
+        if (count > size) {
+            throw new EmptyStackException();
+        }
+        size -= count;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /// Returns the element at the given depth from the bottom of the stack.
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(elements, size));
+    }
+}
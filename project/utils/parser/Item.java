@@ -2,29 +2,42 @@ package project.utils.parser;
 import project.utils.symbol.AbstractSymbol;
 import project.utils.symbol.AbstractTerminalSymbol;
 
+import java.util.BitSet;
+
 /**
  * Represents an LR(1) item in the parser.
- * An item consists of a production rule, a position marker (dot), and a lookahead symbol.
+ * An item consists of a production rule, a position marker (dot), and the set of
+ * lookahead terminals it is valid for. The production and dot form the item's
+ * LR(0) core, numbered densely by the grammar; a state holds at most one item per
+ * core and merges the lookaheads of items that share it.
  */
 
 public class Item {
 
-    private int Dot = 0;
+    private final int Dot;
 
     private final Production Production;
 
-    private final AbstractTerminalSymbol LookAhead;
+    /// The grammar's number for this production and dot, see Grammar.coreId.
+    private final int Core;
+
+    /// Terminal ids, as numbered by the grammar's SymbolPool.
+    private final BitSet LookAheads;
 
     /**
-     * Creates a new item with the specified production and lookahead.
-     * 
+     * Creates a new item with the specified production, dot and lookaheads.
+     *
      * @param production The production rule
-     * @param lookAhead The lookahead terminal symbol
+     * @param dot The position of the dot in the production
+     * @param core The core id of the production and dot
+     * @param lookAheads The lookahead terminal ids; the item takes ownership of the set
      */
 
-    public Item(Production production, AbstractTerminalSymbol lookAhead) {
+    Item(Production production, int dot, int core, BitSet lookAheads) {
         Production = production;
-        LookAhead = lookAhead;
+        Dot = dot;
+        Core = core;
+        LookAheads = lookAheads;
     }
 
     /// Returns the next symbol after the dot in the production rule.
@@ -40,8 +53,19 @@ public class Item {
         return Production;
     }
 
-    public AbstractTerminalSymbol getLookAhead() {
-        return LookAhead;
+    public int getCore() {
+        return Core;
+    }
+
+    public BitSet getLookAheads() {
+        return LookAheads;
+    }
+
+    /// Adds lookaheads to this item and returns true if any were new.
+    boolean addLookAheads(BitSet lookAheads) {
+        final int before = LookAheads.cardinality();
+        LookAheads.or(lookAheads);
+        return LookAheads.cardinality() != before;
     }
 
     /// Returns true if the item has not reached the end of the production rule.
@@ -52,23 +76,21 @@ public class Item {
 
     // Creates a new item with the dot moved one position to the right.
     public Item getNextItem() {
-        final Item item = new Item(Production, LookAhead);
-        item.Dot = Dot + 1;
-        return item;
+        return new Item(Production, Dot + 1, Core + 1, (BitSet) LookAheads.clone());
     }
 
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Item) {
             final Item item = (Item) obj;
-            return item.Dot == Dot && item.Production.equals(Production) && item.LookAhead.equals(LookAhead);
+            return item.Core == Core && item.LookAheads.equals(LookAheads);
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Production.hashCode() ^ Dot;
+        return Core * 31 + LookAheads.hashCode();
     }
 
     @Override
@@ -85,8 +107,6 @@ public class Item {
             stringBuilder.append(" ");
             stringBuilder.append(Production.to().get(i));
         }
-        stringBuilder.append(", ");
-        stringBuilder.append(LookAhead);
         return stringBuilder.toString();
     }
 }
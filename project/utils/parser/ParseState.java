@@ -1,19 +1,17 @@
 package project.utils.parser;
-import project.utils.exception.AnalysisException;
-import project.utils.symbol.AbstractNonterminalSymbol;
 import project.utils.symbol.AbstractSymbol;
-import project.utils.symbol.AbstractTerminalSymbol;
 
 import java.util.*;
 
 /**
  * Represents a state in the LR(1) parse automaton.
  * Each state contains a set of items and provides methods for closure computation.
+ * Items are kept by core, one per production and dot, each with all of its lookaheads.
  */
 public class ParseState {
 
-    /// A set of items in this state.
-    private final Set<Item> Items = new HashSet<>();
+    /// The items in this state, keyed by core id.
+    private final Map<Integer, Item> Items = new HashMap<>();
 
     private final Grammar Grammar;
 
@@ -21,101 +19,107 @@ public class ParseState {
         Grammar = grammar;
     }
 
+    /// Adds an item, merging its lookaheads into the item with the same core if there is one.
     public void addItem(Item item) {
-        Items.add(item);
+        final Item existing = Items.putIfAbsent(item.getCore(), item);
+        if (existing != null) {
+            existing.addLookAheads(item.getLookAheads());
+        }
     }
 
-    public Set<Item> getItems() {
-        return Items;
+    public Collection<Item> getItems() {
+        return Items.values();
+    }
+
+    /// Returns the core ids of the items in this state, ignoring lookaheads.
+    public BitSet getCore() {
+        final BitSet core = new BitSet();
+        for (final int id : Items.keySet()) {
+            core.set(id);
+        }
+        return core;
     }
 
     /**
-     * Computes the closure of the items in this state.
-     * This involves adding items for non-terminal symbols that appear after a dot.
+     * Adds the lookaheads of a state with the same core to this one.
+     * Both states must already be closed; the union of two closures is closed.
+     *
+     * @param other A state with the same LR(0) core
+     * @return True if this state gained any lookaheads
      */
-    public void makeClosure() {
-        final List<Item> itemList = new ArrayList<>(Items);
-        for (int i = 0; i < itemList.size(); i++) {
-            final Item item = itemList.get(i);
-            if (item.isNotEnded()) {
-                final AbstractSymbol abstractSymbol = item.getNextSymbol();
-                if (abstractSymbol.getType() == AbstractSymbol.NONTERMINAL) {
-                    // If the next symbol is a non-terminal, we need to add its productions to the closure.
-                    final List<AbstractSymbol> lookAheadSymbols = new ArrayList<>();
-                    for (int j = item.getDot() + 1; j < item.getProduction().to().size(); j++) {
-                        lookAheadSymbols.add(item.getProduction().to().get(j));
-                    }
-                    lookAheadSymbols.add(item.getLookAhead());
-
-                    // Compute the first set of the lookahead symbols.
-                    final Set<AbstractTerminalSymbol> headList = getHeadSet(lookAheadSymbols);
-                    for (final Production production : ((AbstractNonterminalSymbol) abstractSymbol).getProductions()) {
-                        for (final AbstractTerminalSymbol lookAheadSymbol : headList) {
-                            final Item newItem = new Item(production, lookAheadSymbol);
-                            if (!Items.contains(newItem)) {
-                                Items.add(newItem);
-                                itemList.add(newItem);
-                            }
-                        }
-                    }
-                }
-            }
+    public boolean merge(ParseState other) {
+        boolean changed = false;
+        for (final Item item : other.Items.values()) {
+            changed |= Items.get(item.getCore()).addLookAheads(item.getLookAheads());
         }
+        return changed;
     }
 
     /**
-     * Computes the head set (FIRST set) for a sequence of symbols.
-     * 
-     * @param abstractSymbols List of symbols to compute the head set for
-     * @return Set of terminal symbols that can appear first in the sequence
+     * Computes the closure of the items in this state.
+     * For an item with a non-terminal B after the dot, every production of B is added
+     * with the lookaheads FIRST(beta), plus the item's own lookaheads when beta is
+     * nullable. An item is looked at again whenever it gains lookaheads.
      */
-    private Set<AbstractTerminalSymbol> getHeadSet(List<AbstractSymbol> abstractSymbols) {
-        final Set<AbstractTerminalSymbol> headSet = new HashSet<>();
-        for (final AbstractSymbol abstractSymbol : abstractSymbols) {
-            if (abstractSymbol.getType() == AbstractSymbol.NONTERMINAL) {
-                headSet.addAll(((AbstractNonterminalSymbol) abstractSymbol).getFirstSet());
-                if (!((AbstractNonterminalSymbol) abstractSymbol).isNullable()) {
-                    break;
+    public void makeClosure() {
+        final Deque<Item> pending = new ArrayDeque<>(Items.values());
+        final BitSet queued = getCore();
+        while (!pending.isEmpty()) {
+            final Item item = pending.poll();
+            queued.clear(item.getCore());
+            if (!item.isNotEnded()) {
+                continue;
+            }
+            final AbstractSymbol abstractSymbol = item.getNextSymbol();
+            if (abstractSymbol.getType() != AbstractSymbol.NONTERMINAL) {
+                continue;
+            }
+            // If the next symbol is a non-terminal, we need to add its productions to the closure.
+            BitSet lookAheads = Grammar.coreFirst(item.getCore());
+            if (Grammar.coreNullable(item.getCore())) {
+                lookAheads = (BitSet) lookAheads.clone();
+                lookAheads.or(item.getLookAheads());
+            }
+            for (final Production production : Grammar.productionsOf(abstractSymbol)) {
+                final int core = Grammar.coreId(production, 0);
+                Item closed = Items.get(core);
+                if (closed == null) {
+                    closed = new Item(production, 0, core, new BitSet());
+                    Items.put(core, closed);
                 }
-            } else {
-                headSet.add((AbstractTerminalSymbol) abstractSymbol);
-                if (!abstractSymbol.getName().equals(AbstractTerminalSymbol.NULL)) {
-                    break;
+                if (closed.addLookAheads(lookAheads) && !queued.get(core)) {
+                    queued.set(core);
+                    pending.add(closed);
                 }
             }
         }
-        try {
-            headSet.remove(Grammar.getSymbolPool().getTerminalSymbol(AbstractTerminalSymbol.NULL));
-        } catch (AnalysisException e) {
-            e.printStackTrace();
-        }
-        return headSet;
     }
 
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof ParseState) {
-            final ParseState parseState = (ParseState) obj;
-            return Items.size() == parseState.Items.size() && Items.containsAll(parseState.Items);
+            return Items.equals(((ParseState) obj).Items);
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        int hash = 0;
-        for (final Item item : Items) {
-            hash ^= item.hashCode();
-        }
-        return hash;
+        return Items.hashCode();
     }
 
     @Override
     public String toString() {
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("Items in this state:\n");
-        for (final Item item : Items) {
+        for (final Item item : Items.values()) {
             stringBuilder.append(item);
+            stringBuilder.append(",");
+            final BitSet lookAheads = item.getLookAheads();
+            for (int id = lookAheads.nextSetBit(0); id >= 0; id = lookAheads.nextSetBit(id + 1)) {
+                stringBuilder.append(" ");
+                stringBuilder.append(Grammar.getSymbolPool().getTerminalSymbol(id));
+            }
             stringBuilder.append("\n");
         }
         return stringBuilder.toString();
@@ -20,6 +20,9 @@ public class ParseTable {
 
     private int AcceptState;
 
+    /// Cells that were given two different actions, keyed by state and symbol, in the order they were found.
+    private final Map<String, String> Conflicts = new LinkedHashMap<>();
+
     private final Grammar Grammar;
 
     public ParseTable(Grammar grammar) {
@@ -51,21 +54,36 @@ public class ParseTable {
             transition = new Transition(Transition.SHIFT, nextStateIndex);
         }
         /// Add the transition to the table
-        if (!TableMap.containsKey(stateIndex)) {
-            TableMap.put(stateIndex, new HashMap<>());
-        }
-        TableMap.get(stateIndex).put(abstractSymbol, transition);
+        putTransition(stateIndex, abstractSymbol, transition);
     }
 
     /// Adds a reduce action to the parse table for a given state and production.
     public void addTransition(int stateIndex, AbstractSymbol abstractSymbol, Production production) {
         //
-        final Transition transition = new Transition(production, Grammar.getProductions().indexOf(production));
-        /// Check if the symbol is a terminal or non-terminal
+        final Transition transition = new Transition(production, production.getId());
+        putTransition(stateIndex, abstractSymbol, transition);
+    }
+
+    /**
+     * Returns the conflicts found while filling the table, one line per cell.
+     * The table keeps the action that was added last for such a cell.
+     */
+    public List<String> getConflicts() {
+        return new ArrayList<>(Conflicts.values());
+    }
+
+    private void putTransition(int stateIndex, AbstractSymbol abstractSymbol, Transition transition) {
         if (!TableMap.containsKey(stateIndex)) {
             TableMap.put(stateIndex, new HashMap<>());
         }
-        TableMap.get(stateIndex).put(abstractSymbol, transition);
+        final Transition previous = TableMap.get(stateIndex).put(abstractSymbol, transition);
+        if (previous != null && !previous.sameAs(transition)) {
+            final String kind = previous.getAction() == Transition.REDUCE && transition.getAction() == Transition.REDUCE
+                    ? "reduce/reduce" : "shift/reduce";
+            Conflicts.putIfAbsent(stateIndex + " " + abstractSymbol.getName(), String.format(
+                    "%s conflict in state %d on %s: %s and %s", kind, stateIndex, abstractSymbol.getName(),
+                    previous, transition));
+        }
     }
 
     @Override
@@ -0,0 +1,479 @@
+package project.utils.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import project.utils.exception.AnalysisException;
+import project.utils.symbol.AbstractSymbol;
+import project.utils.symbol.AbstractTerminalSymbol;
+import project.utils.symbol.SymbolPool;
+
+/**
+ * A compact binary snapshot of the generated LR(1) tables.
+ * The file is written once after the canonical collection has been built and is
+ * memory-mapped on later runs, so the grammar only has to be analysed again when
+ * its text (and therefore its SHA-256 hash) changes.
+ *
+ * The packed tables also skip the unit reductions ASTBuilder.passesUnitThrough
+ * allows, so which nonterminals it passes through is stored as well, and the file
+ * is stale once that changes.
+ *
+ * Layout (big-endian): magic, version, grammar hash, terminal names, nonterminal names,
+ * one byte per nonterminal that is 1 if its unit rules are skipped, state count, accept state, the dense action matrix, the dense goto matrix, the
+ * left-hand side, arity and unit child of every production, and the same tables
+ * packed by CompressedParseTable, which is what the parser reads from.
+ */
+public class ParseTableCache {
+
+    private static final int MAGIC = 0x55504C52; // "UPLR"
+
+    private static final int VERSION = 4;
+
+    private static final int HASH_LENGTH = 32;
+
+    /// Action cell encodings. The low two bits hold the kind, the rest the operand.
+    public static final int ERROR = 0;
+    public static final int SHIFT = 1;
+    public static final int REDUCE = 2;
+    public static final int ACCEPT = 3;
+
+    private final byte[] grammarHash;
+    private final String[] terminals;
+    private final String[] nonterminals;
+    private final int stateCount;
+    private final int acceptState;
+    private final int[] actions;
+    private final int[] gotos;
+    private final int[] productionLhs;
+    private final int[] productionArity;
+    private final int[] productionUnit; // nonterminal column of a unit rule's only symbol, or -1
+    private final CompressedParseTable compressed;
+
+    /// Creates the tables and packs them.
+    public ParseTableCache(byte[] grammarHash, String[] terminals, String[] nonterminals, int stateCount,
+            int acceptState, int[] actions, int[] gotos, int[] productionLhs, int[] productionArity,
+            int[] productionUnit) {
+        this(grammarHash, terminals, nonterminals, stateCount, acceptState, actions, gotos, productionLhs,
+                productionArity, productionUnit, null);
+    }
+
+    private ParseTableCache(byte[] grammarHash, String[] terminals, String[] nonterminals, int stateCount,
+            int acceptState, int[] actions, int[] gotos, int[] productionLhs, int[] productionArity,
+            int[] productionUnit, CompressedParseTable compressed) {
+        this.grammarHash = grammarHash;
+        this.terminals = terminals;
+        this.nonterminals = nonterminals;
+        this.stateCount = stateCount;
+        this.acceptState = acceptState;
+        this.actions = actions;
+        this.gotos = gotos;
+        this.productionLhs = productionLhs;
+        this.productionArity = productionArity;
+        this.productionUnit = productionUnit;
+        this.compressed = compressed != null
+                ? compressed
+                : CompressedParseTable.compress(this, unitBypassGotos(skippableNonterminals()));
+    }
+
+    /**
+     * Flattens a generated parse table into dense matrices.
+     * Nonterminal columns follow the order in which they first appear on the left of a production.
+     *
+     * @param grammarHash The hash of the grammar text
+     * @param grammar The grammar the table was generated from
+     * @param terminals The terminal column order
+     * @throws AnalysisException If the table uses a terminal that has no column
+     */
+    public static ParseTableCache fromParseTable(byte[] grammarHash, Grammar grammar, String[] terminals)
+            throws AnalysisException {
+        final ParseTable parseTable = grammar.getParseTable();
+        final List<Production> productions = grammar.getProductions();
+
+        // Columns by symbol id; nonterminals get theirs in order of first appearance
+        final SymbolPool symbolPool = grammar.getSymbolPool();
+        final Map<String, Integer> terminalIndex = new HashMap<>();
+        for (int i = 0; i < terminals.length; i++) {
+            terminalIndex.put(terminals[i], i);
+        }
+        final int[] terminalColumns = new int[symbolPool.getTerminalCount()];
+        for (int id = 0; id < terminalColumns.length; id++) {
+            terminalColumns[id] = terminalIndex.getOrDefault(symbolPool.getTerminalSymbol(id).getName(), -1);
+        }
+        final int[] nonterminalColumns = new int[symbolPool.getNonterminalCount()];
+        Arrays.fill(nonterminalColumns, -1);
+        final List<String> nonterminalList = new ArrayList<>();
+        final int[] productionLhs = new int[productions.size()];
+        final int[] productionArity = new int[productions.size()];
+        for (int i = 0; i < productions.size(); i++) {
+            final Production production = productions.get(i);
+            final int lhs = production.from().getId();
+            if (nonterminalColumns[lhs] < 0) {
+                nonterminalColumns[lhs] = nonterminalList.size();
+                nonterminalList.add(production.from().getName());
+            }
+            productionLhs[i] = nonterminalColumns[lhs];
+            final List<AbstractSymbol> to = production.to();
+            final boolean epsilon = to.size() == 1 && to.get(0).getName().equals(AbstractTerminalSymbol.NULL);
+            productionArity[i] = epsilon ? 0 : to.size();
+        }
+        // Unit rules A ::= B, by the column of B; all left-hand sides have their columns by now
+        final int[] productionUnit = new int[productions.size()];
+        for (int i = 0; i < productions.size(); i++) {
+            final List<AbstractSymbol> to = productions.get(i).to();
+            productionUnit[i] = to.size() == 1 && to.get(0).getType() == AbstractSymbol.NONTERMINAL
+                    ? nonterminalColumns[to.get(0).getId()]
+                    : -1;
+        }
+
+        int stateCount = 0;
+        for (final int state : parseTable.getTable().keySet()) {
+            stateCount = Math.max(stateCount, state + 1);
+        }
+        final int[] actions = new int[stateCount * terminals.length];
+        final int[] gotos = new int[stateCount * nonterminalList.size()];
+        for (final Map.Entry<Integer, Map<AbstractSymbol, Transition>> row : parseTable.getTable().entrySet()) {
+            final int state = row.getKey();
+            for (final Map.Entry<AbstractSymbol, Transition> cell : row.getValue().entrySet()) {
+                final AbstractSymbol symbol = cell.getKey();
+                final Transition transition = cell.getValue();
+                if (symbol.getType() == AbstractSymbol.NONTERMINAL) {
+                    gotos[state * nonterminalList.size() + nonterminalColumns[symbol.getId()]] =
+                            transition.getNextState() + 1;
+                    continue;
+                }
+                final int column = terminalColumns[symbol.getId()];
+                if (column < 0) {
+                    throw new AnalysisException(
+                            String.format(AnalysisException.TERMINAL_SYMBOL_NOT_EXIST, symbol.getName()), null);
+                }
+                final int action;
+                if (state == parseTable.getAcceptState() && symbol.getName().equals(AbstractTerminalSymbol.END)) {
+                    action = encode(ACCEPT, 0);
+                } else if (transition.getAction() == Transition.REDUCE) {
+                    action = encode(REDUCE, transition.getReduceIndex());
+                } else {
+                    action = encode(SHIFT, transition.getNextState());
+                }
+                actions[state * terminals.length + column] = action;
+            }
+        }
+        return new ParseTableCache(grammarHash, terminals.clone(), nonterminalList.toArray(new String[0]),
+                stateCount, parseTable.getAcceptState(), actions, gotos, productionLhs, productionArity,
+                productionUnit);
+    }
+
+    public static int encode(int kind, int operand) {
+        return (operand << 2) | kind;
+    }
+
+    public static int kindOf(int action) {
+        return action & 0x3;
+    }
+
+    public static int operandOf(int action) {
+        return action >>> 2;
+    }
+
+    /// Returns the SHA-256 digest of the grammar text the tables are built from.
+    public static byte[] hashGrammar(String grammarInput) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(grammarInput.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Maps a cache file and decodes it if it was built from a grammar with the given hash.
+     *
+     * @param path The cache file
+     * @param grammarHash The hash of the current grammar text
+     * @return The cached tables, or null if the file is missing, stale or unreadable
+     */
+    public static ParseTableCache read(Path path, byte[] grammarHash) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            byte[] hash = new byte[HASH_LENGTH];
+            buffer.get(hash);
+            if (!Arrays.equals(hash, grammarHash)) {
+                return null;
+            }
+            String[] terminals = readNames(buffer);
+            String[] nonterminals = readNames(buffer);
+            for (boolean skippable : skippableNonterminals(nonterminals)) {
+                if ((buffer.get() != 0) != skippable) {
+                    return null;
+                }
+            }
+            int stateCount = buffer.getInt();
+            int acceptState = buffer.getInt();
+            int[] actions = new int[stateCount * terminals.length];
+            buffer.asIntBuffer().get(actions);
+            buffer.position(buffer.position() + actions.length * Integer.BYTES);
+            int[] gotos = new int[stateCount * nonterminals.length];
+            buffer.asIntBuffer().get(gotos);
+            buffer.position(buffer.position() + gotos.length * Integer.BYTES);
+            int productionCount = buffer.getInt();
+            int[] productionLhs = new int[productionCount];
+            int[] productionArity = new int[productionCount];
+            int[] productionUnit = new int[productionCount];
+            buffer.asIntBuffer().get(productionLhs);
+            buffer.position(buffer.position() + productionCount * Integer.BYTES);
+            buffer.asIntBuffer().get(productionArity);
+            buffer.position(buffer.position() + productionCount * Integer.BYTES);
+            buffer.asIntBuffer().get(productionUnit);
+            buffer.position(buffer.position() + productionCount * Integer.BYTES);
+            CompressedParseTable compressed = CompressedParseTable.read(buffer);
+            return new ParseTableCache(hash, terminals, nonterminals, stateCount, acceptState,
+                    actions, gotos, productionLhs, productionArity, productionUnit, compressed);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Ignoring unreadable parse table cache " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the tables to disk. The file is written next to its final location and then
+     * moved into place, so a concurrent reader never sees a half-written cache.
+     */
+    public void write(Path path) throws IOException {
+        byte[][] terminalBytes = encodeNames(terminals);
+        byte[][] nonterminalBytes = encodeNames(nonterminals);
+        int size = 4 * Integer.BYTES + HASH_LENGTH + namesSize(terminalBytes) + namesSize(nonterminalBytes)
+                + nonterminals.length + (actions.length + gotos.length + 1 + 3 * productionLhs.length) * Integer.BYTES
+                + compressed.byteSize();
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).put(grammarHash);
+        writeNames(buffer, terminalBytes);
+        writeNames(buffer, nonterminalBytes);
+        for (boolean skippable : skippableNonterminals()) {
+            buffer.put((byte) (skippable ? 1 : 0));
+        }
+        buffer.putInt(stateCount).putInt(acceptState);
+        buffer.asIntBuffer().put(actions);
+        buffer.position(buffer.position() + actions.length * Integer.BYTES);
+        buffer.asIntBuffer().put(gotos);
+        buffer.position(buffer.position() + gotos.length * Integer.BYTES);
+        buffer.putInt(productionLhs.length);
+        buffer.asIntBuffer().put(productionLhs);
+        buffer.position(buffer.position() + productionLhs.length * Integer.BYTES);
+        buffer.asIntBuffer().put(productionArity);
+        buffer.position(buffer.position() + productionArity.length * Integer.BYTES);
+        buffer.asIntBuffer().put(productionUnit);
+        buffer.position(buffer.position() + productionUnit.length * Integer.BYTES);
+        compressed.write(buffer);
+        buffer.flip();
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[][] encodeNames(String[] names) {
+        byte[][] encoded = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            encoded[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    private static int namesSize(byte[][] names) {
+        int size = Integer.BYTES;
+        for (byte[] name : names) {
+            size += Short.BYTES + name.length;
+        }
+        return size;
+    }
+
+    private static void writeNames(ByteBuffer buffer, byte[][] names) {
+        buffer.putInt(names.length);
+        for (byte[] name : names) {
+            buffer.putShort((short) name.length).put(name);
+        }
+    }
+
+    private static String[] readNames(ByteBuffer buffer) {
+        String[] names = new String[buffer.getInt()];
+        for (int i = 0; i < names.length; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            names[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    public byte[] getGrammarHash() {
+        return grammarHash;
+    }
+
+    public String[] getTerminals() {
+        return terminals;
+    }
+
+    public String[] getNonterminals() {
+        return nonterminals;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getAcceptState() {
+        return acceptState;
+    }
+
+    /// Returns the action matrix, one row of terminal columns per state.
+    public int[] getActions() {
+        return actions;
+    }
+
+    /// Returns the goto matrix, one row of nonterminal columns per state, holding the next state plus one.
+    public int[] getGotos() {
+        return gotos;
+    }
+
+    public int[] getProductionLhs() {
+        return productionLhs;
+    }
+
+    public int[] getProductionArity() {
+        return productionArity;
+    }
+
+    /// Returns the encoded action for a state and terminal column, or ERROR if there is none.
+    public int getAction(int state, int terminal) {
+        return actions[state * terminals.length + terminal];
+    }
+
+    /// Returns the goto state for a state and nonterminal column, or -1 if there is none.
+    public int getGoto(int state, int nonterminal) {
+        return gotos[state * nonterminals.length + nonterminal] - 1;
+    }
+
+    public int getProductionCount() {
+        return productionLhs.length;
+    }
+
+    public int getProductionLhs(int rule) {
+        return productionLhs[rule];
+    }
+
+    public int getProductionArity(int rule) {
+        return productionArity[rule];
+    }
+
+    /// Returns, per production, the nonterminal column of the only symbol of a unit rule A ::= B, or -1.
+    public int[] getProductionUnit() {
+        return productionUnit;
+    }
+
+    /// Returns the packed action, goto and unit bypass tables.
+    public CompressedParseTable getCompressed() {
+        return compressed;
+    }
+
+    /// Returns, per nonterminal column, whether its unit rules build nothing in the AST, see ASTBuilder.passesUnitThrough.
+    public boolean[] skippableNonterminals() {
+        return skippableNonterminals(nonterminals);
+    }
+
+    private static boolean[] skippableNonterminals(String[] nonterminals) {
+        final boolean[] skippable = new boolean[nonterminals.length];
+        for (int i = 0; i < nonterminals.length; i++) {
+            skippable[i] = ASTBuilder.passesUnitThrough(nonterminals[i]);
+        }
+        return skippable;
+    }
+
+    /**
+     * Returns a goto matrix that skips unit reductions. A state entered on B whose
+     * only action, on every lookahead, is to reduce a unit rule A ::= B is replaced
+     * by the state the parser would go to on A from the same state, following whole
+     * chains of such rules. A jump is only taken when the target accepts exactly the
+     * lookaheads the skipped state reduced on, so a syntax error is still detected at
+     * the same token. The skipped states are missing from the stack, though, and error
+     * recovery pops states, so a parser must not recover with these gotos; Parser
+     * parses again with the plain gotos from its first error on.
+     *
+     * @param skippable Per nonterminal column, whether unit rules with that left-hand side may be skipped
+     * @return A goto matrix laid out like getGotos()
+     */
+    public int[] unitBypassGotos(boolean[] skippable) {
+        final int[] unitRules = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            unitRules[state] = onlyUnitReduction(state, skippable);
+        }
+        final int[] bypass = gotos.clone();
+        for (int state = 0; state < stateCount; state++) {
+            for (int nonterminal = 0; nonterminal < nonterminals.length; nonterminal++) {
+                int target = getGoto(state, nonterminal);
+                // A grammar with a unit cycle A ::= B, B ::= A is ambiguous, but stop anyway
+                for (int steps = 0; target >= 0 && unitRules[target] >= 0 && steps < nonterminals.length; steps++) {
+                    final int next = getGoto(state, productionLhs[unitRules[target]]);
+                    if (next < 0 || !sameLookaheads(target, next)) {
+                        break;
+                    }
+                    target = next;
+                }
+                bypass[state * nonterminals.length + nonterminal] = target + 1;
+            }
+        }
+        return bypass;
+    }
+
+    // Returns the unit rule that is a state's only action, if it has no gotos and the rule may be skipped, or -1
+    private int onlyUnitReduction(int state, boolean[] skippable) {
+        int rule = -1;
+        for (int terminal = 0; terminal < terminals.length; terminal++) {
+            final int action = getAction(state, terminal);
+            if (action == ERROR) {
+                continue;
+            }
+            if (kindOf(action) != REDUCE || (rule >= 0 && operandOf(action) != rule)) {
+                return -1;
+            }
+            rule = operandOf(action);
+        }
+        for (int nonterminal = 0; nonterminal < nonterminals.length; nonterminal++) {
+            if (getGoto(state, nonterminal) >= 0) {
+                return -1;
+            }
+        }
+        return rule >= 0 && productionUnit[rule] >= 0 && skippable[productionLhs[rule]] ? rule : -1;
+    }
+
+    // True if both states have an action on exactly the same terminals
+    private boolean sameLookaheads(int state, int other) {
+        for (int terminal = 0; terminal < terminals.length; terminal++) {
+            if ((getAction(state, terminal) == ERROR) != (getAction(other, terminal) == ERROR)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
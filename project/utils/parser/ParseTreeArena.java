@@ -0,0 +1,176 @@
+package project.utils.parser;
+
+import java.util.Arrays;
+import project.Token;
+import project.TokenType;
+import project.utils.lexer.TokenBuffer;
+
+/**
+ * A parse tree stored in parallel int arrays instead of one object per node.
+ * Node i has a symbol (the TokenType ordinal of a terminal or the nonterminal id of
+ * a reduction), a rule number (-1 for terminals), its first child, its next sibling
+ * and, for terminals, the index of its token in the parser's TokenBuffer (tokens
+ * inserted by error recovery are not in the buffer and are kept aside). Children
+ * are linked by prepending, so a reduction costs O(k) in its arity. Clearing keeps
+ * the arrays for the next parse.
+ *
+ * Callers that need ParseTreeNode objects get lightweight views through getNode().
+ */
+public class ParseTreeArena {
+
+    public static final int NONE = -1;
+
+    private static final TokenType[] TOKEN_TYPES = TokenType.values();
+
+    private final String[] nonterminals;
+    private final TokenBuffer tokenBuffer;
+
+    private int[] symbols = new int[256];
+    private int[] ruleNumbers = new int[256];
+    private int[] firstChildren = new int[256];
+    private int[] nextSiblings = new int[256];
+    private int[] tokenIndexes = new int[256];
+    private int nodeCount;
+
+    // Tokens that are not in the token buffer, referenced as -2 - i
+    private Token[] insertedTokens = new Token[8];
+    private int insertedCount;
+
+    // Nodes that have not been attached to a parent yet
+    private final IntStack stack = new IntStack();
+
+    /**
+     * @param nonterminals Nonterminal names indexed by nonterminal id, as used by the goto table
+     * @param tokenBuffer The buffer the parser reads its tokens from
+     */
+    public ParseTreeArena(String[] nonterminals, TokenBuffer tokenBuffer) {
+        this.nonterminals = nonterminals;
+        this.tokenBuffer = tokenBuffer;
+    }
+
+    /**
+     * Adds a leaf for a shifted token of the token buffer and pushes it.
+     */
+    public void shift(int tokenIndex) {
+        stack.push(allocate(tokenBuffer.getTypeOrdinal(tokenIndex), -1, tokenIndex));
+    }
+
+    /**
+     * Adds a leaf for a token that is not in the token buffer and pushes it.
+     */
+    public void shift(Token token) {
+        if (insertedCount == insertedTokens.length) {
+            insertedTokens = Arrays.copyOf(insertedTokens, insertedCount * 2);
+        }
+        insertedTokens[insertedCount] = token;
+        stack.push(allocate(token.getType().ordinal(), -1, -2 - insertedCount++));
+    }
+
+    /**
+     * Pops the top arity nodes and pushes a new node that has them as children.
+     *
+     * @param ruleNumber The production being reduced
+     * @param lhs The nonterminal id of the production's left-hand side
+     * @param arity The number of symbols on the production's right-hand side
+     */
+    public void reduce(int ruleNumber, int lhs, int arity) {
+        int node = allocate(lhs, ruleNumber, NONE);
+        for (int i = 0; i < arity; i++) {
+            prependChild(node, stack.pop());
+        }
+        stack.push(node);
+    }
+
+    /**
+     * Attaches nodes left on the stack after error recovery as first children of
+     * the node below them, until a single root remains.
+     */
+    public void collapse() {
+        while (stack.size() > 1) {
+            int last = stack.pop();
+            prependChild(stack.peek(), last);
+        }
+    }
+
+    private void prependChild(int parent, int child) {
+        nextSiblings[child] = firstChildren[parent];
+        firstChildren[parent] = child;
+    }
+
+    private int allocate(int symbol, int ruleNumber, int tokenIndex) {
+        if (nodeCount == symbols.length) {
+            int capacity = nodeCount * 2;
+            symbols = Arrays.copyOf(symbols, capacity);
+            ruleNumbers = Arrays.copyOf(ruleNumbers, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            tokenIndexes = Arrays.copyOf(tokenIndexes, capacity);
+        }
+        int node = nodeCount++;
+        symbols[node] = symbol;
+        ruleNumbers[node] = ruleNumber;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        tokenIndexes[node] = tokenIndex;
+        return node;
+    }
+
+    public void clear() {
+        Arrays.fill(insertedTokens, 0, insertedCount, null);
+        nodeCount = 0;
+        insertedCount = 0;
+        stack.clear();
+    }
+
+    /// Returns the number of nodes still waiting for a parent.
+    public int stackSize() {
+        return stack.size();
+    }
+
+    /// Returns the node on top of the stack, or NONE if it is empty.
+    public int peek() {
+        return stack.isEmpty() ? NONE : stack.peek();
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public boolean isTerminal(int node) {
+        return ruleNumbers[node] == -1;
+    }
+
+    /// Returns the grammar symbol or token type name of a node.
+    public String getSymbol(int node) {
+        return isTerminal(node) ? TOKEN_TYPES[symbols[node]].toString() : nonterminals[symbols[node]];
+    }
+
+    public int getRuleNumber(int node) {
+        return ruleNumbers[node];
+    }
+
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    /// Returns the token of a terminal node, or null for a nonterminal.
+    public Token getToken(int node) {
+        int tokenIndex = tokenIndexes[node];
+        if (tokenIndex == NONE) {
+            return null;
+        }
+        return tokenIndex >= 0 ? tokenBuffer.getToken(tokenIndex) : insertedTokens[-2 - tokenIndex];
+    }
+
+    /**
+     * Returns a ParseTreeNode view of a node. Views read from the arena, so they
+     * are only valid until the arena is cleared.
+     */
+    public ParseTreeNode getNode(int node) {
+        return node == NONE ? null : new ParseTreeNode(this, node);
+    }
+}
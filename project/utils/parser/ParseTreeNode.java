@@ -8,20 +8,35 @@ import project.Token;
 public class ParseTreeNode {
     private final String symbol;       // Grammar symbol or token type
     private final String value;       // Lexeme for leaf nodes (null for non-terminals)
-    private final List<ParseTreeNode> children = new ArrayList<>();
+    private List<ParseTreeNode> children;
     private final int ruleNumber;
     private final Token token;
+    private final ParseTreeArena arena; // set when this node is a view of an arena node
+    private final int index;
 
     public ParseTreeNode(String symbol, String value, int ruleNumber, Token token) {
         this.symbol = symbol;
         this.value = value;
         this.ruleNumber = ruleNumber;
         this.token = token;
+        this.children = new ArrayList<>();
+        this.arena = null;
+        this.index = ParseTreeArena.NONE;
     }
     public ParseTreeNode(String symbol, String value, int ruleNumber) {
         this(symbol, value, ruleNumber, null);
     }
 
+    // View of an arena node; its children are wrapped on first access
+    ParseTreeNode(ParseTreeArena arena, int index) {
+        this.symbol = arena.getSymbol(index);
+        this.token = arena.getToken(index);
+        this.value = token != null ? token.getLexeme() : null;
+        this.ruleNumber = arena.getRuleNumber(index);
+        this.arena = arena;
+        this.index = index;
+    }
+
     public String getType() {
         // Remove wrapping "<>" if present
         if (symbol.startsWith("<") && symbol.endsWith(">")) {
@@ -31,6 +46,13 @@ public class ParseTreeNode {
     }
 
     public List<ParseTreeNode> getChildren() {
+        if (children == null) {
+            children = new ArrayList<>();
+            for (int child = arena.getFirstChild(index); child != ParseTreeArena.NONE;
+                    child = arena.getNextSibling(child)) {
+                children.add(new ParseTreeNode(arena, child));
+            }
+        }
         return children;
     }
 
@@ -50,7 +72,7 @@ public class ParseTreeNode {
     }
 
     public void addChild(ParseTreeNode child) {
-        children.add(0, child); // Add to front to maintain correct order
+        getChildren().add(0, child); // Add to front to maintain correct order
     }
 
     public String toDot() {
@@ -65,7 +87,7 @@ public class ParseTreeNode {
         sb.append(String.format("  %s [label=\"%s\"];\n", nodeId, label));
         
         // Child connections
-        for (ParseTreeNode child : children) {
+        for (ParseTreeNode child : getChildren()) {
             sb.append(child.toDot());
             sb.append(String.format("  %s -> %s;\n", nodeId, "n" + System.identityHashCode(child)));
         }
@@ -12,6 +12,9 @@ public class Production {
 
     private List<AbstractSymbol> To;
 
+    /// Position of this production in the grammar's production list, or -1 before the grammar numbers it.
+    private int Id = -1;
+
     protected Production() {
     }
 
@@ -72,6 +75,14 @@ public class Production {
         return To;
     }
 
+    public int getId() {
+        return Id;
+    }
+
+    void setId(int id) {
+        Id = id;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Production) {
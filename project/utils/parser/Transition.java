@@ -42,6 +42,16 @@ public class Transition {
         return ReduceProduction;
     }
 
+    /// Returns the production number for reduce actions.
+    public int getReduceIndex() {
+        return Index;
+    }
+
+    /// Returns true if both transitions take the same action, so that one can replace the other.
+    boolean sameAs(Transition other) {
+        return Action == other.Action && (Action == REDUCE ? Index == other.Index : NextState == other.NextState);
+    }
+
     @Override
     public String toString() {
         if (Action == REDUCE) {
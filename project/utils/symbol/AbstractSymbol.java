@@ -8,6 +8,9 @@ public abstract class AbstractSymbol {
 
     private String symbolName;
 
+    /// Dense id given by the SymbolPool; terminals and nonterminals are numbered separately.
+    private int symbolId = -1;
+
     public String getName() {
         return symbolName;
     }
@@ -16,6 +19,14 @@ public abstract class AbstractSymbol {
         symbolName = name;
     }
 
+    public int getId() {
+        return symbolId;
+    }
+
+    public void setId(int id) {
+        symbolId = id;
+    }
+
     public abstract int getType();
 
     @Override
@@ -11,6 +11,16 @@ public class SymbolPool {
 
     private Map<String, AbstractNonterminalSymbol> absNonterminalSymbols;
 
+    // The symbols in id order; terminals and nonterminals are each numbered from 0
+    private final Set<AbstractTerminalSymbol> terminalsInIdOrder = new LinkedHashSet<>();
+
+    private final Set<AbstractNonterminalSymbol> nonterminalsInIdOrder = new LinkedHashSet<>();
+
+    // The same symbols indexed by id
+    private final List<AbstractTerminalSymbol> terminalsById = new ArrayList<>();
+
+    private final List<AbstractNonterminalSymbol> nonterminalsById = new ArrayList<>();
+
 
     /// Constructor to initialize the symbol pool with terminal and non-terminal symbols.
     public SymbolPool(Set<String> terminalSymbols, Set<String> nonterminalSymbols)
@@ -30,7 +40,7 @@ public class SymbolPool {
         initNonterminalSymbols(nonterminalSymbols);
     }
 
-    /// Initialize terminal symbols in the symbol pool.
+    /// Initialize terminal symbols in the symbol pool, numbered in name order.
     private void initTerminalSymbols(Set<String> terminalSymbols) {
         absTerminalSymbols = new HashMap<>();
         for (final String name : terminalSymbols) {
@@ -38,17 +48,35 @@ public class SymbolPool {
         }
         absTerminalSymbols.put(AbstractTerminalSymbol.NULL, AbstractTerminalSymbol.Null());
         absTerminalSymbols.put(AbstractTerminalSymbol.END, AbstractTerminalSymbol.End());
+        final List<String> names = new ArrayList<>(absTerminalSymbols.keySet());
+        Collections.sort(names);
+        for (final String name : names) {
+            final AbstractTerminalSymbol symbol = absTerminalSymbols.get(name);
+            symbol.setId(terminalsById.size());
+            terminalsById.add(symbol);
+            terminalsInIdOrder.add(symbol);
+        }
     }
-    /// Initialize non-terminal symbols in the symbol pool.
+    /// Initialize non-terminal symbols in the symbol pool, numbered in name order.
     private void initNonterminalSymbols(Set<String> nonterminalSymbols) {
         absNonterminalSymbols = new HashMap<>();
-        for (final String name : nonterminalSymbols) {
-            absNonterminalSymbols.put(name, new AbstractNonterminalSymbol(name));
+        final List<String> names = new ArrayList<>(nonterminalSymbols);
+        Collections.sort(names);
+        for (final String name : names) {
+            addNonterminalSymbol(new AbstractNonterminalSymbol(name));
         }
     }
-    /// Add a non-terminal symbol to the symbol pool.
+    /// Returns the terminal symbols in id order; the set is read-only.
     public Set<AbstractTerminalSymbol> getTerminalSymbols() {
-        return new HashSet<>(absTerminalSymbols.values());
+        return Collections.unmodifiableSet(terminalsInIdOrder);
+    }
+
+    public int getTerminalCount() {
+        return terminalsById.size();
+    }
+
+    public AbstractTerminalSymbol getTerminalSymbol(int id) {
+        return terminalsById.get(id);
     }
     /// Get the names of all terminal symbols in the symbol pool.
     public AbstractTerminalSymbol getTerminalSymbol(String name) throws AnalysisException {
@@ -62,8 +90,17 @@ public class SymbolPool {
         return absNonterminalSymbols.keySet();
     }
 
+    /// Returns the non-terminal symbols in id order; the set is read-only.
     public Set<AbstractNonterminalSymbol> getNonterminalSymbols() {
-        return new HashSet<>(absNonterminalSymbols.values());
+        return Collections.unmodifiableSet(nonterminalsInIdOrder);
+    }
+
+    public int getNonterminalCount() {
+        return nonterminalsById.size();
+    }
+
+    public AbstractNonterminalSymbol getNonterminalSymbol(int id) {
+        return nonterminalsById.get(id);
     }
 
     public AbstractNonterminalSymbol getNonterminalSymbol(String name) throws AnalysisException {
@@ -73,9 +110,13 @@ public class SymbolPool {
         throw new AnalysisException(String.format(AnalysisException.NONTERMINAL_SYMBOL_NOT_EXIST, name), null);
     }
 
+    /// Adds a non-terminal symbol to the symbol pool and gives it the next id.
     public void addNonterminalSymbol(AbstractNonterminalSymbol abstractNonterminalSymbol) {
         if (!absNonterminalSymbols.containsKey(abstractNonterminalSymbol.getName())) {
             absNonterminalSymbols.put(abstractNonterminalSymbol.getName(), abstractNonterminalSymbol);
+            abstractNonterminalSymbol.setId(nonterminalsById.size());
+            nonterminalsById.add(abstractNonterminalSymbol);
+            nonterminalsInIdOrder.add(abstractNonterminalSymbol);
         }
     }
 
@@ -0,0 +1,82 @@
+package project.utils.lexer;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A RunScanner that classifies a whole vector of characters with a few lane-wise
+ * compares, 8 to 32 characters at a time depending on the hardware. It only
+ * looks at full vectors and leaves the tail of a run to the lexer.
+ *
+ * Characters are compared as signed shorts, so everything from 0x8000 up is
+ * negative and falls outside every ASCII range below, which ends a run there.
+ *
+ * This class needs the jdk.incubator.vector module, both to compile and to run
+ * (--add-modules jdk.incubator.vector), so it lives in its own source root and is
+ * compiled after the rest of the tree; see the README. RunScanner.load only uses
+ * it when the module is there and the class was built.
+ */
+final class VectorRunScanner implements RunScanner {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public int skipWhitespace(char[] chars, int from, int to) {
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            // tab to carriage return, and the separators 0x1C to 0x1F and space
+            VectorMask<Short> run = inRange(v, '\t', '\r').or(inRange(v, '\u001C', ' '));
+            if (!run.allTrue()) {
+                return i + run.not().firstTrue();
+            }
+        }
+        return i;
+    }
+
+    @Override
+    public int skipIdentifierPart(char[] chars, int from, int to) {
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            VectorMask<Short> run = inRange(v, 'a', 'z')
+                    .or(inRange(v, 'A', 'Z'))
+                    .or(inRange(v, '0', '9'))
+                    .or(v.eq((short) '_'));
+            if (!run.allTrue()) {
+                return i + run.not().firstTrue();
+            }
+        }
+        return i;
+    }
+
+    @Override
+    public int skipLine(char[] chars, int from, int to) {
+        return indexOfEither(chars, from, to, '\n', '\0');
+    }
+
+    @Override
+    public int skipCommentBody(char[] chars, int from, int to) {
+        return indexOfEither(chars, from, to, '*', '\0');
+    }
+
+    // Returns the index of the first a or b in the full vectors of [from, to), or where those end
+    private static int indexOfEither(char[] chars, int from, int to, char a, char b) {
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, chars, i);
+            VectorMask<Short> stop = v.eq((short) a).or(v.eq((short) b));
+            if (stop.anyTrue()) {
+                return i + stop.firstTrue();
+            }
+        }
+        return i;
+    }
+
+    private static VectorMask<Short> inRange(ShortVector v, char low, char high) {
+        return v.compare(VectorOperators.GE, (short) low).and(v.compare(VectorOperators.LE, (short) high));
+    }
+}